@@ -0,0 +1,114 @@
+package com.youthfi.finance.domain.stock.infra;
+
+import com.youthfi.finance.domain.stock.application.dto.response.CandleDataResponse;
+import com.youthfi.finance.domain.stock.application.dto.response.ChartDataResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 차트 캐시 직렬화 비교 (기존 JSON vs 열 단위 바이너리 vs 바이너리+Deflate)
+ * - 시간: 벤치마크 결과, 크기: Setup 시 표준 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChartDataSerializerBenchmark {
+
+    /**
+     * minute: 당일 1분봉 381개, monthly: 5년 월봉 60개
+     */
+    @Param({"minute", "monthly"})
+    public String chart;
+
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+    private final ChartDataRedisSerializer binary = new ChartDataRedisSerializer(false);
+    private final ChartDataRedisSerializer deflated = new ChartDataRedisSerializer(true);
+
+    private ChartDataResponse value;
+    private byte[] jsonBytes;
+    private byte[] binaryBytes;
+    private byte[] deflatedBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        value = "minute".equals(chart) ? minuteChart() : monthlyChart();
+        jsonBytes = json.serialize(value);
+        binaryBytes = binary.serialize(value);
+        deflatedBytes = deflated.serialize(value);
+        System.out.printf("%n[%s] candles=%d json=%dB binary=%dB binary+deflate=%dB%n",
+                chart, value.candles().size(), jsonBytes.length, binaryBytes.length, deflatedBytes.length);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() {
+        return json.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return binary.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] deflateEncode() {
+        return deflated.serialize(value);
+    }
+
+    @Benchmark
+    public Object jsonDecode() {
+        return json.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public ChartDataResponse binaryDecode() {
+        return binary.deserialize(binaryBytes);
+    }
+
+    @Benchmark
+    public ChartDataResponse deflateDecode() {
+        return deflated.deserialize(deflatedBytes);
+    }
+
+    private static ChartDataResponse minuteChart() {
+        Random random = new Random(42);
+        List<CandleDataResponse> candles = new ArrayList<>();
+        long close = 71_000;
+        for (int minute = 9 * 60; minute <= 15 * 60 + 20; minute++) {
+            long open = close;
+            close += random.nextInt(201) - 100;
+            candles.add(CandleDataResponse.of(20250102, (minute / 60) * 10000 + (minute % 60) * 100,
+                    open, Math.max(open, close) + random.nextInt(50), Math.min(open, close) - random.nextInt(50),
+                    close, 1_000 + random.nextInt(50_000)));
+        }
+        return new ChartDataResponse("005930", "1min", "today", candles, "2025-01-02T15:20:30");
+    }
+
+    private static ChartDataResponse monthlyChart() {
+        Random random = new Random(42);
+        List<CandleDataResponse> candles = new ArrayList<>();
+        long close = 71_000;
+        for (int month = 0; month < 60; month++) {
+            int year = 2025 - month / 12;
+            int monthOfYear = 12 - month % 12;
+            long open = close;
+            close += random.nextInt(8_001) - 4_000;
+            candles.add(CandleDataResponse.of(year * 10000 + monthOfYear * 100 + 28,
+                    open, Math.max(open, close) + random.nextInt(2_000), Math.min(open, close) - random.nextInt(2_000),
+                    close, 200_000_000L + random.nextInt(100_000_000)));
+        }
+        return new ChartDataResponse("005930", "1m", "5y", candles, "2025-01-02T15:20:30");
+    }
+}
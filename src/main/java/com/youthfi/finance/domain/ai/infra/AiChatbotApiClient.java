@@ -25,7 +25,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class AiChatbotApiClient {
 
-    @Qualifier("restTemplate")
+    @Qualifier("aiRestTemplate")
     private final RestTemplate restTemplate;
     private final GcpAuthenticationService gcpAuthenticationService;
 
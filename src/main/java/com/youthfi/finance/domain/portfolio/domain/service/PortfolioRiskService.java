@@ -2,6 +2,7 @@ package com.youthfi.finance.domain.portfolio.domain.service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
@@ -10,7 +11,7 @@ import org.springframework.stereotype.Service;
 import com.youthfi.finance.domain.portfolio.application.dto.response.CompleteInvestmentProfileResponse;
 import com.youthfi.finance.domain.portfolio.application.dto.response.PortfolioRiskAnalysisResponse;
 import com.youthfi.finance.domain.portfolio.application.dto.response.StockPriceInfoResponse;
-import com.youthfi.finance.domain.stock.infra.StockCurrentPriceApiClient;
+import com.youthfi.finance.domain.stock.domain.service.StockQuoteCacheService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,7 +21,10 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class PortfolioRiskService {
 
-    private final StockCurrentPriceApiClient stockCurrentPriceApiClient;
+    // 리스크 추정용이므로 수 초 전 시세까지 허용
+    private static final Duration RISK_QUOTE_MAX_AGE = Duration.ofSeconds(5);
+
+    private final StockQuoteCacheService stockQuoteCacheService;
 
     public PortfolioRiskAnalysisResponse calculatePortfolioRisk(List<CompleteInvestmentProfileResponse.RecommendedStock> recommendedStocks, BigDecimal investmentAmount){
         try {
@@ -97,7 +101,7 @@ public class PortfolioRiskService {
 
     private StockPriceInfoResponse getStockPriceInfo(String stockId) {
         try {
-            Map<String, Object> response = stockCurrentPriceApiClient.getStockCurrentPrice("J", stockId);
+            Map<String, Object> response = stockQuoteCacheService.getQuote("J", stockId, RISK_QUOTE_MAX_AGE);
             if (response == null) {
                 log.warn("KIS 현재가 응답이 null 입니다: stockId={}", stockId);
                 return StockPriceInfoResponse.getDefault(stockId);
@@ -1,5 +1,6 @@
 package com.youthfi.finance.domain.portfolio.infra;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -22,6 +23,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class LLMApiClient {
 
+    @Qualifier("llmRestTemplate")
     private final RestTemplate restTemplate;
     private final GcpAuthenticationService gcpAuthenticationService;
     private final LLMApiProperties llmApiProperties;
@@ -0,0 +1,98 @@
+package com.youthfi.finance.domain.stock.application.batch;
+
+import com.youthfi.finance.domain.stock.application.dto.response.CandleDataResponse;
+import com.youthfi.finance.domain.stock.domain.service.StockCandleService;
+import com.youthfi.finance.domain.stock.infra.KisChartApiClient;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 종목 장기 일봉 백필 배치 (stockCode, from, to)
+ * - 구간마다 KIS 일봉 윈도우를 병렬 조회해 영업일 기준 병합 후 확정 일봉 저장소에 저장
+ * - 구간 단위로 커밋, 실패 시 같은 파라미터로 재실행하면 마지막 커밋 구간 다음부터 재개
+ * - 이미 저장된 일자는 건너뛰므로 재실행해도 중복 저장하지 않음
+ * - 별도 스레드에서 한 번에 하나씩 실행 (호출 스레드는 실행 ID만 받고 반환)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class DailyCandleBackfillJobConfig {
+
+    public static final String JOB_NAME = "dailyCandleBackfillJob";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final KisChartApiClient kisChartApiClient;
+    private final StockCandleService stockCandleService;
+
+    @Bean
+    public Job dailyCandleBackfillJob() {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(dailyCandleBackfillStep())
+                .build();
+    }
+
+    /**
+     * 백필 전용 비동기 실행기 (백필 하나가 KIS 호출 스레드풀을 윈도우 병렬 조회로 사용하므로 동시 실행은 1개)
+     */
+    @Bean("dailyCandleBackfillJobLauncher")
+    public JobLauncher dailyCandleBackfillJobLauncher() throws Exception {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        // 기동 시 설정 종목 백필을 한 번에 넣으므로 대기 큐는 넉넉히 (거절된 실행은 FAILED로 남아 재기동 시 재개)
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("daily-backfill-");
+        executor.initialize();
+
+        TaskExecutorJobLauncher launcher = new TaskExecutorJobLauncher();
+        launcher.setJobRepository(jobRepository);
+        launcher.setTaskExecutor(executor);
+        launcher.afterPropertiesSet();
+        return launcher;
+    }
+
+    @Bean
+    public Step dailyCandleBackfillStep() {
+        return new StepBuilder("dailyCandleBackfillStep", jobRepository)
+                .<List<CandleDataResponse>, List<CandleDataResponse>>chunk(1, transactionManager)
+                .reader(dailyCandleBackfillReader(null, null, null))
+                .writer(dailyCandleBackfillWriter(null))
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public DailyCandleBackfillReader dailyCandleBackfillReader(
+            @Value("#{jobParameters['stockCode']}") String stockCode,
+            @Value("#{jobParameters['from']}") LocalDate from,
+            @Value("#{jobParameters['to']}") LocalDate to) {
+        return new DailyCandleBackfillReader(kisChartApiClient, stockCode, from, to);
+    }
+
+    @Bean
+    @StepScope
+    public ItemWriter<List<CandleDataResponse>> dailyCandleBackfillWriter(
+            @Value("#{jobParameters['stockCode']}") String stockCode) {
+        return chunk -> {
+            for (List<CandleDataResponse> candles : chunk) {
+                stockCandleService.saveDailyCandles(stockCode, candles);
+            }
+        };
+    }
+}
@@ -0,0 +1,67 @@
+package com.youthfi.finance.domain.stock.application.batch;
+
+import com.youthfi.finance.domain.stock.application.dto.response.CandleDataResponse;
+import com.youthfi.finance.domain.stock.infra.KisChartApiClient;
+import com.youthfi.finance.domain.stock.infra.KisDailyChartPager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 장기 일봉 백필 구간 리더
+ * - [from, to]를 구간 단위로 나눠 읽음 (구간 하나 = KIS 일봉 윈도우 SEGMENT_WINDOWS개 병렬 조회)
+ * - 다음 구간 시작일을 ExecutionContext에 저장, 중단 후 같은 파라미터로 재실행하면 마지막 커밋 구간 다음부터 재개
+ */
+@Slf4j
+public class DailyCandleBackfillReader implements ItemStreamReader<List<CandleDataResponse>> {
+
+    static final String CURSOR_KEY = "dailyCandleBackfill.nextFrom";
+    static final int SEGMENT_WINDOWS = 4;
+    private static final int SEGMENT_DAYS = KisDailyChartPager.WINDOW_DAYS * SEGMENT_WINDOWS;
+
+    private final KisChartApiClient kisChartApiClient;
+    private final String stockCode;
+    private final LocalDate from;
+    private final LocalDate to;
+    private LocalDate nextFrom;
+
+    public DailyCandleBackfillReader(KisChartApiClient kisChartApiClient, String stockCode, LocalDate from, LocalDate to) {
+        this.kisChartApiClient = kisChartApiClient;
+        this.stockCode = stockCode;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        nextFrom = executionContext.containsKey(CURSOR_KEY)
+                ? LocalDate.parse(executionContext.getString(CURSOR_KEY))
+                : from;
+        if (!nextFrom.equals(from)) {
+            log.info("[DAILY-BACKFILL] 재개: stockCode={}, nextFrom={}, to={}", stockCode, nextFrom, to);
+        }
+    }
+
+    @Override
+    public List<CandleDataResponse> read() {
+        if (nextFrom.isAfter(to)) {
+            return null;
+        }
+        LocalDate segmentTo = nextFrom.plusDays(SEGMENT_DAYS - 1);
+        if (segmentTo.isAfter(to)) {
+            segmentTo = to;
+        }
+        List<CandleDataResponse> candles = kisChartApiClient.getDailyChart(stockCode, nextFrom, segmentTo).candles();
+        log.debug("[DAILY-BACKFILL] stockCode={}, segment={}~{}, candles={}", stockCode, nextFrom, segmentTo, candles.size());
+        nextFrom = segmentTo.plusDays(1);
+        return candles;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putString(CURSOR_KEY, nextFrom.toString());
+    }
+}
@@ -0,0 +1,49 @@
+package com.youthfi.finance.domain.stock.application.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 설정한 종목의 장기 일봉 백필을 기동 시 시작 (candle.backfill.enabled=true일 때만)
+ * - 운영자가 종목/구간을 설정하고 재기동하면 실행, 같은 종목/구간은 한 번만 완료됨
+ * - 중단된 백필은 재기동 시 마지막 커밋 구간 다음부터 재개 (from/to를 바꾸면 새 백필)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "candle.backfill", name = "enabled", havingValue = "true")
+public class DailyCandleBackfillRunner {
+
+    private final DailyCandleJobScheduler dailyCandleJobScheduler;
+    private final List<String> stockCodes;
+    private final LocalDate from;
+    private final LocalDate to;
+
+    public DailyCandleBackfillRunner(DailyCandleJobScheduler dailyCandleJobScheduler,
+                                     @Value("${candle.backfill.stock-codes:}") List<String> stockCodes,
+                                     @Value("${candle.backfill.from}") LocalDate from,
+                                     @Value("${candle.backfill.to}") LocalDate to) {
+        this.dailyCandleJobScheduler = dailyCandleJobScheduler;
+        this.stockCodes = stockCodes.stream().map(String::trim).filter(code -> !code.isEmpty()).distinct().toList();
+        this.from = from;
+        this.to = to;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void launchConfiguredBackfills() {
+        log.info("[DAILY-BACKFILL] 설정된 백필 시작: stockCodes={}, from={}, to={}", stockCodes, from, to);
+        for (String stockCode : stockCodes) {
+            try {
+                dailyCandleJobScheduler.launchBackfill(stockCode, from, to);
+            } catch (Exception e) {
+                log.error("[DAILY-BACKFILL] 백필 시작 거절: stockCode={}, from={}, to={}", stockCode, from, to, e);
+            }
+        }
+    }
+}
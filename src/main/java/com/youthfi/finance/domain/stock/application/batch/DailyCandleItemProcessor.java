@@ -0,0 +1,55 @@
+package com.youthfi.finance.domain.stock.application.batch;
+
+import com.youthfi.finance.domain.stock.application.dto.response.ChartDataResponse;
+import com.youthfi.finance.domain.stock.domain.entity.Stock;
+import com.youthfi.finance.domain.stock.domain.entity.StockCandle;
+import com.youthfi.finance.domain.stock.domain.service.StockCandleService;
+import com.youthfi.finance.domain.stock.infra.KisChartApiClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 종목별 미보유 일봉 조회 (마지막 저장일 다음날 ~ targetDate)
+ * - 장기 미실행 후에도 저장소가 끊기지 않도록 기간 조회 사용 (1회 조회 한도를 넘으면 윈도우로 나눠 조회)
+ */
+@Slf4j
+@Component
+@StepScope
+public class DailyCandleItemProcessor implements ItemProcessor<Stock, List<StockCandle>> {
+
+    // 최초 적재 범위
+    static final int INITIAL_DAYS = 100;
+
+    private final StockCandleService stockCandleService;
+    private final KisChartApiClient kisChartApiClient;
+    private final LocalDate targetDate;
+
+    public DailyCandleItemProcessor(StockCandleService stockCandleService,
+                                    KisChartApiClient kisChartApiClient,
+                                    @Value("#{jobParameters['targetDate']}") LocalDate targetDate) {
+        this.stockCandleService = stockCandleService;
+        this.kisChartApiClient = kisChartApiClient;
+        this.targetDate = targetDate;
+    }
+
+    @Override
+    public List<StockCandle> process(Stock stock) {
+        String stockCode = stock.getStockId();
+        LocalDate latest = stockCandleService.findLatestDailyDate(stockCode).orElse(null);
+        LocalDate from = (latest == null) ? targetDate.minusDays(INITIAL_DAYS) : latest.plusDays(1);
+        if (from.isAfter(targetDate)) {
+            return null; // 이미 최신
+        }
+
+        ChartDataResponse dailyChart = kisChartApiClient.getDailyChart(stockCode, from, targetDate);
+        List<StockCandle> newCandles = stockCandleService.filterNewDailyCandles(stockCode, dailyChart.candles(), targetDate);
+        log.debug("[DAILY-CANDLE] stockCode={}, from={}, new={}", stockCode, from, newCandles.size());
+        return newCandles.isEmpty() ? null : newCandles;
+    }
+}
@@ -0,0 +1,89 @@
+package com.youthfi.finance.domain.stock.application.batch;
+
+import com.youthfi.finance.domain.stock.domain.entity.Stock;
+import com.youthfi.finance.domain.stock.domain.entity.StockCandle;
+import com.youthfi.finance.domain.stock.domain.repository.StockRepository;
+import com.youthfi.finance.domain.stock.domain.service.StockCandleService;
+import com.youthfi.finance.global.exception.StockException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.data.RepositoryItemReader;
+import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장 마감 후 전 종목 일봉 적재 배치
+ * - 종목 페이지 단위 청크 처리, 실패 시 같은 targetDate로 재실행하면 마지막 커밋 지점부터 재개
+ * - 개별 종목의 KIS 오류는 건너뛰고 다음 실행에서 다시 시도 (저장 기준은 종목별 마지막 저장일)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class DailyCandleJobConfig {
+
+    public static final String JOB_NAME = "dailyCandleJob";
+    private static final int CHUNK_SIZE = 20;
+    private static final int SKIP_LIMIT = 100;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final StockRepository stockRepository;
+    private final StockCandleService stockCandleService;
+    private final DailyCandleItemProcessor dailyCandleItemProcessor;
+
+    @Bean
+    public Job dailyCandleJob() {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(dailyCandleStep())
+                .build();
+    }
+
+    @Bean
+    public Step dailyCandleStep() {
+        return new StepBuilder("dailyCandleStep", jobRepository)
+                .<Stock, List<StockCandle>>chunk(CHUNK_SIZE, transactionManager)
+                .reader(dailyCandleStockReader())
+                .processor(dailyCandleItemProcessor)
+                .writer(dailyCandleWriter())
+                .faultTolerant()
+                .skip(StockException.class)
+                .skipLimit(SKIP_LIMIT)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public RepositoryItemReader<Stock> dailyCandleStockReader() {
+        return new RepositoryItemReaderBuilder<Stock>()
+                .name("dailyCandleStockReader")
+                .repository(stockRepository)
+                .methodName("findAll")
+                .pageSize(CHUNK_SIZE)
+                .sorts(Map.of("stockId", Sort.Direction.ASC))
+                .build();
+    }
+
+    @Bean
+    public ItemWriter<List<StockCandle>> dailyCandleWriter() {
+        return chunk -> {
+            List<StockCandle> candles = new ArrayList<>();
+            for (List<StockCandle> stockCandles : chunk) {
+                candles.addAll(stockCandles);
+            }
+            // 같은 종목을 요청 경로에서 먼저 저장했어도 청크가 실패하지 않도록 중복 일자는 무시
+            stockCandleService.insertDailyCandles(candles);
+        };
+    }
+}
@@ -0,0 +1,115 @@
+package com.youthfi.finance.domain.stock.application.batch;
+
+import com.youthfi.finance.domain.stock.domain.service.ChartService;
+import com.youthfi.finance.global.exception.StockException;
+import com.youthfi.finance.global.service.MarketCalendar;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 일봉 적재 배치 실행
+ * - targetDate가 같은 실행은 한 번만 완료됨 (실패한 실행은 재시작)
+ * - JobRepository를 공유하므로 여러 노드에서 동시에 실행되어도 하나만 진행
+ * - 휴장일에는 실행하지 않음
+ * - 종목 장기 일봉 백필은 내부 호출 전용 (HTTP로 노출하지 않음, 기동 시 DailyCandleBackfillRunner가 설정 종목 실행), 백필 전용 실행기에서 비동기 실행
+ */
+@Slf4j
+@Component
+public class DailyCandleJobScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final JobLauncher dailyCandleBackfillJobLauncher;
+    private final Job dailyCandleJob;
+    private final Job dailyCandleBackfillJob;
+    private final MarketCalendar marketCalendar;
+
+    public DailyCandleJobScheduler(@Qualifier("jobLauncher") JobLauncher jobLauncher,
+                                   @Qualifier("dailyCandleBackfillJobLauncher") JobLauncher dailyCandleBackfillJobLauncher,
+                                   @Qualifier("dailyCandleJob") Job dailyCandleJob,
+                                   @Qualifier("dailyCandleBackfillJob") Job dailyCandleBackfillJob,
+                                   MarketCalendar marketCalendar) {
+        this.jobLauncher = jobLauncher;
+        this.dailyCandleBackfillJobLauncher = dailyCandleBackfillJobLauncher;
+        this.dailyCandleJob = dailyCandleJob;
+        this.dailyCandleBackfillJob = dailyCandleBackfillJob;
+        this.marketCalendar = marketCalendar;
+    }
+
+    @Scheduled(cron = "${candle.batch.daily-cron:0 10 16 * * MON-FRI}", zone = "Asia/Seoul")
+    public void runDailyCandleJob() {
+        LocalDate today = marketCalendar.today();
+        if (!marketCalendar.isTradingDay(today)) {
+            log.info("[DAILY-CANDLE] 휴장일이라 실행하지 않음: {}", today);
+            return;
+        }
+        launch(today);
+    }
+
+    /**
+     * 일봉 적재 실행 (같은 targetDate의 실패 실행이 있으면 이어서 진행)
+     */
+    public BatchStatus launch(LocalDate targetDate) {
+        JobParameters parameters = new JobParametersBuilder()
+                .addLocalDate("targetDate", targetDate)
+                .toJobParameters();
+        try {
+            JobExecution execution = jobLauncher.run(dailyCandleJob, parameters);
+            log.info("[DAILY-CANDLE] 배치 종료: targetDate={}, status={}, steps={}",
+                    targetDate, execution.getStatus(), execution.getStepExecutions());
+            return execution.getStatus();
+        } catch (JobInstanceAlreadyCompleteException e) {
+            log.info("[DAILY-CANDLE] 이미 완료된 배치: targetDate={}", targetDate);
+            return BatchStatus.COMPLETED;
+        } catch (JobExecutionAlreadyRunningException e) {
+            log.info("[DAILY-CANDLE] 다른 노드에서 실행 중: targetDate={}", targetDate);
+            return BatchStatus.STARTED;
+        } catch (Exception e) {
+            log.error("[DAILY-CANDLE] 배치 실행 실패: targetDate={}", targetDate, e);
+            return BatchStatus.FAILED;
+        }
+    }
+
+    /**
+     * 종목 장기 일봉 백필 시작 (같은 stockCode/from/to의 실패 실행이 있으면 마지막 커밋 구간 다음부터 진행)
+     * - from은 오늘로부터 ChartService.MAX_DAILY_DAYS일 이내, to는 오늘 이전이어야 함
+     * @return 시작한 실행 ID (이미 완료됐거나 실행 중인 백필, 시작 실패 시 null)
+     */
+    public Long launchBackfill(String stockCode, LocalDate from, LocalDate to) {
+        LocalDate today = marketCalendar.today();
+        if (from.isAfter(to) || to.isAfter(today) || from.isBefore(today.minusDays(ChartService.MAX_DAILY_DAYS))) {
+            throw StockException.invalidChartRange(from, to);
+        }
+        JobParameters parameters = new JobParametersBuilder()
+                .addString("stockCode", stockCode)
+                .addLocalDate("from", from)
+                .addLocalDate("to", to)
+                .toJobParameters();
+        try {
+            JobExecution execution = dailyCandleBackfillJobLauncher.run(dailyCandleBackfillJob, parameters);
+            log.info("[DAILY-BACKFILL] 배치 시작: stockCode={}, from={}, to={}, executionId={}",
+                    stockCode, from, to, execution.getId());
+            return execution.getId();
+        } catch (JobInstanceAlreadyCompleteException e) {
+            log.info("[DAILY-BACKFILL] 이미 완료된 백필: stockCode={}, from={}, to={}", stockCode, from, to);
+            return null;
+        } catch (JobExecutionAlreadyRunningException e) {
+            log.info("[DAILY-BACKFILL] 다른 노드에서 실행 중: stockCode={}, from={}, to={}", stockCode, from, to);
+            return null;
+        } catch (Exception e) {
+            log.error("[DAILY-BACKFILL] 배치 시작 실패: stockCode={}, from={}, to={}", stockCode, from, to, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.youthfi.finance.domain.stock.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "다종목 차트 조회 요청")
+public record ChartBatchRequest(
+    @Schema(description = "종목코드 목록 (최대 50개)", example = "[\"005930\", \"000660\"]", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "종목코드 목록은 필수입니다.")
+    @Size(max = 50, message = "종목코드는 최대 50개까지 조회할 수 있습니다.")
+    List<@NotBlank(message = "종목코드는 필수입니다.") String> stockCodes,
+
+    @Schema(description = "기간 (1d, 1w, 1m, 1y), 생략 시 1d", example = "1d")
+    @Pattern(regexp = "1d|1w|1m|1y", message = "기간은 1d, 1w, 1m, 1y 중 하나입니다.")
+    String period,
+
+    @Schema(description = "종목별 최근 캔들 수 (생략 시 전체)", example = "20")
+    @Min(value = 1, message = "캔들 수는 1 이상입니다.")
+    @Max(value = 500, message = "캔들 수는 최대 500입니다.")
+    Integer last
+) {
+
+    public String periodOrDefault() {
+        return period != null ? period : "1d";
+    }
+}
@@ -5,8 +5,8 @@ package com.youthfi.finance.domain.stock.application.dto.request;
  */
 public record ChartRequest(
     String stockCode,   // 종목코드
-    String period,      // 기간 (1d, 1m, 1y, 1min)
-    String range        // 범위 (60d, 5y, 10y, today)
+    String period,      // 기간 (1d, 1w, 1m, 1y, 1min)
+    String range        // 범위 (60d, 1y, 5y, 10y, today)
 ) {
     
     /**
@@ -14,7 +14,7 @@ public record ChartRequest(
      */
     public boolean isValidPeriod() {
         return period != null && 
-               (period.equals("1d") || period.equals("1m") || 
+               (period.equals("1d") || period.equals("1w") || period.equals("1m") || 
                 period.equals("1y") || period.equals("1min"));
     }
     
@@ -23,7 +23,7 @@ public record ChartRequest(
      */
     public boolean isValidRange() {
         return range != null && 
-               (range.equals("60d") || range.equals("5y") || 
+               (range.equals("60d") || range.equals("1y") || range.equals("5y") || 
                 range.equals("10y") || range.equals("today"));
     }
 }
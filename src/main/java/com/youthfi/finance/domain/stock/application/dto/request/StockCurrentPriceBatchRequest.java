@@ -0,0 +1,20 @@
+package com.youthfi.finance.domain.stock.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "다종목 주식현재가 조회 요청")
+public record StockCurrentPriceBatchRequest(
+    @Schema(description = "시장코드", example = "J", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "시장코드는 필수입니다.")
+    String marketCode,
+
+    @Schema(description = "종목코드 목록 (최대 50개)", example = "[\"005930\", \"000660\"]", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "종목코드 목록은 필수입니다.")
+    @Size(max = 50, message = "종목코드는 최대 50개까지 조회할 수 있습니다.")
+    List<@NotBlank(message = "종목코드는 필수입니다.") String> stockCodes
+) {}
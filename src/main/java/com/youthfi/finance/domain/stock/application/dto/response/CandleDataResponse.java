@@ -1,5 +1,6 @@
 package com.youthfi.finance.domain.stock.application.dto.response;
 
+import com.youthfi.finance.domain.stock.domain.entity.StockCandle;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 /**
@@ -74,6 +75,67 @@ public record CandleDataResponse(
         );
     }
 
+    /**
+     * 캔들 데이터 생성 (스트리밍 파서 원시 값 변환용) - 분봉용
+     * @param yyyymmdd 영업일자
+     * @param hhmmss   체결시각
+     */
+    public static CandleDataResponse of(int yyyymmdd, int hhmmss, long open, long high, long low, long close, long volume) {
+        return new CandleDataResponse(formatDate(yyyymmdd), formatTime(hhmmss / 100), open, high, low, close, volume);
+    }
+
+    /**
+     * 캔들 데이터 생성 (스트리밍 파서 원시 값 변환용) - 일/월/연봉용 (시간 없음)
+     */
+    public static CandleDataResponse of(int yyyymmdd, long open, long high, long low, long close, long volume) {
+        return new CandleDataResponse(formatDate(yyyymmdd), "", open, high, low, close, volume);
+    }
+
+    /**
+     * 저장된 확정 봉 변환 (시간 없음)
+     */
+    public static CandleDataResponse from(StockCandle candle) {
+        return new CandleDataResponse(
+            candle.getTradeDate().toString(),
+            "",
+            candle.getOpen(),
+            candle.getHigh(),
+            candle.getLow(),
+            candle.getClose(),
+            candle.getVolume()
+        );
+    }
+
+    private static String formatDate(int yyyymmdd) {
+        if (yyyymmdd < 10000101 || yyyymmdd > 99991231) {
+            return ""; // 비정상 값은 빈 문자열로 반환
+        }
+        char[] chars = new char[10];
+        int value = yyyymmdd;
+        for (int i = 9; i >= 0; i--) {
+            if (i == 4 || i == 7) {
+                chars[i] = '-';
+                continue;
+            }
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return new String(chars);
+    }
+
+    private static String formatTime(int hhmm) {
+        if (hhmm < 0 || hhmm > 2359) {
+            return ""; // 비정상 값은 빈 문자열로 반환
+        }
+        return new String(new char[] {
+            (char) ('0' + hhmm / 1000),
+            (char) ('0' + hhmm / 100 % 10),
+            ':',
+            (char) ('0' + hhmm / 10 % 10),
+            (char) ('0' + hhmm % 10)
+        });
+    }
+
     private static String safeFormatDate(String yyyymmdd) {
         if (yyyymmdd == null || yyyymmdd.length() < 8) {
             return ""; // 비정상 값은 빈 문자열로 반환
@@ -0,0 +1,29 @@
+package com.youthfi.finance.domain.stock.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "다종목 차트 조회 결과 (종목별)")
+public record ChartBatchItemResponse(
+    @Schema(description = "종목코드", example = "005930")
+    String stockCode,
+
+    @Schema(description = "조회 성공 여부", example = "true")
+    boolean success,
+
+    @Schema(description = "차트 데이터 (실패 시 null)")
+    ChartDataResponse chart,
+
+    @Schema(description = "실패 코드 (성공 시 null)", example = "STOCK9003")
+    String errorCode,
+
+    @Schema(description = "실패 메시지 (성공 시 null)", example = "차트 데이터 조회에 실패했습니다.")
+    String errorMessage
+) {
+    public static ChartBatchItemResponse success(String stockCode, ChartDataResponse chart) {
+        return new ChartBatchItemResponse(stockCode, true, chart, null, null);
+    }
+
+    public static ChartBatchItemResponse failure(String stockCode, String errorCode, String errorMessage) {
+        return new ChartBatchItemResponse(stockCode, false, null, errorCode, errorMessage);
+    }
+}
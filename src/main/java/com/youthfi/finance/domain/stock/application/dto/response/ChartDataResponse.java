@@ -3,6 +3,7 @@ package com.youthfi.finance.domain.stock.application.dto.response;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -13,7 +14,7 @@ public record ChartDataResponse(
     @Schema(description = "종목코드", example = "005930")
     String stockCode,
 
-    @Schema(description = "기간 (1d, 1m, 1y, 1min)", example = "1d")
+    @Schema(description = "기간 (1d, 1w, 1m, 1y, 1min)", example = "1d")
     String period,
 
     @Schema(description = "범위 (60d, 5y, 10y, today)", example = "60d")
@@ -23,8 +24,22 @@ public record ChartDataResponse(
     List<CandleDataResponse> candles,
 
     @Schema(description = "마지막 업데이트 시간 (ISO)", example = "2025-01-01T10:30:00")
-    String lastUpdated
+    String lastUpdated,
+
+    @Schema(description = "갱신 주기가 지난 캐시 데이터 여부 (백그라운드 갱신 중이거나 KIS 장애)", example = "false")
+    boolean stale
 ) {
+
+    public ChartDataResponse(String stockCode, String period, String range, List<CandleDataResponse> candles, String lastUpdated) {
+        this(stockCode, period, range, candles, lastUpdated, false);
+    }
+
+    /**
+     * 같은 데이터를 갱신 주기가 지난 값으로 표시
+     */
+    public ChartDataResponse asStale() {
+        return stale ? this : new ChartDataResponse(stockCode, period, range, candles, lastUpdated, true);
+    }
     
     /**
      * 빈 차트 데이터 생성
@@ -38,4 +53,68 @@ public record ChartDataResponse(
             LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
         );
     }
+
+    /**
+     * 기준 캔들 이후만 남긴 응답 (캔들 오름차순 기준)
+     * - 기준 캔들은 아직 진행 중일 수 있어 함께 포함
+     * @param sinceDate 기준 날짜 (yyyy-MM-dd), null이면 시각만 비교
+     * @param sinceTime 기준 시각 (HH:mm)
+     */
+    public ChartDataResponse since(String sinceDate, String sinceTime) {
+        int from = candles.size();
+        while (from > 0 && !isBefore(candles.get(from - 1), sinceDate, sinceTime)) {
+            from--;
+        }
+        if (from == 0) {
+            return this;
+        }
+        return new ChartDataResponse(stockCode, period, range, List.copyOf(candles.subList(from, candles.size())), lastUpdated, stale);
+    }
+
+    /**
+     * 최근 캔들 count개만 남긴 응답 (주기 차트는 최신순이므로 앞에서부터)
+     */
+    public ChartDataResponse latest(int count) {
+        if (count >= candles.size()) {
+            return this;
+        }
+        return new ChartDataResponse(stockCode, period, range, List.copyOf(candles.subList(0, count)), lastUpdated, stale);
+    }
+
+    /**
+     * [fromDate, toDate] 날짜의 캔들만 남긴 응답 (yyyy-MM-dd, 순서 유지)
+     * @param range 잘라낸 구간의 범위 표기
+     */
+    public ChartDataResponse slice(String fromDate, String toDate, String range) {
+        List<CandleDataResponse> sliced = new ArrayList<>();
+        for (CandleDataResponse candle : candles) {
+            if (candle.date().compareTo(fromDate) >= 0 && candle.date().compareTo(toDate) <= 0) {
+                sliced.add(candle);
+            }
+        }
+        return new ChartDataResponse(stockCode, period, range, sliced, lastUpdated, stale);
+    }
+
+    /**
+     * 캔들 내용 기준 약한 ETag (갱신 시각만 바뀐 경우 동일)
+     */
+    public String etag() {
+        long hash = 1125899906842597L;
+        hash = 31 * hash + stockCode.hashCode();
+        hash = 31 * hash + period.hashCode();
+        for (CandleDataResponse candle : candles) {
+            hash = 31 * hash + candle.hashCode();
+        }
+        return "W/\"" + candles.size() + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    private static boolean isBefore(CandleDataResponse candle, String sinceDate, String sinceTime) {
+        if (sinceDate != null) {
+            int byDate = candle.date().compareTo(sinceDate);
+            if (byDate != 0) {
+                return byDate < 0;
+            }
+        }
+        return candle.time().compareTo(sinceTime) < 0;
+    }
 }
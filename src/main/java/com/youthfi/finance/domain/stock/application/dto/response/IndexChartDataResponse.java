@@ -23,8 +23,22 @@ public record IndexChartDataResponse(
     List<IndexCandleDataResponse> candles,
 
     @Schema(description = "마지막 업데이트 시간 (ISO)", example = "2025-01-01T10:30:00")
-    String lastUpdated
+    String lastUpdated,
+
+    @Schema(description = "갱신 주기가 지난 캐시 데이터 여부 (백그라운드 갱신 중이거나 KIS 장애)", example = "false")
+    boolean stale
 ) {
+
+    public IndexChartDataResponse(String indexCode, String period, String range, List<IndexCandleDataResponse> candles, String lastUpdated) {
+        this(indexCode, period, range, candles, lastUpdated, false);
+    }
+
+    /**
+     * 같은 데이터를 갱신 주기가 지난 값으로 표시
+     */
+    public IndexChartDataResponse asStale() {
+        return stale ? this : new IndexChartDataResponse(indexCode, period, range, candles, lastUpdated, true);
+    }
     
     /**
      * 빈 차트 데이터 생성
@@ -0,0 +1,29 @@
+package com.youthfi.finance.domain.stock.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "다종목 주식현재가 조회 결과 (종목별)")
+public record StockCurrentPriceItemResponse(
+    @Schema(description = "종목코드", example = "005930")
+    String stockCode,
+
+    @Schema(description = "조회 성공 여부", example = "true")
+    boolean success,
+
+    @Schema(description = "현재가 정보 (실패 시 null)")
+    StockCurrentPriceResponse price,
+
+    @Schema(description = "실패 코드 (성공 시 null)", example = "STOCK10005")
+    String errorCode,
+
+    @Schema(description = "실패 메시지 (성공 시 null)", example = "KIS API 요청 한도를 초과했습니다.")
+    String errorMessage
+) {
+    public static StockCurrentPriceItemResponse success(String stockCode, StockCurrentPriceResponse price) {
+        return new StockCurrentPriceItemResponse(stockCode, true, price, null, null);
+    }
+
+    public static StockCurrentPriceItemResponse failure(String stockCode, String errorCode, String errorMessage) {
+        return new StockCurrentPriceItemResponse(stockCode, false, null, errorCode, errorMessage);
+    }
+}
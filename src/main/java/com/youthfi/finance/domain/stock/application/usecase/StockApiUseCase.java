@@ -1,20 +1,30 @@
 package com.youthfi.finance.domain.stock.application.usecase;
 
+import com.youthfi.finance.domain.stock.application.dto.request.StockCurrentPriceBatchRequest;
 import com.youthfi.finance.domain.stock.application.dto.request.StockCurrentPriceRequest;
+import com.youthfi.finance.domain.stock.application.dto.response.StockCurrentPriceItemResponse;
 import com.youthfi.finance.domain.stock.application.dto.response.StockCurrentPriceResponse;
 import com.youthfi.finance.domain.stock.application.dto.response.StockListResponse;
 import com.youthfi.finance.domain.stock.domain.entity.Stock;
 import com.youthfi.finance.domain.stock.domain.repository.StockRepository;
 import com.youthfi.finance.domain.stock.domain.service.StockApiService;
+import com.youthfi.finance.global.exception.RestApiException;
 import com.youthfi.finance.global.exception.StockException;
+import com.youthfi.finance.global.exception.code.status.StockErrorStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,6 +35,8 @@ public class StockApiUseCase {
 
     private final StockApiService stockApiService;
     private final StockRepository stockRepository;
+    @Qualifier("kisApiExecutor")
+    private final ThreadPoolTaskExecutor kisApiExecutor;
 
     /**
      * 주식현재가 시세 조회 
@@ -33,7 +45,70 @@ public class StockApiUseCase {
         log.info("주식현재가 시세 조회 요청 - 시장코드: {}, 종목코드: {}", request.marketCode(), request.stockCode());
         
         Map<String, Object> result = stockApiService.getStockCurrentPrice(request.marketCode(), request.stockCode());
-        
+        return toCurrentPriceResponse(request, result);
+    }
+
+    /**
+     * 주식현재가 시세 조회 (허용 최대 경과시간 지정, 매매 등 최신 시세가 필요한 경우)
+     */
+    public StockCurrentPriceResponse getStockCurrentPrice(StockCurrentPriceRequest request, Duration maxAge) {
+        log.info("주식현재가 시세 조회 요청 - 시장코드: {}, 종목코드: {}, 최대 경과시간: {}ms",
+                request.marketCode(), request.stockCode(), maxAge.toMillis());
+
+        Map<String, Object> result = stockApiService.getStockCurrentPrice(request.marketCode(), request.stockCode(), maxAge);
+        return toCurrentPriceResponse(request, result);
+    }
+
+    /**
+     * 다종목 주식현재가 시세 조회
+     * - 캐시된 종목은 즉시 반환하고, 나머지는 KIS 호출 스레드풀에서 동시 조회
+     * - 종목별 실패는 해당 항목에만 기록 (전체 실패로 처리하지 않음)
+     */
+    public List<StockCurrentPriceItemResponse> getStockCurrentPrices(StockCurrentPriceBatchRequest request) {
+        List<String> stockCodes = request.stockCodes().stream().distinct().toList();
+        log.info("다종목 주식현재가 시세 조회 요청 - 시장코드: {}, 종목 수: {}", request.marketCode(), stockCodes.size());
+
+        List<CompletableFuture<StockCurrentPriceItemResponse>> futures = new ArrayList<>(stockCodes.size());
+        int cacheHits = 0;
+        for (String stockCode : stockCodes) {
+            StockCurrentPriceRequest itemRequest = new StockCurrentPriceRequest(request.marketCode(), stockCode);
+            Map<String, Object> cached = stockApiService.getCachedStockCurrentPrice(request.marketCode(), stockCode);
+            if (cached != null) {
+                cacheHits++;
+                futures.add(CompletableFuture.completedFuture(resolvePriceItem(itemRequest, () -> cached)));
+                continue;
+            }
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> resolvePriceItem(itemRequest,
+                            () -> stockApiService.getStockCurrentPrice(request.marketCode(), stockCode)),
+                    kisApiExecutor));
+        }
+
+        List<StockCurrentPriceItemResponse> result = futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+
+        long failures = result.stream().filter(item -> !item.success()).count();
+        log.info("다종목 주식현재가 시세 조회 완료 - 시장코드: {}, 종목 수: {}, 캐시: {}, 실패: {}",
+                request.marketCode(), result.size(), cacheHits, failures);
+        return result;
+    }
+
+    private StockCurrentPriceItemResponse resolvePriceItem(StockCurrentPriceRequest request, Supplier<Map<String, Object>> loader) {
+        try {
+            return StockCurrentPriceItemResponse.success(request.stockCode(), toCurrentPriceResponse(request, loader.get()));
+        } catch (RestApiException e) {
+            log.warn("종목 현재가 조회 실패 - 종목코드: {}, 코드: {}", request.stockCode(), e.getErrorCode().getCode());
+            return StockCurrentPriceItemResponse.failure(request.stockCode(), e.getErrorCode().getCode(), e.getErrorCode().getMessage());
+        } catch (Exception e) {
+            log.warn("종목 현재가 조회 실패 - 종목코드: {}", request.stockCode(), e);
+            return StockCurrentPriceItemResponse.failure(request.stockCode(),
+                    StockErrorStatus.CURRENT_PRICE_FETCH_FAILED.getCode().getCode(),
+                    StockErrorStatus.CURRENT_PRICE_FETCH_FAILED.getCode().getMessage());
+        }
+    }
+
+    private StockCurrentPriceResponse toCurrentPriceResponse(StockCurrentPriceRequest request, Map<String, Object> result) {
         // KIS API 응답에서 output 필드 추출
         Map<String, Object> output = (Map<String, Object>) result.get("output");
         if (output == null) {
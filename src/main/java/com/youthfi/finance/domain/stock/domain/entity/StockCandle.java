@@ -0,0 +1,72 @@
+package com.youthfi.finance.domain.stock.domain.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 확정 캔들 (장 마감 후 변하지 않는 봉만 저장)
+ */
+@Entity
+@Table(name = "stock_candles",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stock_candles_stock_period_date", columnNames = {"stockId", "period", "tradeDate"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockCandle {
+
+    public static final String PERIOD_DAILY = "1d";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "candleId")
+    private Long candleId;
+
+    @Column(name = "stockId", nullable = false, length = 10)
+    private String stockId; // 종목코드
+
+    @Column(name = "period", nullable = false, length = 4)
+    private String period; // 주기 (1d)
+
+    @Column(name = "tradeDate", nullable = false)
+    private LocalDate tradeDate; // 영업일자
+
+    @Column(name = "openPrice", nullable = false)
+    private Long open;
+
+    @Column(name = "highPrice", nullable = false)
+    private Long high;
+
+    @Column(name = "lowPrice", nullable = false)
+    private Long low;
+
+    @Column(name = "closePrice", nullable = false)
+    private Long close;
+
+    @Column(name = "volume", nullable = false)
+    private Long volume;
+
+
+    @Builder
+    public StockCandle(String stockId, String period, LocalDate tradeDate,
+                       Long open, Long high, Long low, Long close, Long volume) {
+        this.stockId = stockId;
+        this.period = period;
+        this.tradeDate = tradeDate;
+        this.open = open;
+        this.high = high;
+        this.low = low;
+        this.close = close;
+        this.volume = volume;
+    }
+
+}
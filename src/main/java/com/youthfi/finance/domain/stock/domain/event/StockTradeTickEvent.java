@@ -0,0 +1,30 @@
+package com.youthfi.finance.domain.stock.domain.event;
+
+/**
+ * 실시간 체결 이벤트 (KIS H0STCNT0 한 건)
+ * @param stockCode       종목코드
+ * @param date            영업일자 (yyyyMMdd)
+ * @param time            체결시각 (HHmmss)
+ * @param price           체결가
+ * @param change          전일대비
+ * @param changeRate      전일대비율
+ * @param open            당일 시가
+ * @param high            당일 고가
+ * @param low             당일 저가
+ * @param volume          체결 거래량
+ * @param accumulatedVolume 누적 거래량
+ */
+public record StockTradeTickEvent(
+        String stockCode,
+        int date,
+        int time,
+        long price,
+        long change,
+        double changeRate,
+        long open,
+        long high,
+        long low,
+        long volume,
+        long accumulatedVolume
+) {
+}
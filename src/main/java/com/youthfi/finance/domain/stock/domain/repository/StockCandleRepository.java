@@ -0,0 +1,32 @@
+package com.youthfi.finance.domain.stock.domain.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.youthfi.finance.domain.stock.domain.entity.StockCandle;
+
+@Repository
+public interface StockCandleRepository extends JpaRepository<StockCandle, Long> {
+
+    // 기간 조회 (최신순)
+    List<StockCandle> findByStockIdAndPeriodAndTradeDateBetweenOrderByTradeDateDesc(
+            String stockId, String period, LocalDate from, LocalDate to);
+
+    // 가장 최근/오래된 저장 봉
+    Optional<StockCandle> findTopByStockIdAndPeriodOrderByTradeDateDesc(String stockId, String period);
+    Optional<StockCandle> findTopByStockIdAndPeriodOrderByTradeDateAsc(String stockId, String period);
+
+    // 중복 저장 방지용 보유 일자
+    @Query("SELECT c.tradeDate FROM StockCandle c WHERE c.stockId = :stockId AND c.period = :period AND c.tradeDate BETWEEN :from AND :to")
+    List<LocalDate> findTradeDates(
+            @Param("stockId") String stockId,
+            @Param("period") String period,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+}
@@ -0,0 +1,219 @@
+package com.youthfi.finance.domain.stock.domain.service;
+
+import com.youthfi.finance.domain.stock.application.dto.response.CandleDataResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 저장된 확정 일봉 → 주/월/연봉 집계
+ * - 시가: 첫 봉 시가, 고가: 최대, 저가: 최소, 종가: 마지막 봉 종가, 거래량: 합계
+ * - 종목/주기별 집계 결과를 메모리에 보관하고, 새 일봉이 들어오면 진행 중인 구간만 다시 계산
+ * - 봉 날짜는 구간 내 마지막 영업일 (KIS 주/월/연봉과 동일)
+ * - 저장소에 아직 없는 최근 일봉(진행 중인 당일 봉 등)은 응답에만 합산하고 보관하는 집계에는 반영하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CandleRollupService {
+
+    // 연휴로 구간 첫 영업일이 늦어지는 경우 허용 범위
+    private static final int COVERAGE_SLACK_DAYS = 7;
+
+    private final StockCandleService stockCandleService;
+    private final ConcurrentMap<String, RollupSeries> rollups = new ConcurrentHashMap<>();
+
+    public enum RollupPeriod {
+        WEEKLY, MONTHLY, YEARLY;
+
+        LocalDate bucketStart(LocalDate date) {
+            return switch (this) {
+                case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTHLY -> date.withDayOfMonth(1);
+                case YEARLY -> date.withDayOfYear(1);
+            };
+        }
+    }
+
+    /**
+     * 집계 봉 조회 (최신순)
+     * @param from 조회 시작일 (구간 시작일로 내림)
+     * @return 저장소 일봉이 범위를 덮지 못하면 null (호출부에서 KIS 조회)
+     */
+    public List<CandleDataResponse> getRollup(String stockCode, RollupPeriod period, LocalDate from) {
+        return getRollup(stockCode, period, from, List::of);
+    }
+
+    /**
+     * 집계 봉 조회 (최신순, 저장소 마지막 일자 이후 최근 일봉을 진행 중인 구간에 합산)
+     * @param recentDaily 최근 일봉 (최신순, 저장소가 범위를 덮을 때만 호출)
+     */
+    public List<CandleDataResponse> getRollup(String stockCode, RollupPeriod period, LocalDate from,
+                                              Supplier<List<CandleDataResponse>> recentDaily) {
+        LocalDate alignedFrom = period.bucketStart(from);
+        Optional<LocalDate> earliest = stockCandleService.findEarliestDailyDate(stockCode);
+        Optional<LocalDate> latest = stockCandleService.findLatestDailyDate(stockCode);
+        if (earliest.isEmpty() || latest.isEmpty() || earliest.get().isAfter(alignedFrom.plusDays(COVERAGE_SLACK_DAYS))) {
+            return null;
+        }
+
+        List<CandleDataResponse> recent = recentDaily.get();
+        RollupSeries series = rollups.computeIfAbsent(stockCode + ":" + period, key -> new RollupSeries(period));
+        synchronized (series) {
+            series.refresh(stockCode, alignedFrom, latest.get());
+            return series.newestFirst(alignedFrom, recent != null ? recent : List.of());
+        }
+    }
+
+    /**
+     * 종목/주기 하나의 집계 구간 (오름차순)
+     */
+    private final class RollupSeries {
+
+        private final RollupPeriod period;
+        private final List<Bucket> buckets = new ArrayList<>();
+        private LocalDate coveredFrom;
+        private LocalDate lastDaily;
+
+        RollupSeries(RollupPeriod period) {
+            this.period = period;
+        }
+
+        void refresh(String stockCode, LocalDate from, LocalDate latest) {
+            if (coveredFrom == null || from.isBefore(coveredFrom)) {
+                buckets.clear();
+                fold(stockCandleService.getDailyCandles(stockCode, from, latest));
+                coveredFrom = from;
+                lastDaily = latest;
+                return;
+            }
+            if (!latest.isAfter(lastDaily)) {
+                return;
+            }
+            // 마지막(진행 중이던) 구간부터 다시 계산
+            LocalDate partialStart = period.bucketStart(lastDaily);
+            while (!buckets.isEmpty() && !buckets.get(buckets.size() - 1).start.isBefore(partialStart)) {
+                buckets.remove(buckets.size() - 1);
+            }
+            fold(stockCandleService.getDailyCandles(stockCode, partialStart, latest));
+            lastDaily = latest;
+        }
+
+        /**
+         * @param dailyNewestFirst 저장소 일봉 (최신순)
+         */
+        private void fold(List<CandleDataResponse> dailyNewestFirst) {
+            for (int i = dailyNewestFirst.size() - 1; i >= 0; i--) {
+                CandleDataResponse daily = dailyNewestFirst.get(i);
+                LocalDate tradeDate = LocalDate.parse(daily.date());
+                LocalDate start = period.bucketStart(tradeDate);
+                Bucket last = buckets.isEmpty() ? null : buckets.get(buckets.size() - 1);
+                if (last != null && last.start.equals(start)) {
+                    last.merge(tradeDate, daily);
+                } else {
+                    buckets.add(new Bucket(start, tradeDate, daily));
+                }
+            }
+        }
+
+        /**
+         * @param recentNewestFirst 최근 일봉 (최신순, 저장소 마지막 일자 이후 봉만 합산)
+         */
+        List<CandleDataResponse> newestFirst(LocalDate from, List<CandleDataResponse> recentNewestFirst) {
+            // 진행 중인 구간: 저장소 마지막 구간 사본 + 최근 일봉 (보관 중인 구간은 변경하지 않음)
+            List<Bucket> open = new ArrayList<>(2);
+            int stored = buckets.size();
+            for (int i = recentNewestFirst.size() - 1; i >= 0; i--) {
+                CandleDataResponse daily = recentNewestFirst.get(i);
+                if (daily.date() == null || daily.date().isEmpty()) {
+                    continue;
+                }
+                LocalDate tradeDate = LocalDate.parse(daily.date());
+                if (!tradeDate.isAfter(lastDaily)) {
+                    continue;
+                }
+                LocalDate start = period.bucketStart(tradeDate);
+                if (open.isEmpty() && stored > 0 && buckets.get(stored - 1).start.equals(start)) {
+                    open.add(buckets.get(stored - 1).copy());
+                    stored--;
+                }
+                Bucket last = open.isEmpty() ? null : open.get(open.size() - 1);
+                if (last != null && last.start.equals(start)) {
+                    last.merge(tradeDate, daily);
+                } else {
+                    open.add(new Bucket(start, tradeDate, daily));
+                }
+            }
+
+            List<CandleDataResponse> candles = new ArrayList<>(stored + open.size());
+            for (int i = open.size() - 1; i >= 0; i--) {
+                candles.add(open.get(i).toCandle());
+            }
+            for (int i = stored - 1; i >= 0; i--) {
+                Bucket bucket = buckets.get(i);
+                if (bucket.start.isBefore(from)) {
+                    break;
+                }
+                candles.add(bucket.toCandle());
+            }
+            return candles;
+        }
+    }
+
+    private static final class Bucket {
+
+        private final LocalDate start;
+        private LocalDate lastDate;
+        private final long open;
+        private long high;
+        private long low;
+        private long close;
+        private long volume;
+
+        private Bucket(Bucket source) {
+            this.start = source.start;
+            this.lastDate = source.lastDate;
+            this.open = source.open;
+            this.high = source.high;
+            this.low = source.low;
+            this.close = source.close;
+            this.volume = source.volume;
+        }
+
+        Bucket(LocalDate start, LocalDate tradeDate, CandleDataResponse daily) {
+            this.start = start;
+            this.lastDate = tradeDate;
+            this.open = daily.open();
+            this.high = daily.high();
+            this.low = daily.low();
+            this.close = daily.close();
+            this.volume = daily.volume();
+        }
+
+        Bucket copy() {
+            return new Bucket(this);
+        }
+
+        void merge(LocalDate tradeDate, CandleDataResponse daily) {
+            lastDate = tradeDate;
+            high = Math.max(high, daily.high());
+            low = Math.min(low, daily.low());
+            close = daily.close();
+            volume += daily.volume();
+        }
+
+        CandleDataResponse toCandle() {
+            return new CandleDataResponse(lastDate.toString(), "", open, high, low, close, volume);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.youthfi.finance.domain.stock.domain.service;
+
+import com.youthfi.finance.domain.stock.domain.service.ChartCacheMetrics.Trigger;
+import com.youthfi.finance.domain.stock.domain.service.ChartTtlPolicy.ChartKind;
+import com.youthfi.finance.global.service.RedisLeaseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 차트 캐시 적재 (종목/지수 차트 공통)
+ * - 캐시가 없으면 임대를 획득한 노드만 KIS 조회 후 저장, 나머지 노드는 캐시가 채워질 때까지 대기
+ * - 갱신 주기가 지난 캐시는 노드 내 키별 1회 백그라운드 갱신 (다른 노드가 갱신 중이면 생략)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChartCacheLoader {
+
+    static final Duration LOAD_LEASE_TTL = Duration.ofSeconds(10);
+    private static final long LEASE_WAIT_MILLIS = 3000;
+    private static final long LEASE_POLL_MILLIS = 100;
+
+    private final RedisLeaseService redisLeaseService;
+    private final ChartCacheMetrics chartCacheMetrics;
+    @Qualifier("chartRefreshExecutor")
+    private final ThreadPoolTaskExecutor chartRefreshExecutor;
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+    /**
+     * KIS 조회 후 캐시 저장 (임대를 획득하지 못하면 다른 노드가 채운 캐시를 대기, 대기 시간 초과 시 직접 조회)
+     * @param cached 캐시 조회 (없거나 비었으면 null)
+     */
+    public <T> T load(String loadKey, ChartKind kind, Supplier<T> cached, Supplier<T> fetcher, Consumer<T> saver) {
+        String leaseToken = redisLeaseService.tryAcquire(loadKey, LOAD_LEASE_TTL);
+        if (leaseToken == null) {
+            T filled = awaitCacheFill(cached);
+            if (filled != null) {
+                return filled;
+            }
+            log.debug("다른 노드 차트 조회 대기 시간 초과, 직접 조회: {}", loadKey);
+        }
+
+        try {
+            chartCacheMetrics.load(kind, Trigger.MISS);
+            T data = fetcher.get();
+            saver.accept(data);
+            return data;
+        } finally {
+            redisLeaseService.release(loadKey, leaseToken);
+        }
+    }
+
+    /**
+     * 백그라운드 캐시 갱신 (실패해도 하드 만료 전까지는 이전 값을 계속 반환)
+     */
+    public <T> void refreshInBackground(String loadKey, ChartKind kind, Supplier<T> fetcher, Consumer<T> saver) {
+        if (!refreshingKeys.add(loadKey)) {
+            return;
+        }
+        try {
+            chartRefreshExecutor.execute(() -> {
+                try {
+                    refresh(loadKey, kind, fetcher, saver);
+                } finally {
+                    refreshingKeys.remove(loadKey);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            refreshingKeys.remove(loadKey);
+            log.debug("차트 백그라운드 갱신 대기열 초과: {}", loadKey);
+        }
+    }
+
+    private <T> void refresh(String loadKey, ChartKind kind, Supplier<T> fetcher, Consumer<T> saver) {
+        String leaseToken = redisLeaseService.tryAcquire(loadKey, LOAD_LEASE_TTL);
+        if (leaseToken == null) {
+            return;
+        }
+        try {
+            chartCacheMetrics.load(kind, Trigger.REFRESH);
+            saver.accept(fetcher.get());
+            log.debug("차트 백그라운드 갱신 완료: {}", loadKey);
+        } catch (Exception e) {
+            log.warn("차트 백그라운드 갱신 실패: {}", loadKey, e);
+        } finally {
+            redisLeaseService.release(loadKey, leaseToken);
+        }
+    }
+
+    /**
+     * 다른 노드가 캐시를 채울 때까지 폴링
+     */
+    private <T> T awaitCacheFill(Supplier<T> cached) {
+        long deadline = System.currentTimeMillis() + LEASE_WAIT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(LEASE_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            T data = cached.get();
+            if (data != null) {
+                return data;
+            }
+        }
+        return null;
+    }
+}
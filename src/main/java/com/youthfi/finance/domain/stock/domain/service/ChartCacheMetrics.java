@@ -0,0 +1,61 @@
+package com.youthfi.finance.domain.stock.domain.service;
+
+import com.youthfi.finance.domain.stock.domain.service.ChartTtlPolicy.ChartKind;
+import com.youthfi.finance.global.service.MarketCalendar;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 차트 캐시 효과 지표 (주기별, 장중/장 외 구분)
+ * - chart.cache.requests{kind, result=hit|stale|miss, session}: 캐시 조회 결과
+ * - chart.cache.loads{kind, trigger=miss|refresh|increment, session}: 캐시를 채우기 위한 KIS(또는 저장소) 재조회
+ */
+@Component
+public class ChartCacheMetrics {
+
+    public enum Result {
+        HIT, STALE, MISS
+    }
+
+    public enum Trigger {
+        MISS, REFRESH, INCREMENT
+    }
+
+    private final MeterRegistry registry;
+    private final MarketCalendar marketCalendar;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public ChartCacheMetrics(ObjectProvider<MeterRegistry> meterRegistry, MarketCalendar marketCalendar) {
+        this.registry = meterRegistry.getIfAvailable();
+        this.marketCalendar = marketCalendar;
+    }
+
+    public void request(ChartKind kind, Result result) {
+        increment("chart.cache.requests", kind, "result", result.name());
+    }
+
+    public void load(ChartKind kind, Trigger trigger) {
+        increment("chart.cache.loads", kind, "trigger", trigger.name());
+    }
+
+    private void increment(String name, ChartKind kind, String tagKey, String tagValue) {
+        if (registry == null) {
+            return;
+        }
+        String session = marketCalendar.isOpen() ? "open" : "closed";
+        String value = tagValue.toLowerCase(Locale.ROOT);
+        counters.computeIfAbsent(name + ":" + kind + ":" + value + ":" + session,
+                id -> Counter.builder(name)
+                        .tag("kind", kind.tag())
+                        .tag(tagKey, value)
+                        .tag("session", session)
+                        .register(registry))
+                .increment();
+    }
+}
@@ -1,16 +1,28 @@
 package com.youthfi.finance.domain.stock.domain.service;
 
+import com.youthfi.finance.domain.stock.application.dto.response.CandleDataResponse;
 import com.youthfi.finance.domain.stock.application.dto.response.ChartDataResponse;
+import com.youthfi.finance.domain.stock.application.dto.response.IndexChartDataResponse;
+import com.youthfi.finance.domain.stock.domain.service.ChartTtlPolicy.ChartKind;
+import com.youthfi.finance.domain.stock.infra.CandleBinaryCodec;
 import com.youthfi.finance.global.config.RedisConstants;
 import com.youthfi.finance.global.exception.StockException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 차트 데이터 Redis 캐싱 서비스
@@ -20,23 +32,69 @@ import java.time.ZoneId;
 @RequiredArgsConstructor
 public class ChartCacheService {
 
+    /**
+     * 분봉 리스트 교체 (KEYS[1]=리스트, KEYS[2]=메타, ARGV: minuteScriptArgs 참고)
+     */
+    private static final RedisScript<Long> REPLACE_MINUTE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            for i = 5, #ARGV, 1000 do
+                redis.call('RPUSH', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+            end
+            redis.call('HSET', KEYS[2], 'last', ARGV[2], 'updatedAt', ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            return redis.call('LLEN', KEYS[1])
+            """, Long.class);
+
+    /**
+     * 분봉 증분 추가 (마지막 분이 기대값과 같을 때만 추가)
+     */
+    private static final RedisScript<Long> APPEND_MINUTE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[2], 'last') ~= ARGV[1] then
+                return -1
+            end
+            for i = 5, #ARGV, 1000 do
+                redis.call('RPUSH', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+            end
+            redis.call('HSET', KEYS[2], 'last', ARGV[2], 'updatedAt', ARGV[3])
+            return redis.call('LLEN', KEYS[1])
+            """, Long.class);
+
+    private static final byte[] EMPTY = new byte[0];
+    private static final String META_LAST = "last";
+    private static final String META_UPDATED_AT = "updatedAt";
+
     private final RedisTemplate<String, ChartDataResponse> redisChartDataTemplate;
+    private final RedisTemplate<String, byte[]> redisBytesTemplate;
+    private final RedisTemplate<String, IndexChartDataResponse> redisIndexChartDataTemplate;
+    private final ChartNearCache chartNearCache;
+    private final ChartPayloadCache chartPayloadCache;
+    private final ChartTtlPolicy chartTtlPolicy;
     
     /**
      * 일봉 데이터 캐시 저장
      */
     public void saveDailyChart(String stockCode, String range, ChartDataResponse chartData) {
         String key = RedisConstants.buildDailyChartKey(stockCode, range);
-        redisChartDataTemplate.opsForValue().set(key, chartData, Duration.ofHours(1));
+        putChart(key, chartData, chartTtlPolicy.hardTtl(ChartKind.DAILY));
         log.debug("일봉 캐시 저장: key={}", key);
     }
     
+    /**
+     * 주봉 데이터 캐시 저장 (진행 중인 주가 바뀌므로 일봉과 같은 갱신 주기)
+     */
+    public void saveWeeklyChart(String stockCode, String range, ChartDataResponse chartData) {
+        String key = RedisConstants.buildWeeklyChartKey(stockCode, range);
+        putChart(key, chartData, chartTtlPolicy.hardTtl(ChartKind.WEEKLY));
+        log.debug("주봉 캐시 저장: key={}", key);
+    }
+    
     /**
      * 월봉 데이터 캐시 저장
      */
     public void saveMonthlyChart(String stockCode, String range, ChartDataResponse chartData) {
         String key = RedisConstants.buildMonthlyChartKey(stockCode, range);
-        redisChartDataTemplate.opsForValue().set(key, chartData, Duration.ofDays(1));
+        putChart(key, chartData, chartTtlPolicy.hardTtl(ChartKind.MONTHLY));
         log.debug("월봉 캐시 저장: key={}", key);
     }
     
@@ -45,17 +103,50 @@ public class ChartCacheService {
      */
     public void saveYearlyChart(String stockCode, String range, ChartDataResponse chartData) {
         String key = RedisConstants.buildYearlyChartKey(stockCode, range);
-        redisChartDataTemplate.opsForValue().set(key, chartData, Duration.ofDays(7));
+        putChart(key, chartData, chartTtlPolicy.hardTtl(ChartKind.YEARLY));
         log.debug("연봉 캐시 저장: key={}", key);
     }
     
     /**
-     * 분봉 데이터 캐시 저장 (동적 TTL)
+     * 지수 차트 캐시 저장
+     */
+    public void saveIndexChart(String indexCode, String period, IndexChartDataResponse chartData) {
+        String key = RedisConstants.buildIndexChartKey(indexCode, period);
+        Duration ttl = chartTtlPolicy.hardTtl(ChartKind.ofIndex(period));
+        redisIndexChartDataTemplate.opsForValue().set(key, chartData, ttl);
+        chartNearCache.put(key, chartData, ttl);
+        chartPayloadCache.get(chartData);
+        log.debug("지수 차트 캐시 저장: key={}", key);
+    }
+    
+    /**
+     * 분봉 데이터 캐시 저장 (스냅샷 전체 교체, 자정까지 유지)
      */
     public void saveMinuteChart(String stockCode, ChartDataResponse chartData) {
-        String key = RedisConstants.buildMinuteChartKey(stockCode, "today");
-        redisChartDataTemplate.opsForValue().set(key, chartData, resolveMinuteTtl());
-        log.debug("분봉 캐시 저장: key={}", key);
+        List<CandleDataResponse> candles = chartData.candles();
+        if (candles.isEmpty() || !CandleBinaryCodec.canEncode(candles)) {
+            return;
+        }
+        redisBytesTemplate.execute(REPLACE_MINUTE_SCRIPT,
+                List.of(RedisConstants.buildMinuteBarsKey(stockCode), RedisConstants.buildMinuteMetaKey(stockCode)),
+                minuteScriptArgs(EMPTY, chartData.lastUpdated(), candles));
+        log.debug("분봉 캐시 저장: stockCode={}, candles={}", stockCode, candles.size());
+    }
+
+    /**
+     * 분봉 증분 추가 (새 봉만 RPUSH)
+     * @param expectedLastHHmm 호출자가 읽은 마지막 분, 그 사이 다른 갱신이 있었으면 추가하지 않음
+     * @return 추가 후 전체 봉 수, 마지막 분이 달라 추가하지 않았으면 -1
+     */
+    public long appendMinuteCandles(String stockCode, String expectedLastHHmm, List<CandleDataResponse> newCandles, String lastUpdated) {
+        if (newCandles.isEmpty() || !CandleBinaryCodec.canEncode(newCandles)) {
+            return -1;
+        }
+        Long size = redisBytesTemplate.execute(APPEND_MINUTE_SCRIPT,
+                List.of(RedisConstants.buildMinuteBarsKey(stockCode), RedisConstants.buildMinuteMetaKey(stockCode)),
+                minuteScriptArgs(expectedLastHHmm.getBytes(StandardCharsets.UTF_8), lastUpdated, newCandles));
+        log.debug("분봉 증분 추가: stockCode={}, added={}, size={}", stockCode, newCandles.size(), size);
+        return size != null ? size : -1;
     }
     
     /**
@@ -63,17 +154,27 @@ public class ChartCacheService {
      */
     public ChartDataResponse getDailyChart(String stockCode, String range) {
         String key = RedisConstants.buildDailyChartKey(stockCode, range);
-        ChartDataResponse data = redisChartDataTemplate.opsForValue().get(key);
+        ChartDataResponse data = getChart(key, chartTtlPolicy.hardTtl(ChartKind.DAILY));
         log.debug("일봉 캐시 조회: key={}, found={}", key, data != null);
         return data;
     }
     
+    /**
+     * 주봉 데이터 캐시 조회
+     */
+    public ChartDataResponse getWeeklyChart(String stockCode, String range) {
+        String key = RedisConstants.buildWeeklyChartKey(stockCode, range);
+        ChartDataResponse data = getChart(key, chartTtlPolicy.hardTtl(ChartKind.WEEKLY));
+        log.debug("주봉 캐시 조회: key={}, found={}", key, data != null);
+        return data;
+    }
+    
     /**
      * 월봉 데이터 캐시 조회
      */
     public ChartDataResponse getMonthlyChart(String stockCode, String range) {
         String key = RedisConstants.buildMonthlyChartKey(stockCode, range);
-        ChartDataResponse data = redisChartDataTemplate.opsForValue().get(key);
+        ChartDataResponse data = getChart(key, chartTtlPolicy.hardTtl(ChartKind.MONTHLY));
         log.debug("월봉 캐시 조회: key={}, found={}", key, data != null);
         return data;
     }
@@ -83,29 +184,191 @@ public class ChartCacheService {
      */
     public ChartDataResponse getYearlyChart(String stockCode, String range) {
         String key = RedisConstants.buildYearlyChartKey(stockCode, range);
-        ChartDataResponse data = redisChartDataTemplate.opsForValue().get(key);
+        ChartDataResponse data = getChart(key, chartTtlPolicy.hardTtl(ChartKind.YEARLY));
         log.debug("연봉 캐시 조회: key={}, found={}", key, data != null);
         return data;
     }
     
     /**
-     * 분봉 데이터 캐시 조회
+     * 여러 종목 차트 캐시 일괄 조회 (1차 캐시에 없는 키만 Redis MGET 한 번으로 조회)
+     * @return 종목코드 → 캐시 값 (캐시가 없는 종목은 포함하지 않음)
      */
-    public ChartDataResponse getMinuteChart(String stockCode) {
-        String key = RedisConstants.buildMinuteChartKey(stockCode, "today");
-        ChartDataResponse data = redisChartDataTemplate.opsForValue().get(key);
-        log.debug("분봉 캐시 조회: key={}, found={}", key, data != null);
+    @SuppressWarnings("unchecked")
+    public Map<String, ChartDataResponse> getCharts(String period, String range, List<String> stockCodes) {
+        Map<String, ChartDataResponse> result = new HashMap<>(stockCodes.size() * 2);
+        List<String> missCodes = new ArrayList<>();
+        List<String> missKeys = new ArrayList<>();
+        for (String stockCode : stockCodes) {
+            String key = getChartKeyByPeriod(period, stockCode, range);
+            ChartDataResponse data = chartNearCache.get(key);
+            if (data != null) {
+                result.put(stockCode, data);
+            } else {
+                missCodes.add(stockCode);
+                missKeys.add(key);
+            }
+        }
+        if (!missKeys.isEmpty()) {
+            long snapshot = chartNearCache.snapshot();
+            List<Object> replies = multiGetWithTtl(redisChartDataTemplate, missKeys);
+            List<ChartDataResponse> values = (List<ChartDataResponse>) replies.get(0);
+            Duration ttl = chartTtlPolicy.hardTtl(ChartKind.of(period));
+            for (int i = 0; values != null && i < values.size(); i++) {
+                ChartDataResponse data = values.get(i);
+                if (data != null) {
+                    result.put(missCodes.get(i), data);
+                    chartNearCache.putIfUnchanged(missKeys.get(i), data, nearTtl(replies.get(i + 1), ttl), snapshot);
+                }
+            }
+        }
+        log.debug("차트 캐시 일괄 조회: period={}, requested={}, found={}, redis={}",
+                period, stockCodes.size(), result.size(), missKeys.size());
+        return result;
+    }
+
+    /**
+     * 지수 차트 캐시 조회
+     */
+    public IndexChartDataResponse getIndexChart(String indexCode, String period) {
+        String key = RedisConstants.buildIndexChartKey(indexCode, period);
+        IndexChartDataResponse data = chartNearCache.getIndex(key);
+        if (data == null) {
+            long snapshot = chartNearCache.snapshot();
+            List<Object> replies = multiGetWithTtl(redisIndexChartDataTemplate, List.of(key));
+            data = firstValue(replies);
+            chartNearCache.putIfUnchanged(key, data,
+                    nearTtl(replies.get(1), chartTtlPolicy.hardTtl(ChartKind.ofIndex(period))), snapshot);
+        }
+        log.debug("지수 차트 캐시 조회: key={}, found={}", key, data != null);
         return data;
     }
     
+    /**
+     * 분봉 데이터 캐시 조회 (전체)
+     */
+    public ChartDataResponse getMinuteChart(String stockCode) {
+        return getMinuteChartRange(stockCode, 0);
+    }
+
+    /**
+     * 분봉 데이터 캐시 조회 (마지막 N개, LRANGE -N -1)
+     */
+    public ChartDataResponse getMinuteChartTail(String stockCode, int count) {
+        return count > 0 ? getMinuteChartRange(stockCode, -count) : getMinuteChart(stockCode);
+    }
+
+    /**
+     * 분봉 캐시의 마지막 분 (HHmm), 없으면 null
+     */
+    public String getLastMinute(String stockCode) {
+        Object last = redisBytesTemplate.opsForHash().get(RedisConstants.buildMinuteMetaKey(stockCode), META_LAST);
+        return last != null ? new String((byte[]) last, StandardCharsets.UTF_8) : null;
+    }
+
+    private ChartDataResponse getMinuteChartRange(String stockCode, long start) {
+        List<byte[]> encoded = redisBytesTemplate.opsForList().range(RedisConstants.buildMinuteBarsKey(stockCode), start, -1);
+        log.debug("분봉 캐시 조회: stockCode={}, found={}", stockCode, encoded != null ? encoded.size() : 0);
+        if (encoded == null || encoded.isEmpty()) {
+            return null;
+        }
+        List<CandleDataResponse> candles = new ArrayList<>(encoded.size());
+        for (byte[] bytes : encoded) {
+            candles.add(CandleBinaryCodec.decodeCandle(bytes));
+        }
+        Object updatedAt = redisBytesTemplate.opsForHash().get(RedisConstants.buildMinuteMetaKey(stockCode), META_UPDATED_AT);
+        return new ChartDataResponse(stockCode, "1min", "today", candles,
+                updatedAt != null ? new String((byte[]) updatedAt, StandardCharsets.UTF_8) : null);
+    }
+    
+    /**
+     * 갱신 주기 경과 여부 (lastUpdated 기준, 분봉은 증분 갱신하므로 해당 없음)
+     */
+    public boolean isSoftExpired(ChartDataResponse data) {
+        return chartTtlPolicy.isSoftExpired(ChartKind.of(data.period()), data.lastUpdated());
+    }
+
+    /**
+     * 지수 차트 갱신 주기 경과 여부
+     */
+    public boolean isIndexSoftExpired(IndexChartDataResponse data) {
+        return chartTtlPolicy.isSoftExpired(ChartKind.ofIndex(data.period()), data.lastUpdated());
+    }
+
     /**
      * 캐시 삭제
      */
     public void deleteChart(String stockCode, String period, String range) {
+        if ("1min".equals(period)) {
+            redisBytesTemplate.delete(List.of(
+                    RedisConstants.buildMinuteBarsKey(stockCode), RedisConstants.buildMinuteMetaKey(stockCode)));
+            log.debug("분봉 캐시 삭제: stockCode={}", stockCode);
+            return;
+        }
         String key = getChartKeyByPeriod(period, stockCode, range);
         redisChartDataTemplate.delete(key);
+        chartNearCache.evict(key);
         log.debug("캐시 삭제: key={}", key);
     }
+
+    /**
+     * Redis 저장 후 1차 캐시 갱신 (다른 노드는 무효화), 응답 본문도 저장 시점에 미리 직렬화
+     */
+    private void putChart(String key, ChartDataResponse chartData, Duration ttl) {
+        redisChartDataTemplate.opsForValue().set(key, chartData, ttl);
+        chartNearCache.put(key, chartData, ttl);
+        chartPayloadCache.get(chartData);
+    }
+
+    /**
+     * 1차 캐시 → Redis 순서로 조회 (1차 캐시는 Redis 남은 TTL까지만 보관)
+     */
+    private ChartDataResponse getChart(String key, Duration ttl) {
+        ChartDataResponse data = chartNearCache.get(key);
+        if (data != null) {
+            return data;
+        }
+        long snapshot = chartNearCache.snapshot();
+        List<Object> replies = multiGetWithTtl(redisChartDataTemplate, List.of(key));
+        data = firstValue(replies);
+        chartNearCache.putIfUnchanged(key, data, nearTtl(replies.get(1), ttl), snapshot);
+        return data;
+    }
+
+    /**
+     * 값과 키별 남은 TTL(ms)을 한 번의 파이프라인으로 조회
+     * @return [MGET 결과, 키 순서대로 PTTL...]
+     */
+    private <V> List<Object> multiGetWithTtl(RedisTemplate<String, V> template, List<String> keys) {
+        return template.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, T> Object execute(RedisOperations<K, T> operations) {
+                RedisOperations<String, V> ops = (RedisOperations<String, V>) operations;
+                ops.opsForValue().multiGet(keys);
+                for (String key : keys) {
+                    ops.getExpire(key, TimeUnit.MILLISECONDS);
+                }
+                return null;
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V firstValue(List<Object> replies) {
+        List<V> values = (List<V>) replies.get(0);
+        return values != null && !values.isEmpty() ? values.get(0) : null;
+    }
+
+    /**
+     * Redis에서 읽은 값의 1차 캐시 보관 기간 (Redis 남은 TTL을 넘지 않음, TTL이 없으면 기본 보관 기간)
+     */
+    private static Duration nearTtl(Object remainingMillis, Duration hardTtl) {
+        if (remainingMillis instanceof Long millis && millis > 0) {
+            Duration remaining = Duration.ofMillis(millis);
+            return remaining.compareTo(hardTtl) < 0 ? remaining : hardTtl;
+        }
+        return hardTtl;
+    }
     
     /**
      * 기간별 차트 키 생성
@@ -113,23 +376,27 @@ public class ChartCacheService {
     private String getChartKeyByPeriod(String period, String stockCode, String range) {
         return switch (period) {
             case "1d" -> RedisConstants.buildDailyChartKey(stockCode, range);
+            case "1w" -> RedisConstants.buildWeeklyChartKey(stockCode, range);
             case "1m" -> RedisConstants.buildMonthlyChartKey(stockCode, range);
             case "1y" -> RedisConstants.buildYearlyChartKey(stockCode, range);
-            case "1min" -> RedisConstants.buildMinuteChartKey(stockCode, range);
             default -> throw new IllegalArgumentException("Invalid chart period: " + period);
         };
     }
 
     /**
-     다음 자정(00:00)까지 캐싱데이터 유지
+     * 분봉 스크립트 인자: 기대 마지막 분, 새 마지막 분, 갱신 시각, TTL(ms), 인코딩된 캔들...
      */
-    private Duration resolveMinuteTtl() {
-        ZoneId kst = ZoneId.of("Asia/Seoul");
-        LocalDateTime now = LocalDateTime.now(kst);
-        // 항상 다음 자정(00:00 KST)까지 유지
-        LocalDateTime nextMidnight = now.toLocalDate().plusDays(1).atStartOfDay();
-        Duration ttl = Duration.between(now, nextMidnight);
-        return ttl.isNegative() ? Duration.ofMinutes(1) : ttl;
+    private Object[] minuteScriptArgs(byte[] expectedLast, String lastUpdated, List<CandleDataResponse> candles) {
+        String lastTime = candles.get(candles.size() - 1).time().replace(":", "");
+        Object[] args = new Object[4 + candles.size()];
+        args[0] = expectedLast;
+        args[1] = lastTime.getBytes(StandardCharsets.UTF_8);
+        args[2] = (lastUpdated != null ? lastUpdated : "").getBytes(StandardCharsets.UTF_8);
+        args[3] = String.valueOf(chartTtlPolicy.hardTtl(ChartKind.MINUTE).toMillis()).getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < candles.size(); i++) {
+            args[4 + i] = CandleBinaryCodec.encodeCandle(candles.get(i));
+        }
+        return args;
     }
 
 }
@@ -0,0 +1,169 @@
+package com.youthfi.finance.domain.stock.domain.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.youthfi.finance.domain.stock.application.dto.response.ChartDataResponse;
+import com.youthfi.finance.domain.stock.application.dto.response.IndexChartDataResponse;
+import com.youthfi.finance.global.config.RedisConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 차트 캐시 JVM 내부 1차 캐시 (Redis 앞단, 종목/지수 차트 공용)
+ * - 캔들 수 기준 가중치로 크기 제한, 항목별 TTL은 Redis TTL과 동일 (Redis에서 읽은 값은 남은 TTL까지만)
+ * - 저장/삭제 시 Redis pub/sub으로 다른 노드의 같은 키를 무효화 (자기 노드 메시지는 무시)
+ */
+@Slf4j
+@Component
+public class ChartNearCache implements MessageListener {
+
+    private final Cache<String, Entry> cache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    // 무효화 횟수, Redis 조회 중 무효화가 끼어들면 조회 결과를 1차 캐시에 넣지 않음
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ChartNearCache(RedisTemplate<String, String> redisTemplate,
+                          RedisMessageListenerContainer listenerContainer,
+                          ObjectProvider<MeterRegistry> meterRegistry,
+                          @Value("${chart.near-cache.max-candles:500000}") long maxCandles) {
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxCandles)
+                .weigher((String key, Entry entry) -> entry.weight())
+                .expireAfter(new EntryExpiry())
+                .recordStats()
+                .build();
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisConstants.CHART_INVALIDATION_CHANNEL));
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            CaffeineCacheMetrics.monitor(registry, cache, "chartNearCache");
+        }
+    }
+
+    public ChartDataResponse get(String key) {
+        return get(key, ChartDataResponse.class);
+    }
+
+    public IndexChartDataResponse getIndex(String key) {
+        return get(key, IndexChartDataResponse.class);
+    }
+
+    /**
+     * 무효화 기준값 (Redis 조회 전에 읽어 두고 putIfUnchanged에 전달)
+     */
+    public long snapshot() {
+        return invalidations.get();
+    }
+
+    /**
+     * Redis 조회 결과 적재 (조회하는 동안 무효화가 없었을 때만)
+     */
+    public void putIfUnchanged(String key, ChartDataResponse data, Duration ttl, long snapshot) {
+        if (data != null) {
+            putIfUnchanged(key, data, data.candles().size(), ttl, snapshot);
+        }
+    }
+
+    public void putIfUnchanged(String key, IndexChartDataResponse data, Duration ttl, long snapshot) {
+        if (data != null) {
+            putIfUnchanged(key, data, data.candles().size(), ttl, snapshot);
+        }
+    }
+
+    /**
+     * 저장한 값 적재 후 다른 노드에 무효화 전파
+     */
+    public void put(String key, ChartDataResponse data, Duration ttl) {
+        put(key, data, data.candles().size(), ttl);
+    }
+
+    public void put(String key, IndexChartDataResponse data, Duration ttl) {
+        put(key, data, data.candles().size(), ttl);
+    }
+
+    /**
+     * 로컬 삭제 후 다른 노드에 무효화 전파
+     */
+    public void evict(String key) {
+        invalidations.incrementAndGet();
+        cache.invalidate(key);
+        publish(key);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(' ');
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        String key = body.substring(separator + 1);
+        invalidations.incrementAndGet();
+        cache.invalidate(key);
+        log.debug("차트 1차 캐시 무효화 수신: key={}", key);
+    }
+
+    private <T> T get(String key, Class<T> type) {
+        Entry entry = cache.getIfPresent(key);
+        return entry != null ? type.cast(entry.data()) : null;
+    }
+
+    private void putIfUnchanged(String key, Object data, int candles, Duration ttl, long snapshot) {
+        if (invalidations.get() != snapshot) {
+            return;
+        }
+        cache.put(key, new Entry(data, candles + 1, ttl.toNanos()));
+    }
+
+    private void put(String key, Object data, int candles, Duration ttl) {
+        invalidations.incrementAndGet();
+        cache.put(key, new Entry(data, candles + 1, ttl.toNanos()));
+        publish(key);
+    }
+
+    private void publish(String key) {
+        try {
+            redisTemplate.convertAndSend(RedisConstants.CHART_INVALIDATION_CHANNEL, nodeId + " " + key);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 TTL 만료까지 이전 값을 볼 수 있음
+            log.warn("차트 1차 캐시 무효화 전파 실패: key={}", key, e);
+        }
+    }
+
+    private record Entry(Object data, int weight, long ttlNanos) {
+    }
+
+    private static final class EntryExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
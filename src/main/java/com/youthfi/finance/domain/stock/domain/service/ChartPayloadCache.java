@@ -0,0 +1,107 @@
+package com.youthfi.finance.domain.stock.domain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.youthfi.finance.domain.stock.application.dto.response.ChartDataResponse;
+import com.youthfi.finance.domain.stock.application.dto.response.IndexChartDataResponse;
+import com.youthfi.finance.global.common.BaseResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 차트 응답 본문 캐시 (BaseResponse JSON + gzip)
+ * - 캔들 리스트 인스턴스 기준(weak key)으로 보관, 1차 캐시에서 차트가 빠지면 함께 정리
+ * - 같은 캐시 값에 대한 직렬화/압축은 한 번만 수행
+ */
+@Component
+@RequiredArgsConstructor
+public class ChartPayloadCache {
+
+    private final ObjectMapper objectMapper;
+
+    private final Cache<List<?>, Slots> payloads = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
+
+    public Payload get(ChartDataResponse data) {
+        String version = String.join("|", data.stockCode(), data.period(), data.range(), String.valueOf(data.lastUpdated()));
+        return get(data.candles(), version, data.stale(), data);
+    }
+
+    public Payload get(IndexChartDataResponse data) {
+        String version = String.join("|", data.indexCode(), data.period(), data.range(), String.valueOf(data.lastUpdated()));
+        return get(data.candles(), version, data.stale(), data);
+    }
+
+    private Payload get(List<?> candles, String version, boolean stale, Object data) {
+        // 빈 리스트는 List.of() 공유 인스턴스라 키로 쓰지 않음
+        if (candles.isEmpty()) {
+            return serialize(data);
+        }
+        Slots slots = payloads.get(candles, key -> new Slots());
+        return slots.get(version, stale, () -> serialize(data));
+    }
+
+    private Payload serialize(Object data) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(BaseResponse.onSuccess(data));
+            return new Payload(json, gzip(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("차트 응답 직렬화 실패", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 직렬화된 응답 본문 (json: 원본, gzip: Content-Encoding gzip용)
+     */
+    public record Payload(byte[] json, byte[] gzip) {
+    }
+
+    /**
+     * 같은 캔들 리스트의 정상/stale 응답 본문
+     * - asStale()은 캔들 리스트를 그대로 공유하므로 한 슬롯에 같이 보관
+     */
+    private static final class Slots {
+
+        private String version;
+        private Payload fresh;
+        private Payload stale;
+
+        synchronized Payload get(String version, boolean isStale, Supplier<Payload> serializer) {
+            if (!version.equals(this.version)) {
+                this.version = version;
+                fresh = null;
+                stale = null;
+            }
+            if (isStale) {
+                if (stale == null) {
+                    stale = serializer.get();
+                }
+                return stale;
+            }
+            if (fresh == null) {
+                fresh = serializer.get();
+            }
+            return fresh;
+        }
+    }
+}
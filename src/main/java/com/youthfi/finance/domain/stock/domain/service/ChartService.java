@@ -1,13 +1,41 @@
 package com.youthfi.finance.domain.stock.domain.service;
 
+import com.youthfi.finance.domain.stock.application.dto.request.ChartBatchRequest;
 import com.youthfi.finance.domain.stock.application.dto.request.ChartRequest;
+import com.youthfi.finance.domain.stock.application.dto.response.CandleDataResponse;
+import com.youthfi.finance.domain.stock.application.dto.response.ChartBatchItemResponse;
 import com.youthfi.finance.domain.stock.application.dto.response.ChartDataResponse;
+import com.youthfi.finance.domain.stock.domain.service.CandleRollupService.RollupPeriod;
+import com.youthfi.finance.domain.stock.domain.service.ChartCacheMetrics.Result;
+import com.youthfi.finance.domain.stock.domain.service.ChartCacheMetrics.Trigger;
+import com.youthfi.finance.domain.stock.domain.service.ChartTtlPolicy.ChartKind;
 import com.youthfi.finance.domain.stock.infra.KisChartApiClient;
+import com.youthfi.finance.global.common.SingleFlight;
+import com.youthfi.finance.global.exception.RestApiException;
 import com.youthfi.finance.global.exception.StockException;
+import com.youthfi.finance.global.exception.code.status.StockErrorStatus;
+import com.youthfi.finance.global.service.MarketCalendar;
+import com.youthfi.finance.global.service.RedisLeaseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
  * 차트 데이터 서비스 (캐시 + KIS API)
  */
@@ -16,51 +44,162 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ChartService {
 
+    private static final int STORE_COVERAGE_SLACK_DAYS = 7;
+    // 기본 일봉 차트 범위 (캐시 키 60d)
+    private static final int DEFAULT_DAILY_DAYS = 60;
+    // 일봉 구간 조회 한도 (이보다 이전 구간은 KIS 윈도우 조회가 과도해 거절)
+    public static final int MAX_DAILY_DAYS = 3650;
+    // 다종목 조회 종목별 대기 한도 (초과 시 해당 종목만 실패로 반환)
+    private static final long BATCH_ITEM_TIMEOUT_SECONDS = 10;
+    // 분봉 조회 기준 시각 (날짜 생략 시 당일)
+    private static final Pattern MINUTE_CURSOR = Pattern.compile("(?:(\\d{4}-\\d{2}-\\d{2})[T ])?(\\d{2}:\\d{2})");
+
     private final ChartCacheService chartCacheService;
     private final KisChartApiClient kisChartApiClient;
+    private final RedisLeaseService redisLeaseService;
+    private final MinuteBarAggregator minuteBarAggregator;
+    private final StockCandleService stockCandleService;
+    private final CandleRollupService candleRollupService;
+    private final MarketCalendar marketCalendar;
+    private final ChartCacheMetrics chartCacheMetrics;
+    private final ChartCacheLoader chartCacheLoader;
+    @Qualifier("chartBatchExecutor")
+    private final ThreadPoolTaskExecutor chartBatchExecutor;
+    private final SingleFlight<String, ChartDataResponse> chartLoadFlight = new SingleFlight<>();
     
     /**
      * 차트 데이터 조회 (캐시 우선)
+     * - 같은 (종목, 주기, 범위)의 동시 요청은 한 번의 KIS 조회/캐시 저장을 공유
      */
     public ChartDataResponse getChartData(ChartRequest request) {
         if (!request.isValidPeriod() || !request.isValidRange()) {
             log.warn("유효하지 않은 요청: {}", request);
             return ChartDataResponse.empty(request.stockCode(), request.period(), request.range());
         }
-        
+
+        return chartLoadFlight.execute(buildLoadKey(request), () -> loadChartData(request));
+    }
+
+    private ChartDataResponse loadChartData(ChartRequest request) {
         // 1. 캐시에서 조회
+        ChartKind kind = ChartKind.of(request.period());
         ChartDataResponse cachedData = getCachedData(request);
         if ("1min".equals(request.period()) && cachedData != null && cachedData.candles() != null && !cachedData.candles().isEmpty()) {
             // 분봉: 스냅샷 + 증분 병합
-            String lastHHmm = cachedData.candles().get(cachedData.candles().size() - 1).time().replace(":", "");
-            ChartDataResponse incremental = kisChartApiClient.getMinuteChartSince(request.stockCode(), lastHHmm);
-            if (incremental != null && incremental.candles() != null && !incremental.candles().isEmpty()) {
-                java.util.List<com.youthfi.finance.domain.stock.application.dto.response.CandleDataResponse> merged = new java.util.ArrayList<>(cachedData.candles());
-                merged.addAll(incremental.candles());
-                ChartDataResponse mergedResp = new ChartDataResponse(
-                        request.stockCode(),
-                        request.period(),
-                        request.range(),
-                        merged,
-                        incremental.lastUpdated()
-                );
-                saveToCache(request, mergedResp);
-                return mergedResp;
-            }
-            return cachedData;
+            chartCacheMetrics.request(kind, Result.HIT);
+            return mergeMinuteIncrement(request, cachedData);
         }
         if (cachedData != null && !cachedData.candles().isEmpty()) {
+            if (chartCacheService.isSoftExpired(cachedData)) {
+                // 갱신 주기가 지났으면 이전 값을 바로 반환하고 백그라운드에서 한 번만 갱신
+                chartCacheMetrics.request(kind, Result.STALE);
+                refreshInBackground(request);
+                return cachedData.asStale();
+            }
             log.debug("캐시에서 데이터 반환: {}", request);
+            chartCacheMetrics.request(kind, Result.HIT);
+            return cachedData;
+        }
+
+        // 2. KIS API에서 조회 (스냅샷 생성) 후 캐시에 저장
+        chartCacheMetrics.request(kind, Result.MISS);
+        return fetchAndCache(request);
+    }
+
+    /**
+     * 분봉 증분 병합 (새 봉만 캐시 리스트에 추가, 다른 노드가 갱신 중이면 보유 스냅샷 반환)
+     */
+    private ChartDataResponse mergeMinuteIncrement(ChartRequest request, ChartDataResponse cachedData) {
+        if (isFinalMinuteSnapshot(cachedData)) {
+            return cachedData;
+        }
+        String leaseName = buildLoadKey(request);
+        String leaseToken = redisLeaseService.tryAcquire(leaseName, ChartCacheLoader.LOAD_LEASE_TTL);
+        if (leaseToken == null) {
+            log.debug("다른 노드에서 분봉 증분 갱신 중, 스냅샷 반환: {}", request);
             return cachedData;
         }
 
-        // 2. KIS API에서 조회 (스냅샷 생성)
-        ChartDataResponse apiData = getApiData(request);
+        try {
+            String lastHHmm = cachedData.candles().get(cachedData.candles().size() - 1).time().replace(":", "");
+            ChartDataResponse incremental;
+            chartCacheMetrics.load(ChartKind.MINUTE, Trigger.INCREMENT);
+            try {
+                incremental = kisChartApiClient.getMinuteChartSince(request.stockCode(), lastHHmm);
+            } catch (StockException e) {
+                log.warn("분봉 증분 조회 실패, 보유 스냅샷 반환: {}", request, e);
+                return cachedData.asStale();
+            }
+            if (incremental == null || incremental.candles() == null || incremental.candles().isEmpty()) {
+                return cachedData;
+            }
+
+            List<CandleDataResponse> merged = new ArrayList<>(cachedData.candles().size() + incremental.candles().size());
+            merged.addAll(cachedData.candles());
+            merged.addAll(incremental.candles());
+            ChartDataResponse mergedResp = new ChartDataResponse(
+                    request.stockCode(),
+                    request.period(),
+                    request.range(),
+                    merged,
+                    incremental.lastUpdated()
+            );
+            try {
+                long size = chartCacheService.appendMinuteCandles(
+                        request.stockCode(), lastHHmm, incremental.candles(), incremental.lastUpdated());
+                if (size != merged.size()) {
+                    // 읽은 뒤 캐시가 바뀌었으면(재생성/삭제) 병합본으로 교체
+                    chartCacheService.saveMinuteChart(request.stockCode(), mergedResp);
+                }
+            } catch (Exception e) {
+                log.warn("분봉 증분 캐시 추가 실패: {}", request, e);
+            }
+            return mergedResp;
+        } finally {
+            redisLeaseService.release(leaseName, leaseToken);
+        }
+    }
 
-        // 3. 캐시에 저장
-        saveToCache(request, apiData);
+    /**
+     * 장이 닫혀 있고 마지막 마감 이후 갱신된 분봉이면 더 받을 봉이 없음 (야간/휴장일 KIS 호출 방지)
+     */
+    private boolean isFinalMinuteSnapshot(ChartDataResponse cachedData) {
+        LocalDateTime now = marketCalendar.now();
+        if (marketCalendar.isOpen(now) || cachedData.lastUpdated() == null) {
+            return false;
+        }
+        LocalDate lastSession = marketCalendar.lastClosedTradingDay(now, Duration.ZERO);
+        try {
+            return !LocalDateTime.parse(cachedData.lastUpdated())
+                    .isBefore(lastSession.atTime(marketCalendar.closeTime(lastSession)));
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 백그라운드 캐시 갱신 (노드 내 키별 1회, 다른 노드가 갱신 중이면 생략)
+     */
+    private void refreshInBackground(ChartRequest request) {
+        chartCacheLoader.refreshInBackground(buildLoadKey(request), ChartKind.of(request.period()),
+                () -> getApiData(request), data -> saveToCache(request, data));
+    }
+
+    /**
+     * KIS 조회 후 캐시 저장 (임대를 획득한 노드만 조회, 나머지는 캐시 채워질 때까지 대기)
+     */
+    private ChartDataResponse fetchAndCache(ChartRequest request) {
+        return chartCacheLoader.load(buildLoadKey(request), ChartKind.of(request.period()),
+                () -> {
+                    ChartDataResponse cachedData = getCachedData(request);
+                    return cachedData != null && cachedData.candles() != null && !cachedData.candles().isEmpty()
+                            ? cachedData : null;
+                },
+                () -> getApiData(request), data -> saveToCache(request, data));
+    }
 
-        return apiData;
+    private String buildLoadKey(ChartRequest request) {
+        return "chart:" + request.period() + ":" + request.stockCode() + ":" + request.range();
     }
     
     /**
@@ -71,6 +210,14 @@ public class ChartService {
         return getChartData(request);
     }
     
+    /**
+     * 주봉 데이터 조회 (1년)
+     */
+    public ChartDataResponse getWeeklyChart(String stockCode) {
+        ChartRequest request = new ChartRequest(stockCode, "1w", "1y");
+        return getChartData(request);
+    }
+    
     /**
      * 월봉 데이터 조회 (5년)
      */
@@ -87,12 +234,211 @@ public class ChartService {
         return getChartData(request);
     }
     
+    /**
+     * 최근 days일 일봉 조회 (기본 일봉 범위 안이면 캐시된 기본 일봉을 잘라서 반환)
+     */
+    public ChartDataResponse getDailyChart(String stockCode, int days) {
+        LocalDate today = marketCalendar.today();
+        if (days < 1 || days > MAX_DAILY_DAYS) {
+            throw StockException.invalidChartRange(today.minusDays(days), today);
+        }
+        return getDailyChartWindow(stockCode, today.minusDays(days), today, days + "d");
+    }
+
+    /**
+     * 일봉 구간 조회 [from, to] (to 생략 시 오늘, from은 오늘로부터 MAX_DAILY_DAYS일 이내)
+     */
+    public ChartDataResponse getDailyChart(String stockCode, LocalDate from, LocalDate to) {
+        LocalDate today = marketCalendar.today();
+        LocalDate end = to == null || to.isAfter(today) ? today : to;
+        if (from == null || from.isAfter(end) || from.isBefore(today.minusDays(MAX_DAILY_DAYS))) {
+            throw StockException.invalidChartRange(from, to);
+        }
+        return getDailyChartWindow(stockCode, from, end, from + "~" + end);
+    }
+
+    /**
+     * 구간을 덮는 가장 넓은 시계열을 잘라서 반환
+     * 1. 기본 일봉 범위 안: 기본 일봉(캐시 우선)
+     * 2. 그 이전 구간: 확정 일봉 저장소 (저장소 이후 최근 구간은 기본 일봉에서 병합)
+     * 3. 어느 쪽도 덮지 못하는 구간만 KIS 조회 후 확정 봉 저장
+     */
+    private ChartDataResponse getDailyChartWindow(String stockCode, LocalDate from, LocalDate to, String range) {
+        LocalDate defaultStart = marketCalendar.today().minusDays(DEFAULT_DAILY_DAYS);
+        if (!from.isBefore(defaultStart)) {
+            return getDailyChart(stockCode).slice(from.toString(), to.toString(), range);
+        }
+
+        ChartDataResponse stored = getDailyWindowFromStore(stockCode, from, to, defaultStart, range, true);
+        if (stored != null) {
+            return stored;
+        }
+
+        // 저장소가 최근까지 이어져 있으면 저장소 앞부분만 채움 (저장소 일봉은 끊김 없이 유지)
+        LocalDate earliest = stockCandleService.findEarliestDailyDate(stockCode).orElse(null);
+        LocalDate latest = stockCandleService.findLatestDailyDate(stockCode).orElse(null);
+        boolean extendStore = earliest != null && latest != null && !latest.isBefore(defaultStart);
+        LocalDate fetchTo = extendStore ? earliest.minusDays(1) : marketCalendar.today();
+        log.debug("일봉 구간을 덮는 캐시/저장소 없음, KIS 기간 조회: stockCode={}, range={}, fetch={}~{}",
+                stockCode, range, from, fetchTo);
+        ChartDataResponse apiData = kisChartApiClient.getDailyChart(stockCode, from, fetchTo);
+        storeDailyCandles(stockCode, apiData.candles());
+        recordHistoryStart(stockCode, from, apiData.candles(), extendStore ? earliest : null);
+        if (extendStore) {
+            // 상장 전 구간처럼 KIS에도 없는 앞부분은 저장소에 있는 구간만 반환
+            stored = getDailyWindowFromStore(stockCode, from, to, defaultStart, range, false);
+            if (stored != null) {
+                return stored;
+            }
+        }
+        return apiData.slice(from.toString(), to.toString(), range);
+    }
+
+    /**
+     * 저장소 구간 조회 (구간 시작을 덮지 못하거나 최근 구간을 기본 일봉으로 채울 수 없으면 null)
+     * @param requireStart false면 저장소가 구간 시작을 덮지 못해도 있는 구간만 반환
+     */
+    private ChartDataResponse getDailyWindowFromStore(String stockCode, LocalDate from, LocalDate to,
+                                                      LocalDate defaultStart, String range, boolean requireStart) {
+        LocalDate earliest = stockCandleService.findEarliestDailyDate(stockCode).orElse(null);
+        if (earliest == null || (requireStart && !storeCoversStart(stockCode, earliest, firstSession(from)))) {
+            return null;
+        }
+        LocalDate latest = stockCandleService.findLatestDailyDate(stockCode).orElse(earliest);
+        List<CandleDataResponse> stored = stockCandleService.getDailyCandles(stockCode, from, to);
+        if (marketCalendar.nextTradingDay(latest).isAfter(to)) {
+            return new ChartDataResponse(stockCode, "1d", range, stored,
+                    latest.atTime(marketCalendar.closeTime(latest)).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        }
+        if (latest.isBefore(defaultStart)) {
+            return null;
+        }
+
+        ChartDataResponse recent = getDailyChart(stockCode).slice(latest.plusDays(1).toString(), to.toString(), range);
+        List<CandleDataResponse> merged = new ArrayList<>(recent.candles().size() + stored.size());
+        merged.addAll(recent.candles()); // 최신순 유지
+        merged.addAll(stored);
+        return new ChartDataResponse(stockCode, "1d", range, merged, recent.lastUpdated(), recent.stale());
+    }
+
+    /**
+     * 저장소가 구간 시작을 덮는지 (저장소 시작일이 KIS 일봉 이력 시작일이면 그 이전 구간은 없으므로 덮은 것으로 판단)
+     */
+    private boolean storeCoversStart(String stockCode, LocalDate earliest, LocalDate start) {
+        if (!earliest.isAfter(start)) {
+            return true;
+        }
+        return stockCandleService.findDailyHistoryStart(stockCode)
+                .map(historyStart -> !earliest.isAfter(historyStart))
+                .orElse(false);
+    }
+
+    /**
+     * KIS가 요청 구간 앞부분을 반환하지 않았으면(상장 전 구간) 이력 시작일 기록 (같은 구간 재조회 방지)
+     * @param storeEarliest 조회 구간 바로 뒤에 이어지는 저장소 시작일 (조회 결과가 비었을 때 이력 시작일)
+     */
+    private void recordHistoryStart(String stockCode, LocalDate from, List<CandleDataResponse> fetched, LocalDate storeEarliest) {
+        LocalDate oldest = fetched.isEmpty() ? storeEarliest : LocalDate.parse(fetched.get(fetched.size() - 1).date());
+        if (oldest != null && oldest.isAfter(firstSession(from))) {
+            stockCandleService.markDailyHistoryStart(stockCode, oldest);
+        }
+    }
+
+    /**
+     * 확정 일봉 저장 (저장 실패는 로그만 남김, 조회 결과는 이미 받았으므로 응답은 실패시키지 않음)
+     */
+    private void storeDailyCandles(String stockCode, List<CandleDataResponse> candles) {
+        try {
+            stockCandleService.saveDailyCandles(stockCode, candles);
+        } catch (Exception e) {
+            log.warn("확정 일봉 저장 실패: stockCode={}", stockCode, e);
+        }
+    }
+
+    private LocalDate firstSession(LocalDate from) {
+        return marketCalendar.isTradingDay(from) ? from : marketCalendar.nextTradingDay(from);
+    }
+
+    /**
+     * 다종목 차트 조회
+     * - 캐시는 한 번에 조회 (1차 캐시 → Redis MGET), 캐시 없는 종목만 다종목 조회 전용 스레드풀에서 동시 조회
+     * - 종목별 실패/대기 시간 초과는 해당 항목에만 기록 (전체 실패로 처리하지 않음)
+     */
+    public List<ChartBatchItemResponse> getCharts(ChartBatchRequest request) {
+        String period = request.periodOrDefault();
+        String range = defaultRange(period);
+        ChartKind kind = ChartKind.of(period);
+        List<String> stockCodes = request.stockCodes().stream().distinct().toList();
+        Map<String, ChartDataResponse> cached = chartCacheService.getCharts(period, range, stockCodes);
+
+        List<CompletableFuture<ChartBatchItemResponse>> futures = new ArrayList<>(stockCodes.size());
+        for (String stockCode : stockCodes) {
+            ChartRequest itemRequest = new ChartRequest(stockCode, period, range);
+            ChartDataResponse cachedData = cached.get(stockCode);
+            if (cachedData != null && !cachedData.candles().isEmpty()) {
+                if (chartCacheService.isSoftExpired(cachedData)) {
+                    chartCacheMetrics.request(kind, Result.STALE);
+                    refreshInBackground(itemRequest);
+                    cachedData = cachedData.asStale();
+                } else {
+                    chartCacheMetrics.request(kind, Result.HIT);
+                }
+                futures.add(CompletableFuture.completedFuture(ChartBatchItemResponse.success(stockCode, limit(cachedData, request.last()))));
+                continue;
+            }
+            chartCacheMetrics.request(kind, Result.MISS);
+            futures.add(CompletableFuture.supplyAsync(() -> loadBatchItem(itemRequest, request.last()), chartBatchExecutor)
+                    .completeOnTimeout(batchItemTimeout(stockCode), BATCH_ITEM_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+
+        List<ChartBatchItemResponse> result = futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+        log.info("다종목 차트 조회 완료 - 기간: {}, 종목 수: {}, 캐시: {}", period, result.size(), cached.size());
+        return result;
+    }
+
+    private ChartBatchItemResponse loadBatchItem(ChartRequest request, Integer last) {
+        try {
+            ChartDataResponse data = chartLoadFlight.execute(buildLoadKey(request), () -> fetchAndCache(request));
+            return ChartBatchItemResponse.success(request.stockCode(), limit(data, last));
+        } catch (RestApiException e) {
+            log.warn("종목 차트 조회 실패 - 종목코드: {}, 코드: {}", request.stockCode(), e.getErrorCode().getCode());
+            return ChartBatchItemResponse.failure(request.stockCode(), e.getErrorCode().getCode(), e.getErrorCode().getMessage());
+        } catch (Exception e) {
+            log.warn("종목 차트 조회 실패 - 종목코드: {}", request.stockCode(), e);
+            return ChartBatchItemResponse.failure(request.stockCode(),
+                    StockErrorStatus.CHART_DATA_FETCH_FAILED.getCode().getCode(),
+                    StockErrorStatus.CHART_DATA_FETCH_FAILED.getCode().getMessage());
+        }
+    }
+
+    private static ChartBatchItemResponse batchItemTimeout(String stockCode) {
+        return ChartBatchItemResponse.failure(stockCode,
+                StockErrorStatus.CHART_DATA_FETCH_FAILED.getCode().getCode(),
+                StockErrorStatus.CHART_DATA_FETCH_FAILED.getCode().getMessage());
+    }
+
+    private static ChartDataResponse limit(ChartDataResponse data, Integer last) {
+        return last != null ? data.latest(last) : data;
+    }
+
+    private static String defaultRange(String period) {
+        return switch (period) {
+            case "1w" -> "1y";
+            case "1m" -> "5y";
+            case "1y" -> "10y";
+            default -> "60d";
+        };
+    }
+
     /**
      * 캐시에서 데이터 조회
      */
     private ChartDataResponse getCachedData(ChartRequest request) {
         return switch (request.period()) {
             case "1d" -> chartCacheService.getDailyChart(request.stockCode(), request.range());
+            case "1w" -> chartCacheService.getWeeklyChart(request.stockCode(), request.range());
             case "1m" -> chartCacheService.getMonthlyChart(request.stockCode(), request.range());
             case "1y" -> chartCacheService.getYearlyChart(request.stockCode(), request.range());
             case "1min" -> chartCacheService.getMinuteChart(request.stockCode());
@@ -105,17 +451,21 @@ public class ChartService {
      */
     private ChartDataResponse getApiData(ChartRequest request) {
         return switch (request.period()) {
-            case "1d" -> {
-                int days = extractDays(request.range());
-                yield kisChartApiClient.getDailyChart(request.stockCode(), days);
+            case "1d" -> getDailyChartFromStore(request.stockCode(), extractDays(request.range()));
+            case "1w" -> {
+                int years = extractYears(request.range());
+                ChartDataResponse rollup = getRollupChart(request, RollupPeriod.WEEKLY, marketCalendar.today().minusYears(years));
+                yield rollup != null ? rollup : kisChartApiClient.getWeeklyChart(request.stockCode(), years);
             }
             case "1m" -> {
                 int years = extractYears(request.range());
-                yield kisChartApiClient.getMonthlyChart(request.stockCode(), years);
+                ChartDataResponse rollup = getRollupChart(request, RollupPeriod.MONTHLY, marketCalendar.today().minusYears(years));
+                yield rollup != null ? rollup : kisChartApiClient.getMonthlyChart(request.stockCode(), years);
             }
             case "1y" -> {
                 int years = extractYears(request.range());
-                yield kisChartApiClient.getYearlyChart(request.stockCode(), years);
+                ChartDataResponse rollup = getRollupChart(request, RollupPeriod.YEARLY, marketCalendar.today().minusYears(years - 1L));
+                yield rollup != null ? rollup : kisChartApiClient.getYearlyChart(request.stockCode(), years);
             }
             case "1min" -> kisChartApiClient.getMinuteChart(request.stockCode());
             
@@ -123,6 +473,81 @@ public class ChartService {
         };
     }
     
+    /**
+     * 저장된 일봉으로 주/월/연봉 집계 (저장소가 범위를 덮지 못하면 null)
+     * - 저장소에 아직 없는 당일(진행 중) 봉은 캐시된 기본 일봉에서 가져와 진행 중인 구간에 합산
+     */
+    private ChartDataResponse getRollupChart(ChartRequest request, RollupPeriod period, LocalDate from) {
+        List<CandleDataResponse> candles = candleRollupService.getRollup(request.stockCode(), period, from,
+                () -> recentDailyCandles(request.stockCode()));
+        if (candles == null || candles.isEmpty()) {
+            return null;
+        }
+        return new ChartDataResponse(request.stockCode(), request.period(), request.range(), candles,
+                marketCalendar.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+    }
+
+    /**
+     * 기본 일봉 (캐시 우선, 조회 실패 시 빈 목록으로 저장된 일봉만 집계)
+     */
+    private List<CandleDataResponse> recentDailyCandles(String stockCode) {
+        try {
+            return getDailyChart(stockCode).candles();
+        } catch (Exception e) {
+            log.warn("최근 일봉 조회 실패, 저장된 일봉으로만 집계: stockCode={}", stockCode, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 일봉 조회 (확정 일봉 저장소 우선)
+     * - 저장소가 범위를 덮으면 마지막 저장일 이후 구간만 KIS에서 조회해 병합
+     * - 저장소가 비었거나 범위 앞부분이 없으면 전체 조회 후 확정 봉 저장
+     */
+    private ChartDataResponse getDailyChartFromStore(String stockCode, int days) {
+        LocalDate today = marketCalendar.today();
+        LocalDate from = today.minusDays(days);
+        String range = days + "d";
+        LocalDate latest = stockCandleService.findLatestDailyDate(stockCode).orElse(null);
+        LocalDate earliest = stockCandleService.findEarliestDailyDate(stockCode).orElse(null);
+
+        // 연휴를 감안해 범위 시작 후 일주일 이내 봉이 있으면 범위를 덮은 것으로 판단
+        if (latest == null || !storeCoversStart(stockCode, earliest, from.plusDays(STORE_COVERAGE_SLACK_DAYS))) {
+            ChartDataResponse apiData = kisChartApiClient.getDailyChart(stockCode, days);
+            storeDailyCandles(stockCode, apiData.candles());
+            recordHistoryStart(stockCode, from.plusDays(STORE_COVERAGE_SLACK_DAYS), apiData.candles(), null);
+            return apiData;
+        }
+
+        List<CandleDataResponse> stored = stockCandleService.getDailyCandles(stockCode, from, today);
+        int gapDays = (int) ChronoUnit.DAYS.between(latest, today);
+        if (gapDays <= 0) {
+            return new ChartDataResponse(stockCode, "1d", range, stored,
+                    marketCalendar.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        }
+
+        ChartDataResponse recent;
+        try {
+            // 장기간 갱신되지 않았어도 저장소가 끊기지 않도록 기간 조회 (1회 조회 한도를 넘으면 윈도우로 나눠 조회)
+            recent = kisChartApiClient.getDailyChart(stockCode, latest.plusDays(1), today);
+        } catch (StockException e) {
+            // KIS 장애 시 저장된 확정 일봉만 반환
+            log.warn("최근 일봉 조회 실패, 저장된 일봉 반환: stockCode={}", stockCode, e);
+            return new ChartDataResponse(stockCode, "1d", range, stored,
+                    latest.atTime(marketCalendar.closeTime(latest)).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME), true);
+        }
+        String latestDate = latest.toString();
+        List<CandleDataResponse> merged = new ArrayList<>(stored.size() + gapDays);
+        for (CandleDataResponse candle : recent.candles()) {
+            if (candle.date().compareTo(latestDate) > 0) {
+                merged.add(candle); // 최신순 유지
+            }
+        }
+        merged.addAll(stored);
+        storeDailyCandles(stockCode, recent.candles());
+        return new ChartDataResponse(stockCode, "1d", range, merged, recent.lastUpdated());
+    }
+
     /**
      * 캐시에 데이터 저장
      */
@@ -133,6 +558,7 @@ public class ChartService {
         
         switch (request.period()) {
             case "1d" -> chartCacheService.saveDailyChart(request.stockCode(), request.range(), data);
+            case "1w" -> chartCacheService.saveWeeklyChart(request.stockCode(), request.range(), data);
             case "1m" -> chartCacheService.saveMonthlyChart(request.stockCode(), request.range(), data);
             case "1y" -> chartCacheService.saveYearlyChart(request.stockCode(), request.range(), data);
             case "1min" -> chartCacheService.saveMinuteChart(request.stockCode(), data);
@@ -143,8 +569,68 @@ public class ChartService {
      * 분봉 데이터 조회 (today)
      */
     public ChartDataResponse getMinuteChart(String stockCode) {
-        ChartRequest request = new ChartRequest(stockCode, "1min", "today");
-        return getChartData(request);
+        return getMinuteChart(stockCode, 1);
+    }
+
+    /**
+     * N분봉 데이터 조회 (today)
+     * - 실시간 집계 중인 종목은 메모리 집계 결과를 바로 반환 (KIS 호출 없음)
+     * - 실시간 수신 중이나 장 초반 봉이 없으면 REST 분봉으로 보강 후 집계 결과 반환
+     */
+    public ChartDataResponse getMinuteChart(String stockCode, int intervalMinutes) {
+        if (!MinuteBarAggregator.isSupportedInterval(intervalMinutes)) {
+            throw StockException.invalidChartPeriod(intervalMinutes + "min");
+        }
+        if (minuteBarAggregator.isComplete(stockCode)) {
+            return minuteBarAggregator.getMinuteChart(stockCode, intervalMinutes);
+        }
+
+        ChartDataResponse minuteChart = getChartData(new ChartRequest(stockCode, "1min", "today"));
+        if (minuteBarAggregator.needsBackfill(stockCode)) {
+            minuteBarAggregator.backfill(stockCode, minuteChart.candles());
+            return minuteBarAggregator.getMinuteChart(stockCode, intervalMinutes);
+        }
+        if (intervalMinutes == 1) {
+            return minuteChart;
+        }
+        return new ChartDataResponse(
+                stockCode,
+                intervalMinutes + "min",
+                minuteChart.range(),
+                MinuteBarAggregator.rollup(minuteChart.candles(), intervalMinutes),
+                minuteChart.lastUpdated()
+        );
+    }
+    
+    /**
+     * 클라이언트가 가진 마지막 캔들 이후 N분봉 조회 (마지막 캔들 포함)
+     * @param since 마지막 캔들 시각 (yyyy-MM-ddTHH:mm 또는 HH:mm)
+     */
+    public ChartDataResponse getMinuteChartSince(String stockCode, int intervalMinutes, String since) {
+        Matcher cursor = MINUTE_CURSOR.matcher(since);
+        if (!cursor.matches()) {
+            throw StockException.invalidChartCursor(since);
+        }
+        return getMinuteChart(stockCode, intervalMinutes).since(cursor.group(1), cursor.group(2));
+    }
+    
+    /**
+     * 당일 1분봉 마지막 N개 조회 (캐시 리스트 끝부분만 읽음, 실시간 집계 중이거나 캐시가 없으면 전체 조회 후 자름)
+     */
+    public ChartDataResponse getMinuteChartTail(String stockCode, int count) {
+        if (!minuteBarAggregator.isComplete(stockCode)) {
+            ChartDataResponse tail = chartCacheService.getMinuteChartTail(stockCode, count);
+            if (tail != null) {
+                return tail;
+            }
+        }
+        ChartDataResponse minuteChart = getMinuteChart(stockCode, 1);
+        List<CandleDataResponse> candles = minuteChart.candles();
+        if (candles.size() <= count) {
+            return minuteChart;
+        }
+        return new ChartDataResponse(stockCode, minuteChart.period(), minuteChart.range(),
+                new ArrayList<>(candles.subList(candles.size() - count, candles.size())), minuteChart.lastUpdated());
     }
     
     /**
@@ -0,0 +1,117 @@
+package com.youthfi.finance.domain.stock.domain.service;
+
+import com.youthfi.finance.global.service.MarketCalendar;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * 차트 캐시 만료 정책 (장 상태 기준)
+ * - 장중(마감 직후 포함) 저장분: 저장 시각 + 주기별 장중 갱신 주기 (진행 중인 마지막 봉 반영)
+ * - 장 외 저장분: 다음 개장까지 갱신하지 않음
+ * - 보관 기간(hard): 장중에는 주기별 기본값, 장 외에는 다음 개장 + 기본값
+ */
+@Component
+@RequiredArgsConstructor
+public class ChartTtlPolicy {
+
+    // 마감 직후 저장분은 종가 확정 전일 수 있어 장중 저장분으로 취급
+    private static final Duration CLOSE_SETTLE = Duration.ofMinutes(10);
+    private static final Duration MIN_TTL = Duration.ofMinutes(1);
+
+    private final MarketCalendar marketCalendar;
+
+    /**
+     * 캐시 대상 차트 종류 (장중 갱신 주기, 기본 보관 기간)
+     */
+    public enum ChartKind {
+        DAILY(Duration.ofMinutes(5), Duration.ofHours(6)),
+        WEEKLY(Duration.ofMinutes(10), Duration.ofHours(6)),
+        MONTHLY(Duration.ofMinutes(30), Duration.ofDays(3)),
+        YEARLY(Duration.ofHours(1), Duration.ofDays(30)),
+        // 분봉은 증분 병합으로 갱신하므로 갱신 주기 없음, 다음 개장까지 보관
+        MINUTE(null, Duration.ZERO),
+        INDEX_DAILY(Duration.ofMinutes(1), Duration.ofDays(1)),
+        INDEX_WEEKLY(Duration.ofMinutes(5), Duration.ofDays(1)),
+        INDEX_MONTHLY(Duration.ofMinutes(10), Duration.ofDays(1));
+
+        private final Duration sessionTtl;
+        private final Duration hardTtl;
+
+        ChartKind(Duration sessionTtl, Duration hardTtl) {
+            this.sessionTtl = sessionTtl;
+            this.hardTtl = hardTtl;
+        }
+
+        /**
+         * 종목 차트 주기 (1d, 1w, 1m, 1y, 1min)
+         */
+        public static ChartKind of(String period) {
+            return switch (period) {
+                case "1d" -> DAILY;
+                case "1w" -> WEEKLY;
+                case "1m" -> MONTHLY;
+                case "1y" -> YEARLY;
+                case "1min" -> MINUTE;
+                default -> throw new IllegalArgumentException("Invalid chart period: " + period);
+            };
+        }
+
+        /**
+         * 지수 차트 주기 (D, W, M)
+         */
+        public static ChartKind ofIndex(String period) {
+            return switch (period) {
+                case "W" -> INDEX_WEEKLY;
+                case "M" -> INDEX_MONTHLY;
+                default -> INDEX_DAILY;
+            };
+        }
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * 갱신 주기 경과 여부 (lastUpdated를 해석할 수 없으면 만료되지 않은 것으로 판단)
+     */
+    public boolean isSoftExpired(ChartKind kind, String lastUpdated) {
+        if (kind.sessionTtl == null || lastUpdated == null) {
+            return false;
+        }
+        LocalDateTime updatedAt;
+        try {
+            updatedAt = LocalDateTime.parse(lastUpdated);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+        return !marketCalendar.now().isBefore(softExpiresAt(kind, updatedAt));
+    }
+
+    /**
+     * 갱신 시각
+     */
+    public LocalDateTime softExpiresAt(ChartKind kind, LocalDateTime updatedAt) {
+        if (kind.sessionTtl != null
+                && (marketCalendar.isOpen(updatedAt) || marketCalendar.isOpen(updatedAt.minus(CLOSE_SETTLE)))) {
+            return updatedAt.plus(kind.sessionTtl);
+        }
+        return marketCalendar.nextOpen(updatedAt);
+    }
+
+    /**
+     * Redis/1차 캐시 보관 기간 (장 외에는 다음 개장까지 더 보관해 개장 직후에도 이전 값을 반환할 수 있게 함)
+     */
+    public Duration hardTtl(ChartKind kind) {
+        LocalDateTime now = marketCalendar.now();
+        Duration ttl = marketCalendar.isOpen(now) && kind != ChartKind.MINUTE
+                ? kind.hardTtl
+                : Duration.between(now, marketCalendar.nextOpen(now)).plus(kind.hardTtl);
+        return ttl.compareTo(MIN_TTL) < 0 ? MIN_TTL : ttl;
+    }
+}
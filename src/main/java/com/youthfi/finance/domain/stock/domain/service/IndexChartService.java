@@ -2,21 +2,35 @@ package com.youthfi.finance.domain.stock.domain.service;
 
 import com.youthfi.finance.domain.stock.application.dto.request.IndexChartRequest;
 import com.youthfi.finance.domain.stock.application.dto.response.IndexChartDataResponse;
+import com.youthfi.finance.domain.stock.domain.service.ChartCacheMetrics.Result;
+import com.youthfi.finance.domain.stock.domain.service.ChartTtlPolicy.ChartKind;
 import com.youthfi.finance.domain.stock.infra.KisIndexChartApiClient;
-import com.youthfi.finance.global.exception.StockException;
+import com.youthfi.finance.global.common.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
- * 지수 차트 데이터 서비스
+ * 지수 차트 데이터 서비스 (캐시 + KIS API)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class IndexChartService {
 
+    private static final List<String> INDEX_CODES = List.of("0001", "1001");
+    private static final List<String> PERIODS = List.of("D", "W", "M");
+
     private final KisIndexChartApiClient kisIndexChartApiClient;
+    private final ChartCacheService chartCacheService;
+    private final ChartCacheMetrics chartCacheMetrics;
+    private final ChartCacheLoader chartCacheLoader;
+    private final SingleFlight<String, IndexChartDataResponse> indexLoadFlight = new SingleFlight<>();
     
     /**
      * 지수 차트 데이터 조회
@@ -41,7 +55,7 @@ public class IndexChartService {
     public IndexChartDataResponse getDailyIndexChart(String indexCode) {
         log.info("지수 일봉 데이터 조회 요청 - 지수코드: {}", indexCode);
         
-        IndexChartDataResponse response = kisIndexChartApiClient.getDailyIndexChart(indexCode);
+        IndexChartDataResponse response = getCachedOrLoad(indexCode, "D");
         
         log.info("지수 일봉 데이터 조회 완료 - 지수코드: {}, 캔들 수: {}", 
                 indexCode, response.candles().size());
@@ -54,7 +68,7 @@ public class IndexChartService {
     public IndexChartDataResponse getWeeklyIndexChart(String indexCode) {
         log.info("지수 주봉 데이터 조회 요청 - 지수코드: {}", indexCode);
         
-        IndexChartDataResponse response = kisIndexChartApiClient.getWeeklyIndexChart(indexCode);
+        IndexChartDataResponse response = getCachedOrLoad(indexCode, "W");
         
         log.info("지수 주봉 데이터 조회 완료 - 지수코드: {}, 캔들 수: {}", 
                 indexCode, response.candles().size());
@@ -67,13 +81,85 @@ public class IndexChartService {
     public IndexChartDataResponse getMonthlyIndexChart(String indexCode) {
         log.info("지수 월봉 데이터 조회 요청 - 지수코드: {}", indexCode);
         
-        IndexChartDataResponse response = kisIndexChartApiClient.getMonthlyIndexChart(indexCode);
+        IndexChartDataResponse response = getCachedOrLoad(indexCode, "M");
         
         log.info("지수 월봉 데이터 조회 완료 - 지수코드: {}, 캔들 수: {}", 
                 indexCode, response.candles().size());
         return response;
     }
     
+    /**
+     * 기동 시 코스피/코스닥 지수 차트 캐시 준비 (홈 화면 첫 요청 지연 방지)
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (String indexCode : INDEX_CODES) {
+            for (String period : PERIODS) {
+                try {
+                    getCachedOrLoad(indexCode, period);
+                } catch (Exception e) {
+                    log.warn("지수 차트 캐시 준비 실패 - 지수코드: {}, 기간: {}", indexCode, period, e);
+                }
+            }
+        }
+        log.info("지수 차트 캐시 준비 완료");
+    }
+
+    /**
+     * 캐시 우선 조회
+     * - 갱신 주기가 지났으면 이전 값을 바로 반환하고 백그라운드에서 한 번만 갱신
+     * - 캐시가 없으면 같은 키 동시 요청은 한 번의 KIS 조회를 공유 (노드 간에는 임대로 조정)
+     */
+    private IndexChartDataResponse getCachedOrLoad(String indexCode, String period) {
+        ChartKind kind = ChartKind.ofIndex(period);
+        IndexChartDataResponse cached = chartCacheService.getIndexChart(indexCode, period);
+        if (cached != null && !cached.candles().isEmpty()) {
+            if (chartCacheService.isIndexSoftExpired(cached)) {
+                chartCacheMetrics.request(kind, Result.STALE);
+                refreshInBackground(indexCode, period);
+                return cached.asStale();
+            }
+            chartCacheMetrics.request(kind, Result.HIT);
+            return cached;
+        }
+        chartCacheMetrics.request(kind, Result.MISS);
+        return indexLoadFlight.execute(buildLoadKey(indexCode, period), () -> fetchAndCache(indexCode, period));
+    }
+
+    private IndexChartDataResponse fetchAndCache(String indexCode, String period) {
+        return chartCacheLoader.load(buildLoadKey(indexCode, period), ChartKind.ofIndex(period),
+                () -> {
+                    IndexChartDataResponse cached = chartCacheService.getIndexChart(indexCode, period);
+                    return cached != null && !cached.candles().isEmpty() ? cached : null;
+                },
+                () -> fetchFromKis(indexCode, period), response -> saveToCache(indexCode, period, response));
+    }
+
+    private void refreshInBackground(String indexCode, String period) {
+        chartCacheLoader.refreshInBackground(buildLoadKey(indexCode, period), ChartKind.ofIndex(period),
+                () -> fetchFromKis(indexCode, period), response -> saveToCache(indexCode, period, response));
+    }
+
+    private IndexChartDataResponse fetchFromKis(String indexCode, String period) {
+        return switch (period) {
+            case "W" -> kisIndexChartApiClient.getWeeklyIndexChart(indexCode);
+            case "M" -> kisIndexChartApiClient.getMonthlyIndexChart(indexCode);
+            default -> kisIndexChartApiClient.getDailyIndexChart(indexCode);
+        };
+    }
+
+    private void saveToCache(String indexCode, String period, IndexChartDataResponse response) {
+        // KIS 오류 시 빈 응답이 오므로 캐시하지 않음
+        if (response != null && !response.candles().isEmpty()) {
+            chartCacheService.saveIndexChart(indexCode, period, response);
+        }
+    }
+
+    private String buildLoadKey(String indexCode, String period) {
+        return "chart:index:" + indexCode + ":" + period;
+    }
+    
     /**
      * 지수 코드 유효성 검증
      */
@@ -0,0 +1,364 @@
+package com.youthfi.finance.domain.stock.domain.service;
+
+import com.youthfi.finance.domain.stock.application.dto.response.CandleDataResponse;
+import com.youthfi.finance.domain.stock.application.dto.response.ChartDataResponse;
+import com.youthfi.finance.domain.stock.domain.event.StockTradeTickEvent;
+import com.youthfi.finance.domain.stock.infra.KisChartApiClient;
+import com.youthfi.finance.global.config.properties.KisApiProperties;
+import com.youthfi.finance.global.service.MarketCalendar;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 실시간 체결 → 분봉 집계기
+ * - 종목별 1분봉과 5분/15분 롤업을 메모리에서 유지 (09:00 기준 정렬)
+ * - 다음 구간 체결이 오거나 분 경계 스케줄러가 돌면 진행 중인 봉을 마감
+ * - 장 시작부터의 봉이 모두 있는 종목(complete)만 분봉 조회를 대신 처리
+ */
+@Slf4j
+@Service
+public class MinuteBarAggregator {
+
+    public static final int[] SUPPORTED_INTERVALS = {1, 5, 15};
+
+    private static final int SESSION_OPEN_MINUTE = 9 * 60;
+
+    private final KisApiProperties kisApiProperties;
+    private final KisChartApiClient kisChartApiClient;
+    private final MarketCalendar marketCalendar;
+    private final ConcurrentMap<String, SymbolBars> symbols = new ConcurrentHashMap<>();
+
+    public MinuteBarAggregator(KisApiProperties kisApiProperties, KisChartApiClient kisChartApiClient,
+                               MarketCalendar marketCalendar) {
+        this.kisApiProperties = kisApiProperties;
+        this.kisChartApiClient = kisChartApiClient;
+        this.marketCalendar = marketCalendar;
+    }
+
+    /**
+     * 체결 반영 (웹소켓 수신 스레드에서 호출)
+     */
+    @EventListener
+    public void onTradeTick(StockTradeTickEvent tick) {
+        int minute = tick.time() / 10000 * 60 + tick.time() / 100 % 100;
+        SymbolBars bars = symbols.computeIfAbsent(tick.stockCode(), code -> new SymbolBars());
+        synchronized (bars) {
+            bars.resetIfNewDay(tick.date());
+            bars.apply(minute, tick.price(), tick.price(), tick.price(), tick.price(), tick.volume());
+            if (!bars.complete && minute <= SESSION_OPEN_MINUTE) {
+                bars.complete = true; // 장 시작부터 수신한 경우 보강 불필요
+            }
+        }
+    }
+
+    /**
+     * 체결이 없는 구간도 분 경계에서 봉 마감
+     */
+    @Scheduled(cron = "1 * * * * *", zone = "Asia/Seoul")
+    public void closeElapsedBars() {
+        LocalDateTime now = marketCalendar.now();
+        int today = Integer.parseInt(now.format(DateTimeFormatter.BASIC_ISO_DATE));
+        closeElapsedBars(today, now.getHour() * 60 + now.getMinute());
+    }
+
+    void closeElapsedBars(int today, int nowMinute) {
+        for (SymbolBars bars : symbols.values()) {
+            synchronized (bars) {
+                if (bars.date == today) {
+                    bars.closeElapsed(nowMinute);
+                }
+            }
+        }
+    }
+
+    /**
+     * 기동 시 구독 종목 분봉을 REST로 보강 (장중 재기동 대비)
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillConfiguredSymbols() {
+        KisApiProperties.WebSocket config = kisApiProperties.getWebsocket();
+        if (!config.isEnabled()) {
+            return;
+        }
+        for (String stockCode : config.getSymbols()) {
+            try {
+                ChartDataResponse minuteChart = kisChartApiClient.getMinuteChart(stockCode);
+                backfill(stockCode, minuteChart.candles());
+            } catch (Exception e) {
+                log.warn("[MINUTE-BAR] 분봉 보강 실패: stockCode={}, error={}", stockCode, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * REST 분봉으로 빈 구간 보강 (이미 실시간으로 집계한 분은 실시간 값을 유지)
+     * @param candles 당일 1분봉 (시간 오름차순)
+     */
+    public void backfill(String stockCode, List<CandleDataResponse> candles) {
+        if (candles == null || candles.isEmpty()) {
+            return;
+        }
+        int date = parseDate(candles.get(0).date());
+        SymbolBars bars = symbols.computeIfAbsent(stockCode, code -> new SymbolBars());
+        synchronized (bars) {
+            bars.resetIfNewDay(date);
+            if (bars.date != date) {
+                return; // 이미 다음 영업일 체결을 수신 중
+            }
+            bars.backfill(candles);
+            bars.complete = true;
+        }
+        log.debug("[MINUTE-BAR] 분봉 보강 완료: stockCode={}, candles={}", stockCode, candles.size());
+    }
+
+    /**
+     * 장 시작부터 집계 중인 종목인지 여부
+     */
+    public boolean isComplete(String stockCode) {
+        SymbolBars bars = symbols.get(stockCode);
+        if (bars == null) {
+            return false;
+        }
+        synchronized (bars) {
+            return bars.complete && bars.date == todayYmd();
+        }
+    }
+
+    /**
+     * 실시간 체결을 받고 있지만 장 초반 봉이 비어 있는 종목인지 여부
+     */
+    public boolean needsBackfill(String stockCode) {
+        SymbolBars bars = symbols.get(stockCode);
+        if (bars == null) {
+            return false;
+        }
+        synchronized (bars) {
+            return !bars.complete && bars.date == todayYmd();
+        }
+    }
+
+    /**
+     * 집계 분봉 조회 (마감된 봉 + 진행 중인 봉)
+     * @param intervalMinutes 1, 5, 15
+     * @return 집계 중이 아니면 null
+     */
+    public ChartDataResponse getMinuteChart(String stockCode, int intervalMinutes) {
+        SymbolBars bars = symbols.get(stockCode);
+        if (bars == null) {
+            return null;
+        }
+        List<CandleDataResponse> candles;
+        synchronized (bars) {
+            candles = bars.series(intervalMinutes).snapshot(bars.date);
+        }
+        return new ChartDataResponse(stockCode, intervalMinutes + "min", "today", candles,
+                marketCalendar.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+    }
+
+    /**
+     * 1분봉을 N분봉으로 묶음 (집계기가 없는 종목의 REST 분봉용)
+     */
+    public static List<CandleDataResponse> rollup(List<CandleDataResponse> minuteCandles, int intervalMinutes) {
+        if (intervalMinutes <= 1 || minuteCandles.isEmpty()) {
+            return minuteCandles;
+        }
+        BarSeries series = new BarSeries(intervalMinutes);
+        int date = parseDate(minuteCandles.get(0).date());
+        for (CandleDataResponse candle : minuteCandles) {
+            series.apply(parseMinute(candle.time()), candle.open(), candle.high(), candle.low(), candle.close(), candle.volume());
+        }
+        return series.snapshot(date);
+    }
+
+    public static boolean isSupportedInterval(int intervalMinutes) {
+        for (int supported : SUPPORTED_INTERVALS) {
+            if (supported == intervalMinutes) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int todayYmd() {
+        return Integer.parseInt(marketCalendar.today().format(DateTimeFormatter.BASIC_ISO_DATE));
+    }
+
+    private static int parseDate(String yyyyMMdd) {
+        // "yyyy-MM-dd"
+        return Integer.parseInt(yyyyMMdd.substring(0, 4)) * 10000
+                + Integer.parseInt(yyyyMMdd.substring(5, 7)) * 100
+                + Integer.parseInt(yyyyMMdd.substring(8, 10));
+    }
+
+    private static int parseMinute(String hhmm) {
+        // "HH:mm"
+        return Integer.parseInt(hhmm.substring(0, 2)) * 60 + Integer.parseInt(hhmm.substring(3, 5));
+    }
+
+    /**
+     * 종목 하나의 당일 1/5/15분 봉
+     */
+    private static final class SymbolBars {
+
+        private int date;
+        private boolean complete;
+        private BarSeries[] series = newSeries();
+
+        void resetIfNewDay(int tickDate) {
+            if (tickDate > date) {
+                date = tickDate;
+                complete = false;
+                series = newSeries();
+            }
+        }
+
+        void apply(int minute, long open, long high, long low, long close, long volume) {
+            for (BarSeries s : series) {
+                s.apply(minute, open, high, low, close, volume);
+            }
+        }
+
+        void closeElapsed(int nowMinute) {
+            for (BarSeries s : series) {
+                s.closeElapsed(nowMinute);
+            }
+        }
+
+        /**
+         * 보강 분봉 + 실시간 1분봉을 합쳐 전체 주기를 다시 구성
+         */
+        void backfill(List<CandleDataResponse> candles) {
+            BarSeries live = series[0];
+            int firstLiveMinute = live.firstMinute();
+            BarSeries[] rebuilt = newSeries();
+            for (CandleDataResponse candle : candles) {
+                int minute = parseMinute(candle.time());
+                if (firstLiveMinute >= 0 && minute >= firstLiveMinute) {
+                    break;
+                }
+                for (BarSeries s : rebuilt) {
+                    s.apply(minute, candle.open(), candle.high(), candle.low(), candle.close(), candle.volume());
+                }
+            }
+            live.forEachBar((minute, bar) -> {
+                for (BarSeries s : rebuilt) {
+                    s.apply(minute, bar[0], bar[1], bar[2], bar[3], bar[4]);
+                }
+            });
+            // 진행 중인 봉은 다음 분 경계 스케줄러에서 마감
+            series = rebuilt;
+        }
+
+        BarSeries series(int intervalMinutes) {
+            for (BarSeries s : series) {
+                if (s.intervalMinutes == intervalMinutes) {
+                    return s;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 분봉 주기: " + intervalMinutes);
+        }
+
+        private static BarSeries[] newSeries() {
+            BarSeries[] created = new BarSeries[SUPPORTED_INTERVALS.length];
+            for (int i = 0; i < SUPPORTED_INTERVALS.length; i++) {
+                created[i] = new BarSeries(SUPPORTED_INTERVALS[i]);
+            }
+            return created;
+        }
+    }
+
+    /**
+     * 단일 주기 봉 목록 (마감 봉은 배열로 보관, 진행 중인 봉 1개)
+     * - 봉 값 배열 순서: open, high, low, close, volume
+     */
+    private static final class BarSeries {
+
+        private final int intervalMinutes;
+        private final List<long[]> closedBars = new ArrayList<>();
+        private final List<Integer> closedStarts = new ArrayList<>();
+        private long[] current;
+        private int currentStart = -1;
+
+        BarSeries(int intervalMinutes) {
+            this.intervalMinutes = intervalMinutes;
+        }
+
+        void apply(int minute, long open, long high, long low, long close, long volume) {
+            int start = bucketStart(minute);
+            if (current != null && start == currentStart) {
+                current[1] = Math.max(current[1], high);
+                current[2] = Math.min(current[2], low);
+                current[3] = close;
+                current[4] += volume;
+                return;
+            }
+            if (current != null && start < currentStart) {
+                return; // 이미 지난 구간의 늦은 체결은 무시
+            }
+            if (!closedStarts.isEmpty() && start <= closedStarts.get(closedStarts.size() - 1)) {
+                return; // 마감된 구간
+            }
+            closeCurrent();
+            current = new long[] {open, high, low, close, volume};
+            currentStart = start;
+        }
+
+        void closeElapsed(int nowMinute) {
+            if (current != null && nowMinute >= currentStart + intervalMinutes) {
+                closeCurrent();
+            }
+        }
+
+        void closeCurrent() {
+            if (current != null) {
+                closedBars.add(current);
+                closedStarts.add(currentStart);
+                current = null;
+            }
+        }
+
+        int firstMinute() {
+            if (!closedStarts.isEmpty()) {
+                return closedStarts.get(0);
+            }
+            return current != null ? currentStart : -1;
+        }
+
+        void forEachBar(BarConsumer consumer) {
+            for (int i = 0; i < closedBars.size(); i++) {
+                consumer.accept(closedStarts.get(i), closedBars.get(i));
+            }
+            if (current != null) {
+                consumer.accept(currentStart, current);
+            }
+        }
+
+        List<CandleDataResponse> snapshot(int date) {
+            List<CandleDataResponse> candles = new ArrayList<>(closedBars.size() + 1);
+            forEachBar((start, bar) -> candles.add(CandleDataResponse.of(
+                    date, start / 60 * 10000 + start % 60 * 100, bar[0], bar[1], bar[2], bar[3], bar[4])));
+            return candles;
+        }
+
+        private int bucketStart(int minute) {
+            return minute - Math.floorMod(minute - SESSION_OPEN_MINUTE, intervalMinutes);
+        }
+    }
+
+    @FunctionalInterface
+    private interface BarConsumer {
+        void accept(int startMinute, long[] bar);
+    }
+}
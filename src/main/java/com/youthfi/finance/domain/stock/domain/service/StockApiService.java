@@ -1,24 +1,39 @@
 package com.youthfi.finance.domain.stock.domain.service;
 
-import com.youthfi.finance.domain.stock.infra.StockCurrentPriceApiClient;
 import com.youthfi.finance.global.service.KisTokenService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class StockApiService {
 
-    private final StockCurrentPriceApiClient stockCurrentPriceApiClient;
+    private final StockQuoteCacheService stockQuoteCacheService;
     private final KisTokenService kisTokenService;
 
     /**
-     * 주식현재가 시세 조회 
+     * 주식현재가 시세 조회 (시세 캐시 기본 유효시간 적용)
      */
     public Map<String, Object> getStockCurrentPrice(String marketCode, String stockCode) {
-        return stockCurrentPriceApiClient.getStockCurrentPrice(marketCode, stockCode);
+        return stockQuoteCacheService.getQuote(marketCode, stockCode);
+    }
+
+    /**
+     * 주식현재가 시세 조회 (허용 최대 경과시간 지정)
+     */
+    public Map<String, Object> getStockCurrentPrice(String marketCode, String stockCode, Duration maxAge) {
+        return stockQuoteCacheService.getQuote(marketCode, stockCode, maxAge);
+    }
+
+
+    /**
+     * 캐시된 주식현재가 시세 조회 (없으면 null)
+     */
+    public Map<String, Object> getCachedStockCurrentPrice(String marketCode, String stockCode) {
+        return stockQuoteCacheService.getCachedQuote(marketCode, stockCode);
     }
 
 
@@ -0,0 +1,198 @@
+package com.youthfi.finance.domain.stock.domain.service;
+
+import com.youthfi.finance.domain.stock.application.dto.response.CandleDataResponse;
+import com.youthfi.finance.domain.stock.domain.entity.StockCandle;
+import com.youthfi.finance.domain.stock.domain.repository.StockCandleRepository;
+import com.youthfi.finance.global.config.RedisConstants;
+import com.youthfi.finance.global.service.MarketCalendar;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 확정 일봉 저장소
+ * - 장 마감 이후 봉만 저장 (진행 중인 당일 봉은 저장하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockCandleService {
+
+    // 동시호가 종료 후 일봉 확정 여유
+    private static final Duration DAILY_CLOSE_SETTLE = Duration.ofMinutes(30);
+    // 이력 시작일 표시 보관 기간 (만료되면 한 번 더 KIS로 확인)
+    private static final Duration HISTORY_START_TTL = Duration.ofDays(30);
+    private static final int INSERT_BATCH_SIZE = 500;
+    // 요청 경로/다른 노드/배치가 같은 일자를 동시에 저장해도 먼저 저장된 봉을 유지 (유니크 키 충돌은 무시)
+    private static final String INSERT_IGNORE_SQL = """
+            INSERT IGNORE INTO stock_candles (stock_id, period, trade_date, open_price, high_price, low_price, close_price, volume)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final StockCandleRepository stockCandleRepository;
+    private final MarketCalendar marketCalendar;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 저장된 일봉 조회 (최신순)
+     */
+    @Transactional(readOnly = true)
+    public List<CandleDataResponse> getDailyCandles(String stockCode, LocalDate from, LocalDate to) {
+        List<StockCandle> candles = stockCandleRepository.findByStockIdAndPeriodAndTradeDateBetweenOrderByTradeDateDesc(
+                stockCode, StockCandle.PERIOD_DAILY, from, to);
+        List<CandleDataResponse> result = new ArrayList<>(candles.size());
+        for (StockCandle candle : candles) {
+            result.add(CandleDataResponse.from(candle));
+        }
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<LocalDate> findLatestDailyDate(String stockCode) {
+        return stockCandleRepository.findTopByStockIdAndPeriodOrderByTradeDateDesc(stockCode, StockCandle.PERIOD_DAILY)
+                .map(StockCandle::getTradeDate);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<LocalDate> findEarliestDailyDate(String stockCode) {
+        return stockCandleRepository.findTopByStockIdAndPeriodOrderByTradeDateAsc(stockCode, StockCandle.PERIOD_DAILY)
+                .map(StockCandle::getTradeDate);
+    }
+
+    /**
+     * KIS 일봉 이력 시작일 (상장일 등, 이보다 이전 구간은 KIS에 조회해도 일봉 없음)
+     */
+    public Optional<LocalDate> findDailyHistoryStart(String stockCode) {
+        try {
+            String value = redisTemplate.opsForValue().get(RedisConstants.buildCandleHistoryStartKey(stockCode));
+            return value != null ? Optional.of(LocalDate.parse(value)) : Optional.empty();
+        } catch (Exception e) {
+            log.warn("일봉 이력 시작일 조회 실패: stockCode={}", stockCode, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * KIS 일봉 이력 시작일 기록 (요청 구간 앞부분을 KIS가 반환하지 않은 경우)
+     */
+    public void markDailyHistoryStart(String stockCode, LocalDate historyStart) {
+        try {
+            redisTemplate.opsForValue().set(RedisConstants.buildCandleHistoryStartKey(stockCode),
+                    historyStart.toString(), HISTORY_START_TTL);
+            log.debug("일봉 이력 시작일 기록: stockCode={}, historyStart={}", stockCode, historyStart);
+        } catch (Exception e) {
+            log.warn("일봉 이력 시작일 기록 실패: stockCode={}", stockCode, e);
+        }
+    }
+
+    /**
+     * 확정 일봉 저장 (이미 있는 일자는 건너뜀)
+     * @return 새로 저장한 봉 수
+     */
+    @Transactional
+    public int saveDailyCandles(String stockCode, List<CandleDataResponse> candles) {
+        List<StockCandle> newCandles = filterNewDailyCandles(stockCode, candles, lastConfirmedDate());
+        int inserted = insertDailyCandles(newCandles);
+        log.debug("일봉 저장: stockCode={}, count={}", stockCode, inserted);
+        return inserted;
+    }
+
+    /**
+     * 일봉 일괄 저장 (조회 이후 다른 저장이 먼저 들어간 일자는 건너뜀)
+     * @return 새로 저장한 봉 수
+     */
+    @Transactional
+    public int insertDailyCandles(List<StockCandle> candles) {
+        if (candles.isEmpty()) {
+            return 0;
+        }
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, candles, INSERT_BATCH_SIZE, (ps, candle) -> {
+            ps.setString(1, candle.getStockId());
+            ps.setString(2, candle.getPeriod());
+            ps.setDate(3, Date.valueOf(candle.getTradeDate()));
+            ps.setLong(4, candle.getOpen());
+            ps.setLong(5, candle.getHigh());
+            ps.setLong(6, candle.getLow());
+            ps.setLong(7, candle.getClose());
+            ps.setLong(8, candle.getVolume());
+        });
+        int inserted = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // 드라이버가 건별 결과를 주지 않으면 저장된 것으로 계산
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    inserted++;
+                }
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * 저장 대상 일봉 선별 (확정일 이후/기보유 일자 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<StockCandle> filterNewDailyCandles(String stockCode, List<CandleDataResponse> candles, LocalDate confirmedUntil) {
+        if (candles == null || candles.isEmpty()) {
+            return List.of();
+        }
+        List<StockCandle> parsed = new ArrayList<>(candles.size());
+        LocalDate min = null;
+        LocalDate max = null;
+        for (CandleDataResponse candle : candles) {
+            if (candle.date() == null || candle.date().isEmpty()) {
+                continue;
+            }
+            LocalDate tradeDate = LocalDate.parse(candle.date());
+            if (tradeDate.isAfter(confirmedUntil)) {
+                continue;
+            }
+            parsed.add(StockCandle.builder()
+                    .stockId(stockCode)
+                    .period(StockCandle.PERIOD_DAILY)
+                    .tradeDate(tradeDate)
+                    .open(candle.open())
+                    .high(candle.high())
+                    .low(candle.low())
+                    .close(candle.close())
+                    .volume(candle.volume())
+                    .build());
+            min = (min == null || tradeDate.isBefore(min)) ? tradeDate : min;
+            max = (max == null || tradeDate.isAfter(max)) ? tradeDate : max;
+        }
+        if (parsed.isEmpty()) {
+            return List.of();
+        }
+
+        Set<LocalDate> existing = new HashSet<>(stockCandleRepository.findTradeDates(
+                stockCode, StockCandle.PERIOD_DAILY, min, max));
+        List<StockCandle> newCandles = new ArrayList<>(parsed.size());
+        for (StockCandle candle : parsed) {
+            if (existing.add(candle.getTradeDate())) {
+                newCandles.add(candle);
+            }
+        }
+        return newCandles;
+    }
+
+    /**
+     * 일봉이 확정된 마지막 거래일 (당일은 마감 30분 후부터 확정)
+     */
+    public LocalDate lastConfirmedDate() {
+        return marketCalendar.lastClosedTradingDay(marketCalendar.now(), DAILY_CLOSE_SETTLE);
+    }
+}
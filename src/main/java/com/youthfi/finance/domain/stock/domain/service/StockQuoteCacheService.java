@@ -0,0 +1,112 @@
+package com.youthfi.finance.domain.stock.domain.service;
+
+import com.youthfi.finance.domain.stock.infra.StockCurrentPriceApiClient;
+import com.youthfi.finance.global.common.SingleFlight;
+import com.youthfi.finance.global.config.properties.KisApiProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 현재가 시세 단기 캐시 (인메모리)
+ * - 시장코드+종목코드 단위로 KIS 응답을 짧게 보관하고, 호출부가 허용 가능한 최대 경과시간을 지정
+ * - 같은 종목 동시 조회는 한 번의 KIS 호출로 병합
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockQuoteCacheService {
+
+    private final StockCurrentPriceApiClient stockCurrentPriceApiClient;
+    private final KisApiProperties kisApiProperties;
+    private final Map<String, CachedQuote> quotes = new ConcurrentHashMap<>();
+    private final SingleFlight<String, CachedQuote> quoteFlight = new SingleFlight<>();
+
+    /**
+     * 현재가 조회 (기본 유효시간 적용)
+     */
+    public Map<String, Object> getQuote(String marketCode, String stockCode) {
+        return getQuote(marketCode, stockCode, Duration.ofMillis(kisApiProperties.getQuoteCache().getTtlMs()));
+    }
+
+    /**
+     * 현재가 조회
+     * @param maxAge 허용 가능한 최대 경과시간 (Duration.ZERO면 항상 새로 조회, 동시 요청은 병합)
+     */
+    public Map<String, Object> getQuote(String marketCode, String stockCode, Duration maxAge) {
+        String key = buildKey(marketCode, stockCode);
+        long notBefore = System.nanoTime() - maxAge.toNanos();
+        CachedQuote cached = quotes.get(key);
+        if (cached != null && cached.fetchedSince(notBefore)) {
+            return cached.body();
+        }
+
+        CachedQuote quote = quoteFlight.execute(key, () -> {
+            // 대기 중 다른 스레드가 갱신했을 수 있으므로 재확인
+            CachedQuote latest = quotes.get(key);
+            if (latest != null && latest.fetchedSince(notBefore)) {
+                return latest;
+            }
+            return fetch(key, marketCode, stockCode);
+        });
+        if (!quote.fetchedSince(notBefore)) {
+            // 더 긴 허용시간으로 시작된 조회에 합류해 호출부 기준보다 오래된 시세를 받은 경우 직접 조회
+            quote = fetch(key, marketCode, stockCode);
+        }
+        return quote.body();
+    }
+
+    /**
+     * 캐시된 현재가만 조회 (기본 유효시간 내 시세가 없으면 null, KIS 호출 없음)
+     */
+    public Map<String, Object> getCachedQuote(String marketCode, String stockCode) {
+        CachedQuote cached = quotes.get(buildKey(marketCode, stockCode));
+        Duration ttl = Duration.ofMillis(kisApiProperties.getQuoteCache().getTtlMs());
+        return (cached != null && cached.isFresherThan(ttl)) ? cached.body() : null;
+    }
+
+    private CachedQuote fetch(String key, String marketCode, String stockCode) {
+        Map<String, Object> body = stockCurrentPriceApiClient.getStockCurrentPrice(marketCode, stockCode);
+        CachedQuote quote = new CachedQuote(body, System.nanoTime());
+        if (body != null && body.get("output") != null) {
+            evictIfFull();
+            quotes.put(key, quote);
+        }
+        return quote;
+    }
+
+    private void evictIfFull() {
+        int maxEntries = kisApiProperties.getQuoteCache().getMaxEntries();
+        if (quotes.size() < maxEntries) {
+            return;
+        }
+        Duration ttl = Duration.ofMillis(kisApiProperties.getQuoteCache().getTtlMs());
+        quotes.values().removeIf(quote -> !quote.isFresherThan(ttl));
+        if (quotes.size() >= maxEntries) {
+            log.debug("현재가 캐시 상한 도달, 전체 정리: size={}", quotes.size());
+            quotes.clear();
+        }
+    }
+
+    private String buildKey(String marketCode, String stockCode) {
+        return marketCode + ":" + stockCode;
+    }
+
+    private record CachedQuote(Map<String, Object> body, long fetchedAtNanos) {
+
+        boolean isFresherThan(Duration maxAge) {
+            return System.nanoTime() - fetchedAtNanos < maxAge.toNanos();
+        }
+
+        /**
+         * @param notBeforeNanos 호출 시점 - 허용 경과시간 (System.nanoTime 기준)
+         */
+        boolean fetchedSince(long notBeforeNanos) {
+            return fetchedAtNanos - notBeforeNanos >= 0;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
@@ -32,6 +33,9 @@ import java.util.Optional;
 @Slf4j
 public class TradingService {
 
+    // 체결가로 사용하는 현재가는 최대 0.5초 이내 시세만 허용
+    private static final Duration TRADE_QUOTE_MAX_AGE = Duration.ofMillis(500);
+
     private final ExecutionRepository executionRepository;
     private final UserRepository userRepository;
     private final StockRepository stockRepository;
@@ -151,7 +155,7 @@ public class TradingService {
         try {
             // StockApiUseCase를 통해 현재가 조회
             StockCurrentPriceRequest request = new StockCurrentPriceRequest(marketCode, stockId);
-            StockCurrentPriceResponse response = stockApiUseCase.getStockCurrentPrice(request);
+            StockCurrentPriceResponse response = stockApiUseCase.getStockCurrentPrice(request, TRADE_QUOTE_MAX_AGE);
             
             // stck_prpr 값 추출
             if (response.stckPrpr() != null) {
@@ -0,0 +1,368 @@
+package com.youthfi.finance.domain.stock.infra;
+
+import com.youthfi.finance.domain.stock.application.dto.response.CandleDataResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 캔들 열 단위 바이너리 인코딩
+ * - 날짜(epochDay), 시각(분), 종가는 직전 값과의 차이를, 시/고/저가는 같은 봉 종가와의 차이를 zigzag varint로 기록
+ * - 거래량은 그대로 varint 기록
+ * - 빈 날짜/시각은 0, 값이 있으면 +1 하여 구분 (가격/거래량 null은 인코딩 불가)
+ */
+public final class CandleBinaryCodec {
+
+    private CandleBinaryCodec() {
+    }
+
+    /**
+     * 인코딩 가능 여부 (가격/거래량 null, 형식이 다른 날짜/시각이 없어야 함)
+     */
+    public static boolean canEncode(List<CandleDataResponse> candles) {
+        for (CandleDataResponse candle : candles) {
+            if (candle.open() == null || candle.high() == null || candle.low() == null
+                    || candle.close() == null || candle.volume() == null) {
+                return false;
+            }
+            if (dateValue(candle.date()) < 0 || timeValue(candle.time()) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static void writeCandles(Output out, List<CandleDataResponse> candles) {
+        int size = candles.size();
+        out.writeVarint(size);
+
+        long previous = 0;
+        for (CandleDataResponse candle : candles) {
+            long value = dateValue(candle.date());
+            out.writeSignedVarint(value - previous);
+            previous = value;
+        }
+        previous = 0;
+        for (CandleDataResponse candle : candles) {
+            long value = timeValue(candle.time());
+            out.writeSignedVarint(value - previous);
+            previous = value;
+        }
+        previous = 0;
+        for (CandleDataResponse candle : candles) {
+            out.writeSignedVarint(candle.close() - previous);
+            previous = candle.close();
+        }
+        for (CandleDataResponse candle : candles) {
+            out.writeSignedVarint(candle.open() - candle.close());
+        }
+        for (CandleDataResponse candle : candles) {
+            out.writeSignedVarint(candle.high() - candle.close());
+        }
+        for (CandleDataResponse candle : candles) {
+            out.writeSignedVarint(candle.low() - candle.close());
+        }
+        for (CandleDataResponse candle : candles) {
+            out.writeSignedVarint(candle.volume());
+        }
+    }
+
+    public static List<CandleDataResponse> readCandles(Input in) {
+        int size = (int) in.readVarint();
+        long[] dates = new long[size];
+        long[] times = new long[size];
+        long[] closes = new long[size];
+
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            previous += in.readSignedVarint();
+            dates[i] = previous;
+        }
+        previous = 0;
+        for (int i = 0; i < size; i++) {
+            previous += in.readSignedVarint();
+            times[i] = previous;
+        }
+        previous = 0;
+        for (int i = 0; i < size; i++) {
+            previous += in.readSignedVarint();
+            closes[i] = previous;
+        }
+        long[] opens = readRelative(in, closes);
+        long[] highs = readRelative(in, closes);
+        long[] lows = readRelative(in, closes);
+
+        List<CandleDataResponse> candles = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            candles.add(new CandleDataResponse(
+                    formatDate(dates[i]),
+                    formatTime(times[i]),
+                    opens[i],
+                    highs[i],
+                    lows[i],
+                    closes[i],
+                    in.readSignedVarint()
+            ));
+        }
+        return candles;
+    }
+
+    /**
+     * 캔들 1개 인코딩 (Redis 리스트 원소용, 차이값 대신 절대값 기록)
+     */
+    public static byte[] encodeCandle(CandleDataResponse candle) {
+        Output out = new Output(24);
+        out.writeVarint(dateValue(candle.date()));
+        out.writeVarint(timeValue(candle.time()));
+        out.writeSignedVarint(candle.close());
+        out.writeSignedVarint(candle.open() - candle.close());
+        out.writeSignedVarint(candle.high() - candle.close());
+        out.writeSignedVarint(candle.low() - candle.close());
+        out.writeSignedVarint(candle.volume());
+        return out.toByteArray();
+    }
+
+    public static CandleDataResponse decodeCandle(byte[] bytes) {
+        Input in = new Input(bytes, 0);
+        String date = formatDate(in.readVarint());
+        String time = formatTime(in.readVarint());
+        long close = in.readSignedVarint();
+        long open = close + in.readSignedVarint();
+        long high = close + in.readSignedVarint();
+        long low = close + in.readSignedVarint();
+        return new CandleDataResponse(date, time, open, high, low, close, in.readSignedVarint());
+    }
+
+    /**
+     * Deflate 압축 (압축 결과가 더 크면 null)
+     */
+    public static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            byte[] buffer = new byte[raw.length];
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == buffer.length) {
+                    return null;
+                }
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            byte[] compressed = new byte[length];
+            System.arraycopy(buffer, 0, compressed, 0, length);
+            return compressed;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static byte[] inflate(byte[] compressed, int offset, int length, int rawLength) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed, offset, length);
+            byte[] raw = new byte[rawLength];
+            int read = 0;
+            while (read < rawLength && !inflater.finished()) {
+                int n = inflater.inflate(raw, read, rawLength - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != rawLength) {
+                throw new IllegalArgumentException("압축 캔들 길이 불일치: expected=" + rawLength + ", actual=" + read);
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("압축 캔들 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static long[] readRelative(Input in, long[] closes) {
+        long[] values = new long[closes.length];
+        for (int i = 0; i < closes.length; i++) {
+            values[i] = closes[i] + in.readSignedVarint();
+        }
+        return values;
+    }
+
+    /**
+     * "yyyy-MM-dd" → epochDay + 1 (빈 값 0, 형식 오류 -1)
+     */
+    private static long dateValue(String date) {
+        if (date == null || date.isEmpty()) {
+            return 0;
+        }
+        if (date.length() != 10 || date.charAt(4) != '-' || date.charAt(7) != '-') {
+            return -1;
+        }
+        try {
+            return LocalDate.parse(date).toEpochDay() + 1;
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * "HH:mm" → 분 + 1 (빈 값 0, 형식 오류 -1)
+     */
+    private static long timeValue(String time) {
+        if (time == null || time.isEmpty()) {
+            return 0;
+        }
+        if (time.length() != 5 || time.charAt(2) != ':') {
+            return -1;
+        }
+        int hour = digits(time, 0);
+        int minute = digits(time, 3);
+        if (hour < 0 || minute < 0 || hour > 23 || minute > 59) {
+            return -1;
+        }
+        return hour * 60L + minute + 1;
+    }
+
+    private static int digits(String s, int offset) {
+        int tens = s.charAt(offset) - '0';
+        int ones = s.charAt(offset + 1) - '0';
+        if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+            return -1;
+        }
+        return tens * 10 + ones;
+    }
+
+    private static String formatDate(long value) {
+        return value == 0 ? "" : LocalDate.ofEpochDay(value - 1).toString();
+    }
+
+    private static String formatTime(long value) {
+        if (value == 0) {
+            return "";
+        }
+        int minutes = (int) (value - 1);
+        int hour = minutes / 60;
+        int minute = minutes % 60;
+        return new String(new char[] {
+                (char) ('0' + hour / 10), (char) ('0' + hour % 10), ':',
+                (char) ('0' + minute / 10), (char) ('0' + minute % 10)
+        });
+    }
+
+    /**
+     * varint 출력 버퍼
+     */
+    public static final class Output {
+
+        private final ByteArrayOutputStream buffer;
+
+        public Output(int initialCapacity) {
+            this.buffer = new ByteArrayOutputStream(initialCapacity);
+        }
+
+        public void writeByte(int value) {
+            buffer.write(value);
+        }
+
+        public void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                buffer.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.write((int) value);
+        }
+
+        public void writeSignedVarint(long value) {
+            writeVarint((value << 1) ^ (value >> 63));
+        }
+
+        /**
+         * 문자열 (길이 + 1, null은 0)
+         */
+        public void writeString(String value) {
+            if (value == null) {
+                writeVarint(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length + 1L);
+            buffer.write(bytes, 0, bytes.length);
+        }
+
+        public void writeBytes(byte[] bytes) {
+            buffer.write(bytes, 0, bytes.length);
+        }
+
+        public int size() {
+            return buffer.size();
+        }
+
+        public byte[] toByteArray() {
+            return buffer.toByteArray();
+        }
+    }
+
+    /**
+     * varint 입력 버퍼
+     */
+    public static final class Input {
+
+        private final byte[] bytes;
+        private int position;
+
+        public Input(byte[] bytes, int offset) {
+            this.bytes = bytes;
+            this.position = offset;
+        }
+
+        public int readByte() {
+            return bytes[position++] & 0xFF;
+        }
+
+        public long readVarint() {
+            long result = 0;
+            int shift = 0;
+            while (true) {
+                int b = bytes[position++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+                shift += 7;
+                if (shift > 63) {
+                    throw new IllegalArgumentException("잘못된 varint");
+                }
+            }
+        }
+
+        public long readSignedVarint() {
+            long raw = readVarint();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        public String readString() {
+            int length = (int) readVarint();
+            if (length == 0) {
+                return null;
+            }
+            String value = new String(bytes, position, length - 1, StandardCharsets.UTF_8);
+            position += length - 1;
+            return value;
+        }
+
+        public int position() {
+            return position;
+        }
+
+        public boolean hasRemaining() {
+            return position < bytes.length;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.youthfi.finance.domain.stock.infra;
+
+import com.youthfi.finance.domain.stock.application.dto.response.CandleDataResponse;
+import com.youthfi.finance.domain.stock.application.dto.response.ChartDataResponse;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.List;
+
+/**
+ * 차트 캐시 값 직렬화 (열 단위 바이너리 + 선택적 Deflate)
+ * - 형식: MAGIC(2) | VERSION(1) | FLAGS(1) | [원본 길이 varint] | 본문
+ * - FLAGS: 0x01 Deflate 본문, 0x02 stale (KIS 장애로 저장소 값만 담은 응답)
+ * - 인코딩할 수 없는 값(null 가격 등)은 JSON으로 저장, 조회 시 MAGIC이 없으면 JSON으로 해석 (기존 캐시 호환)
+ */
+public class ChartDataRedisSerializer implements RedisSerializer<ChartDataResponse> {
+
+    static final byte MAGIC_0 = (byte) 0xCD;
+    static final byte MAGIC_1 = (byte) 0x43;
+    static final byte VERSION = 1;
+    static final int FLAG_DEFLATE = 0x01;
+    static final int FLAG_STALE = 0x02;
+    private static final int HEADER_LENGTH = 4;
+    // 작은 값은 압축 효과보다 헤더/연산 비용이 큼
+    private static final int DEFLATE_THRESHOLD = 512;
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+    private final boolean compress;
+
+    public ChartDataRedisSerializer() {
+        this(true);
+    }
+
+    public ChartDataRedisSerializer(boolean compress) {
+        this.compress = compress;
+    }
+
+    @Override
+    public byte[] serialize(ChartDataResponse value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        List<CandleDataResponse> candles = value.candles() != null ? value.candles() : List.of();
+        if (!CandleBinaryCodec.canEncode(candles)) {
+            return jsonSerializer.serialize(value);
+        }
+
+        CandleBinaryCodec.Output body = new CandleBinaryCodec.Output(64 + candles.size() * 12);
+        body.writeString(value.stockCode());
+        body.writeString(value.period());
+        body.writeString(value.range());
+        body.writeString(value.lastUpdated());
+        CandleBinaryCodec.writeCandles(body, candles);
+        byte[] raw = body.toByteArray();
+
+        byte[] deflated = (compress && raw.length >= DEFLATE_THRESHOLD) ? CandleBinaryCodec.deflate(raw) : null;
+        CandleBinaryCodec.Output out = new CandleBinaryCodec.Output(HEADER_LENGTH + 5 + raw.length);
+        out.writeByte(MAGIC_0);
+        out.writeByte(MAGIC_1);
+        out.writeByte(VERSION);
+        int flags = value.stale() ? FLAG_STALE : 0;
+        if (deflated != null && deflated.length < raw.length) {
+            out.writeByte(flags | FLAG_DEFLATE);
+            out.writeVarint(raw.length);
+            out.writeBytes(deflated);
+        } else {
+            out.writeByte(flags);
+            out.writeBytes(raw);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public ChartDataResponse deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (!isBinary(bytes)) {
+            return (ChartDataResponse) jsonSerializer.deserialize(bytes);
+        }
+        if (bytes[2] != VERSION) {
+            throw new SerializationException("지원하지 않는 차트 캐시 버전: " + bytes[2]);
+        }
+
+        try {
+            CandleBinaryCodec.Input in = new CandleBinaryCodec.Input(bytes, HEADER_LENGTH);
+            if ((bytes[3] & FLAG_DEFLATE) != 0) {
+                int rawLength = (int) in.readVarint();
+                byte[] raw = CandleBinaryCodec.inflate(bytes, in.position(), bytes.length - in.position(), rawLength);
+                in = new CandleBinaryCodec.Input(raw, 0);
+            }
+            String stockCode = in.readString();
+            String period = in.readString();
+            String range = in.readString();
+            String lastUpdated = in.readString();
+            List<CandleDataResponse> candles = CandleBinaryCodec.readCandles(in);
+            return new ChartDataResponse(stockCode, period, range, candles, lastUpdated, (bytes[3] & FLAG_STALE) != 0);
+        } catch (RuntimeException e) {
+            throw new SerializationException("차트 캐시 역직렬화 실패", e);
+        }
+    }
+
+    static boolean isBinary(byte[] bytes) {
+        return bytes.length >= HEADER_LENGTH && bytes[0] == MAGIC_0 && bytes[1] == MAGIC_1;
+    }
+}
@@ -0,0 +1,31 @@
+package com.youthfi.finance.domain.stock.infra;
+
+/**
+ * KIS 차트 output2 한 행 (문자열/박싱 없이 원시 타입으로 보관)
+ * @param date    영업일자 (yyyyMMdd)
+ * @param time    체결시각 (HHmmss, 일/월/연봉은 0)
+ * @param open    시가 (없으면 현재가/종가)
+ * @param high    고가
+ * @param low     저가
+ * @param close   종가 (일/월/연봉 stck_clpr, 분봉 stck_prpr)
+ * @param cntgVol 체결 거래량 (분봉)
+ * @param acmlVol 누적 거래량
+ */
+public record KisCandleRow(
+        int date,
+        int time,
+        long open,
+        long high,
+        long low,
+        long close,
+        long cntgVol,
+        long acmlVol
+) {
+
+    /**
+     * 체결 분 (HHmm)
+     */
+    public int minute() {
+        return time / 100;
+    }
+}
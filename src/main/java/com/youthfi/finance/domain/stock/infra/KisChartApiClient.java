@@ -4,15 +4,15 @@ import com.youthfi.finance.domain.stock.application.dto.response.CandleDataRespo
 import com.youthfi.finance.domain.stock.application.dto.response.ChartDataResponse;
 import com.youthfi.finance.global.config.properties.KisApiEndpoints;
 import com.youthfi.finance.global.config.properties.KisApiProperties;
+import com.youthfi.finance.global.service.KisCredentialPool;
 import com.youthfi.finance.global.service.KisTokenService;
+import com.youthfi.finance.global.service.MarketCalendar;
 import com.youthfi.finance.global.exception.StockException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.HttpServerErrorException;
@@ -20,12 +20,11 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * KIS API 차트 데이터 조회 클라이언트
@@ -37,7 +36,11 @@ public class KisChartApiClient {
 
     private final RestTemplate restTemplate;
     private final KisTokenService kisTokenService;
-    private final KisApiProperties kisApiProperties;
+    private final KisCredentialPool kisCredentialPool;
+    private final KisMinuteChartPager kisMinuteChartPager;
+    private final KisDailyChartPager kisDailyChartPager;
+    private final KisChartResponseParser kisChartResponseParser;
+    private final MarketCalendar marketCalendar;
     
     
     /**
@@ -45,67 +48,135 @@ public class KisChartApiClient {
      */
     public ChartDataResponse getDailyChart(String stockCode, int days) {
         try {
-            String appkey = kisApiProperties.getKeys().get(0).getAppkey();
-            String appsecret = kisApiProperties.getKeys().get(0).getAppsecret();
+            KisApiProperties.KisKey key = kisCredentialPool.acquire();
+            String appkey = key.getAppkey();
+            String appsecret = key.getAppsecret();
             String accessToken = kisTokenService.getValidToken(appkey, appsecret);
             
             HttpHeaders headers = createHeaders(accessToken, appkey, appsecret, KisApiEndpoints.DAILY_CHART_TR_ID);
             String url = buildChartUrl(stockCode, "D", days);
             
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            ResponseEntity<Map> response = restTemplate.exchange(
-                url, HttpMethod.GET, entity, Map.class);
+            KisChartPage page = fetchChartPage(url, headers);
             
-            return parseChartResponse(stockCode, "1d", String.valueOf(days) + "d", response);
+            return parseChartResponse(stockCode, "1d", String.valueOf(days) + "d", page);
             
+        } catch (StockException e) {
+            throw e;
         } catch (Exception e) {
             log.error("일봉 데이터 조회 실패: stockCode={}, days={}", stockCode, days, e);
             throw StockException.kisApiConnectionFailed(e);
         }
     }
     
+    /**
+     * 기간 일봉 조회 [from, to] (1회 조회 한도를 넘는 기간은 윈도우로 나눠 병렬 조회)
+     * - 윈도우 하나라도 실패하면 예외 (빈 구간이 섞인 결과를 저장하지 않도록)
+     */
+    public ChartDataResponse getDailyChart(String stockCode, LocalDate from, LocalDate to) {
+        try {
+            List<KisCandleRow> rows = kisDailyChartPager.fetchRange(from, to,
+                    (windowFrom, windowTo) -> fetchDailyWindow(stockCode, windowFrom, windowTo));
+            List<CandleDataResponse> candles = new ArrayList<>(rows.size());
+            for (KisCandleRow row : rows) {
+                candles.add(CandleDataResponse.of(row.date(), row.open(), row.high(), row.low(), row.close(), row.acmlVol()));
+            }
+            return new ChartDataResponse(stockCode, "1d", from + "~" + to, candles,
+                    marketCalendar.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        } catch (StockException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("기간 일봉 조회 실패: stockCode={}, from={}, to={}", stockCode, from, to, e);
+            throw StockException.kisApiConnectionFailed(e);
+        }
+    }
+
+    /**
+     * 일봉 윈도우 하나 조회 (윈도우마다 appkey 풀에서 호출 한도를 획득)
+     */
+    private List<KisCandleRow> fetchDailyWindow(String stockCode, LocalDate from, LocalDate to) {
+        KisApiProperties.KisKey key = kisCredentialPool.acquire();
+        String accessToken = kisTokenService.getValidToken(key.getAppkey(), key.getAppsecret());
+        HttpHeaders headers = createHeaders(accessToken, key.getAppkey(), key.getAppsecret(), KisApiEndpoints.DAILY_CHART_TR_ID);
+
+        KisChartPage page = fetchChartPage(buildChartUrl(stockCode, "D", from, to), headers);
+        if (page == null || !page.isSuccess()) {
+            log.warn("[DAILY-PAGE] KIS 응답 오류: stockCode={}, from={}, to={}, msgCd={}, msg={}",
+                    stockCode, from, to, page != null ? page.msgCd() : null, page != null ? page.msg1() : null);
+            throw StockException.kisApiResponseError(new IllegalStateException(
+                    "daily window " + from + "~" + to + ": " + (page != null ? page.msgCd() : "no body")));
+        }
+        return page.rows();
+    }
+    
     /**
      * 월봉 데이터 조회 (5년)
      */
     public ChartDataResponse getMonthlyChart(String stockCode, int years) {
         try {
-            String appkey = kisApiProperties.getKeys().get(0).getAppkey();
-            String appsecret = kisApiProperties.getKeys().get(0).getAppsecret();
+            KisApiProperties.KisKey key = kisCredentialPool.acquire();
+            String appkey = key.getAppkey();
+            String appsecret = key.getAppsecret();
             String accessToken = kisTokenService.getValidToken(appkey, appsecret);
             
             HttpHeaders headers = createHeaders(accessToken, appkey, appsecret, KisApiEndpoints.DAILY_CHART_TR_ID);
             String url = buildChartUrl(stockCode, "M", years * 12);
             
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            ResponseEntity<Map> response = restTemplate.exchange(
-                url, HttpMethod.GET, entity, Map.class);
+            KisChartPage page = fetchChartPage(url, headers);
             
-            return parseChartResponse(stockCode, "1m", String.valueOf(years) + "y", response);
+            return parseChartResponse(stockCode, "1m", String.valueOf(years) + "y", page);
             
+        } catch (StockException e) {
+            throw e;
         } catch (Exception e) {
             log.error("월봉 데이터 조회 실패: stockCode={}, years={}", stockCode, years, e);
             throw StockException.kisApiConnectionFailed(e);
         }
     }
     
+    /**
+     * 주봉 데이터 조회 (저장소 일봉으로 집계할 수 없을 때만 사용)
+     */
+    public ChartDataResponse getWeeklyChart(String stockCode, int years) {
+        try {
+            KisApiProperties.KisKey key = kisCredentialPool.acquire();
+            String appkey = key.getAppkey();
+            String appsecret = key.getAppsecret();
+            String accessToken = kisTokenService.getValidToken(appkey, appsecret);
+            
+            HttpHeaders headers = createHeaders(accessToken, appkey, appsecret, KisApiEndpoints.DAILY_CHART_TR_ID);
+            String url = buildChartUrl(stockCode, "W", years * 52);
+            
+            KisChartPage page = fetchChartPage(url, headers);
+            
+            return parseChartResponse(stockCode, "1w", String.valueOf(years) + "y", page);
+            
+        } catch (StockException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("주봉 데이터 조회 실패: stockCode={}, years={}", stockCode, years, e);
+            throw StockException.kisApiConnectionFailed(e);
+        }
+    }
+    
     /**
      * 연봉 데이터 조회 (10년)
      */
     public ChartDataResponse getYearlyChart(String stockCode, int years) {
         try {
-            String appkey = kisApiProperties.getKeys().get(0).getAppkey();
-            String appsecret = kisApiProperties.getKeys().get(0).getAppsecret();
+            KisApiProperties.KisKey key = kisCredentialPool.acquire();
+            String appkey = key.getAppkey();
+            String appsecret = key.getAppsecret();
             String accessToken = kisTokenService.getValidToken(appkey, appsecret);
             
             HttpHeaders headers = createHeaders(accessToken, appkey, appsecret, KisApiEndpoints.DAILY_CHART_TR_ID);
             String url = buildChartUrl(stockCode, "Y", years);
             
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            ResponseEntity<Map> response = restTemplate.exchange(
-                url, HttpMethod.GET, entity, Map.class);
+            KisChartPage page = fetchChartPage(url, headers);
             
-            return parseChartResponse(stockCode, "1y", String.valueOf(years) + "y", response);
+            return parseChartResponse(stockCode, "1y", String.valueOf(years) + "y", page);
             
+        } catch (StockException e) {
+            throw e;
         } catch (Exception e) {
             log.error("연봉 데이터 조회 실패: stockCode={}, years={}", stockCode, years, e);
             throw StockException.kisApiConnectionFailed(e);
@@ -115,160 +186,12 @@ public class KisChartApiClient {
     /**
      * 분봉 데이터 조회 (당일)
      */
-
     public ChartDataResponse getMinuteChart(String stockCode) {
         try {
-            String appkey = kisApiProperties.getKeys().get(0).getAppkey();
-            String appsecret = kisApiProperties.getKeys().get(0).getAppsecret();
-            String accessToken = kisTokenService.getValidToken(appkey, appsecret);
-            
-            HttpHeaders headers = createHeaders(accessToken, appkey, appsecret, KisApiEndpoints.MINUTE_CHART_TR_ID);
-
-            // Asia/Seoul 기준으로 오늘 09:00부터 현재 직전 분까지 30개 단위 페이징 수집
-            ZoneId KST = ZoneId.of("Asia/Seoul");
-            LocalDate today = LocalDate.now(KST);
-            String todayStr = today.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            String nowHHmmss = LocalDateTime.now(KST).format(DateTimeFormatter.ofPattern("HHmmss"));
-            // 장 종료 시간(15:30:00) 초과 수집 방지: 세션 종료 상한을 15:30:00으로 캡
-            String sessionCloseHHmmss = "153000";
-            String sessionEndHHmmss = (nowHHmmss.compareTo(sessionCloseHHmmss) > 0) ? sessionCloseHHmmss : nowHHmmss;
-
-            String startHHmmss = "090000";
-            String lastFetchedHHmm = null; // HHmm 기준
-            List<Map<String, Object>> allItems = new ArrayList<>();
-
-            int safety = 0; // 무한루프 방지
-            int rateLimitRetries = 0;
-            while (safety++ < 240) { // 최대 240분(4시간 분량) 안전 한도
-                String url = buildMinuteChartUrl(stockCode, startHHmmss);
-                HttpEntity<String> entity = new HttpEntity<>(headers);
-                ResponseEntity<Map> response;
-                try {
-                    response = restTemplate.exchange(url, HttpMethod.GET, entity, Map.class);
-                } catch (HttpServerErrorException e) {
-                    String body = e.getResponseBodyAsString();
-                    if (body != null && body.contains("EGW00201")) { // 초당 거래건수 초과
-                        // 레이트리밋 백오프 후 재시도
-                        if (rateLimitRetries++ < 3) {
-                            try { Thread.sleep(1200); } catch (InterruptedException ie) { Thread.currentThread().interrupt(); }
-                            continue;
-                        }
-                    }
-                    throw e;
-                }
-                Map<String, Object> body = response.getBody();
-                if (body == null || !"0".equals(String.valueOf(body.get("rt_cd")))) {
-                    break;
-                }
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> items = (List<Map<String, Object>>) body.get("output2");
-                if (items == null || items.isEmpty()) {
-                    break;
-                }
-
-                // 오늘 데이터만 누적, 중복/역행 제거
-                String maxHHmm = lastFetchedHHmm;
-                for (Map<String, Object> item : items) {
-                    String dateStr = asString(item.get("stck_bsop_date"));
-                    if (!todayStr.equals(dateStr)) continue;
-                    String rawHour = asString(item.get("stck_cntg_hour"));
-                    String hhmm = normalizeToHHmm(rawHour);
-                    log.debug("[MINUTE-PAGE] date={}, rawHour={}, hhmm={}, lastFetchedHHmm={}, startHHmmss={}",
-                            dateStr, rawHour, hhmm, lastFetchedHHmm, startHHmmss);
-                    if (hhmm == null) continue;
-                    if (lastFetchedHHmm != null && hhmm.compareTo(lastFetchedHHmm) <= 0) continue;
-                    allItems.add(item);
-                    if (maxHHmm == null || hhmm.compareTo(maxHHmm) > 0) {
-                        maxHHmm = hhmm;
-                    }
-                }
-
-                if (maxHHmm == null) {
-                    // 아직 오늘 데이터가 없는 경우(개장 전 등)
-                    break;
-                }
-
-                lastFetchedHHmm = maxHHmm;
-                String candidateNext = toPlus30MinEndOfMinuteHHmmss(maxHHmm);
-                // 다음 호출 상한을 장마감 15:30:00으로 캡핑
-                startHHmmss = (candidateNext.compareTo(sessionEndHHmmss) > 0) ? sessionEndHHmmss : candidateNext;
-                log.debug("[MINUTE-NEXT] maxHHmm={}, candidateNext={}, nextStartHHmmss(capped)= {}, sessionEndHHmmss={}", maxHHmm, candidateNext, startHHmmss, sessionEndHHmmss);
-
-                // 이미 15:30에 도달했거나 초과했다면 루프 종료 (HHmm 기준)
-                if (maxHHmm.compareTo("1530") >= 0) {
-                    log.debug("[MINUTE-END] Market close reached: maxHHmm={}", maxHHmm);
-                    break;
-                }
-                
-                // 현재 시간을 초과했다면 루프 종료 (1분 여유를 둠)
-                String currentHHmm = LocalDateTime.now(KST).minusMinutes(1).format(DateTimeFormatter.ofPattern("HHmm"));
-                if (maxHHmm.compareTo(currentHHmm) >= 0) {
-                    log.debug("[MINUTE-END] Current time reached: maxHHmm={}, currentHHmm={}", maxHHmm, currentHHmm);
-                    break;
-                }
-
-                // 현재 직전 분을 초과하면 종료
-                // 개별 페이지 간 레이트리밋 보호
-
-                // KIS 레이트리밋 보호를 위한 소량 지연
-                try { Thread.sleep(300); } catch (InterruptedException ie) { Thread.currentThread().interrupt(); }
-            }
-
-            // 파싱/정렬 및 볼륨 계산
-            List<CandleDataResponse> candles = new ArrayList<>();
-            allItems.sort((a, b) -> {
-                String ta = asString(a.get("stck_cntg_hour"));
-                String tb = asString(b.get("stck_cntg_hour"));
-                return ta.compareTo(tb);
-            });
-
-            Long prevAcmlVol = null;
-            String lastDateForDiff = null;
-            for (Map<String, Object> item : allItems) {
-                String dateStr = asString(item.get("stck_bsop_date"));
-                String timeStr = asString(item.get("stck_cntg_hour")); // HHmm
-                String openStr = asString(item.get("stck_oprc"));
-                String highStr = asString(item.get("stck_hgpr"));
-                String lowStr = asString(item.get("stck_lwpr"));
-                String closeStr = asString(item.get("stck_prpr"));
-                String cntgVolStr = asString(item.get("cntg_vol"));
-                String acmlVolStr = asString(item.get("acml_vol"));
-
-                if (lastDateForDiff == null || !lastDateForDiff.equals(dateStr)) {
-                    prevAcmlVol = null;
-                    lastDateForDiff = dateStr;
-                }
-
-                Long volumeVal;
-                Long cntgVol = parseLongOrZero(cntgVolStr);
-                if (cntgVol != null && cntgVol > 0) {
-                    volumeVal = cntgVol;
-                } else {
-                    Long acmlVol = parseLongOrZero(acmlVolStr);
-                    if (acmlVol != null && prevAcmlVol != null && acmlVol >= prevAcmlVol) {
-                        volumeVal = acmlVol - prevAcmlVol;
-                    } else {
-                        volumeVal = 0L;
-                    }
-                    if (acmlVolStr != null) {
-                        prevAcmlVol = parseLongOrZero(acmlVolStr);
-                    }
-                }
-
-                candles.add(CandleDataResponse.of(
-                        dateStr,
-                        formatHHmm(timeStr),
-                        openStr,
-                        highStr,
-                        lowStr,
-                        closeStr,
-                        String.valueOf(volumeVal)
-                ));
-            }
-
-            return new ChartDataResponse(stockCode, "1min", "today", candles,
-                    LocalDateTime.now(KST).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-            
+            // Asia/Seoul 기준으로 오늘 09:00부터 현재 직전 분까지 30분 윈도우 병렬 수집
+            return fetchTodayMinuteChart(stockCode, null);
+        } catch (StockException e) {
+            throw e;
         } catch (Exception e) {
             log.error("분봉 데이터 조회 실패: stockCode={}", stockCode, e);
             throw StockException.kisApiConnectionFailed(e);
@@ -280,155 +203,120 @@ public class KisChartApiClient {
      */
     public ChartDataResponse getMinuteChartSince(String stockCode, String sinceHHmm) {
         try {
-            String appkey = kisApiProperties.getKeys().get(0).getAppkey();
-            String appsecret = kisApiProperties.getKeys().get(0).getAppsecret();
-            String accessToken = kisTokenService.getValidToken(appkey, appsecret);
-
-            HttpHeaders headers = createHeaders(accessToken, appkey, appsecret, KisApiEndpoints.MINUTE_CHART_TR_ID);
-
-            ZoneId KST = ZoneId.of("Asia/Seoul");
-            LocalDate today = LocalDate.now(KST);
-            String todayStr = today.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            String nowHHmmss = LocalDateTime.now(KST).format(DateTimeFormatter.ofPattern("HHmmss"));
-            String sessionCloseHHmmss = "153000";
-            String sessionEndHHmmss = (nowHHmmss.compareTo(sessionCloseHHmmss) > 0) ? sessionCloseHHmmss : nowHHmmss;
-
             String normalizedSince = (sinceHHmm != null && sinceHHmm.length() >= 4) ? sinceHHmm.substring(0, 4) : null;
-            String startHHmmss = (normalizedSince != null)
-                    ? normalizedSince + "00"
-                    : "090000";
-            String lastFetchedHHmm = normalizedSince; // 이미 보유한 마지막 분은 건너뜀
-            List<Map<String, Object>> allItems = new ArrayList<>();
+            return fetchTodayMinuteChart(stockCode, normalizedSince); // 이미 보유한 마지막 분은 건너뜀
+        } catch (StockException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("분봉 증분 데이터 조회 실패: stockCode={}, sinceHHmm={}", stockCode, sinceHHmm, e);
+            throw StockException.kisApiConnectionFailed(e);
+        }
+    }
 
-            int safety = 0;
-            int rateLimitRetries = 0;
+    private ChartDataResponse fetchTodayMinuteChart(String stockCode, String afterHHmm) {
+        LocalDateTime now = marketCalendar.now();
+        LocalDate today = now.toLocalDate();
+        String lastUpdated = now.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        // 휴장일/개장 전에는 당일 분봉이 없으므로 KIS를 호출하지 않음
+        if (!marketCalendar.isTradingDay(today) || now.toLocalTime().isBefore(marketCalendar.openTime(today))) {
+            return new ChartDataResponse(stockCode, "1min", "today", List.of(), lastUpdated);
+        }
+        int todayYmd = Integer.parseInt(today.format(DateTimeFormatter.ofPattern("yyyyMMdd")));
+        // 장 마감 이후 수집 방지: 세션 종료 상한을 당일 마감 시각으로 캡
+        LocalTime close = marketCalendar.closeTime(today);
+        LocalTime sessionEnd = now.toLocalTime().isAfter(close) ? close : now.toLocalTime();
+        String sessionEndHHmmss = sessionEnd.format(DateTimeFormatter.ofPattern("HHmmss"));
 
-            // 루프(최대 240개임)
-            while (safety++ < 240) {
-                String url = buildMinuteChartUrl(stockCode, startHHmmss);
-                HttpEntity<String> entity = new HttpEntity<>(headers);
-                ResponseEntity<Map> response;
-                try {
-                    response = restTemplate.exchange(url, HttpMethod.GET, entity, Map.class);
-                } catch (HttpServerErrorException e) {
-                    String body = e.getResponseBodyAsString();
+        List<KisCandleRow> rows = kisMinuteChartPager.fetchSession(
+                todayYmd, afterHHmm, sessionEndHHmmss,
+                pageHHmmss -> fetchMinutePage(stockCode, pageHHmmss));
 
-                    // 서버 바디에 EGW00201 메시지가 있으면 레이트리밋 백오프 후 재시도 -> 이거는 kis 서버에서 주는 값임.
-                    // 혹은 output2 body가 null이거나 비어있으면 종료시킴.
-                    if (body != null && body.contains("EGW00201")) {
-                        if (rateLimitRetries++ < 3) {
-                            try { Thread.sleep(1200); } catch (InterruptedException ie) { Thread.currentThread().interrupt(); }
-                            continue;
-                        }
-                    }
-                    throw e;
-                }
-                Map<String, Object> body = response.getBody();
-                if (body == null || !"0".equals(String.valueOf(body.get("rt_cd")))) {
-                    break;
-                }
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> items = (List<Map<String, Object>>) body.get("output2");
-                if (items == null || items.isEmpty()) {
-                    break;
-                }
-                
-                // 오늘 데이터만 누적, 중복/역행 제거
-                String maxHHmm = lastFetchedHHmm;
-                for (Map<String, Object> item : items) {
-                    String dateStr = asString(item.get("stck_bsop_date"));
-                    if (!todayStr.equals(dateStr)) continue;
-                    String rawHour = asString(item.get("stck_cntg_hour"));
-                    String hhmm = normalizeToHHmm(rawHour);
-                    if (hhmm == null) continue;
-                    if (lastFetchedHHmm != null && hhmm.compareTo(lastFetchedHHmm) <= 0) continue;
-                    allItems.add(item);
-                    if (maxHHmm == null || hhmm.compareTo(maxHHmm) > 0) {
-                        maxHHmm = hhmm;
-                    }
-                }
-                // 최신분 개싱, 다음 조회 시각 계산
-                if (maxHHmm == null) {
-                    break;
-                }
-                lastFetchedHHmm = maxHHmm;
-                String candidateNext = toPlus30MinEndOfMinuteHHmmss(maxHHmm);
-                startHHmmss = (candidateNext.compareTo(sessionEndHHmmss) > 0) ? sessionEndHHmmss : candidateNext;
+        return new ChartDataResponse(stockCode, "1min", "today", toMinuteCandles(rows), lastUpdated);
+    }
 
-                if (maxHHmm.compareTo("1530") >= 0) {
-                    break;
-                }
-                String currentHHmm = LocalDateTime.now(KST).minusMinutes(1).format(DateTimeFormatter.ofPattern("HHmm"));
-                if (maxHHmm.compareTo(currentHHmm) >= 0) {
-                    break;
+    /**
+     * 분봉 한 페이지 조회 (기준 시각 포함 이전 30개, KIS 응답 오류면 예외)
+     */
+    private List<KisCandleRow> fetchMinutePage(String stockCode, String pageHHmmss) {
+        String url = buildMinuteChartUrl(stockCode, pageHHmmss);
+        int rateLimitRetries = 0;
+        while (true) {
+            HttpHeaders headers = createMinuteChartHeaders();
+            KisChartPage page;
+            try {
+                page = fetchChartPage(url, headers);
+            } catch (HttpServerErrorException e) {
+                String body = e.getResponseBodyAsString();
+                // 서버 바디에 EGW00201(초당 거래건수 초과)이 있으면 클러스터 호출 한도에 반영 후 재시도
+                if (body != null && body.contains("EGW00201") && rateLimitRetries++ < 3) {
+                    kisCredentialPool.reportRateLimited(headers.getFirst("appkey"));
+                    continue;
                 }
-
-                try { Thread.sleep(300); } catch (InterruptedException ie) { Thread.currentThread().interrupt(); }
+                throw e;
             }
+            if (page == null || !page.isSuccess()) {
+                // 빈 페이지로 병합하면 세션 중간이 빈 스냅샷이 캐시되고 증분 조회로도 복구되지 않으므로 전체 실패 처리
+                log.warn("[MINUTE-PAGE] KIS 응답 오류: stockCode={}, page={}, msgCd={}, msg={}",
+                        stockCode, pageHHmmss, page != null ? page.msgCd() : null, page != null ? page.msg1() : null);
+                throw StockException.kisApiResponseError(new IllegalStateException(
+                        "minute page " + pageHHmmss + ": " + (page != null ? page.msgCd() : "no body")));
+            }
+            return page.rows();
+        }
+    }
 
-            // 누적 거래량 값 오름차순 정렬
-            List<CandleDataResponse> candles = new ArrayList<>();
-            allItems.sort((a, b) -> {
-                String ta = asString(a.get("stck_cntg_hour"));
-                String tb = asString(b.get("stck_cntg_hour"));
-                return ta.compareTo(tb);
-            });
-
-            // 누적 거래량 계산
-            Long prevAcmlVol = null;
-            String lastDateForDiff = null;
-            for (Map<String, Object> item : allItems) {
-                String dateStr = asString(item.get("stck_bsop_date"));
-                String timeStr = asString(item.get("stck_cntg_hour"));
-                String openStr = asString(item.get("stck_oprc"));
-                String highStr = asString(item.get("stck_hgpr"));
-                String lowStr = asString(item.get("stck_lwpr"));
-                String closeStr = asString(item.get("stck_prpr"));
-                String cntgVolStr = asString(item.get("cntg_vol"));
-                String acmlVolStr = asString(item.get("acml_vol"));
-
-                if (lastDateForDiff == null || !lastDateForDiff.equals(dateStr)) {
-                    prevAcmlVol = null;
-                    lastDateForDiff = dateStr;
-                }
-                
-            // 분 거래량 계산
-                Long volumeVal;
-                Long cntgVol = parseLongOrZero(cntgVolStr);
-                if (cntgVol != null && cntgVol > 0) {
-                    volumeVal = cntgVol;
-                } else {
-                    Long acmlVol = parseLongOrZero(acmlVolStr);
-                    if (acmlVol != null && prevAcmlVol != null && acmlVol >= prevAcmlVol) {
-                        volumeVal = acmlVol - prevAcmlVol;
-                    } else {
-                        volumeVal = 0L;
-                    }
-                    if (acmlVolStr != null) {
-                        prevAcmlVol = parseLongOrZero(acmlVolStr);
-                    }
-                }
-
-                candles.add(CandleDataResponse.of(
-                        dateStr,
-                        formatHHmm(timeStr),
-                        openStr,
-                        highStr,
-                        lowStr,
-                        closeStr,
-                        String.valueOf(volumeVal)
-                ));
+    /**
+     * 분봉 행 → 캔들 변환 (cntg_vol 우선, 없으면 acml_vol 차분)
+     */
+    private List<CandleDataResponse> toMinuteCandles(List<KisCandleRow> sortedRows) {
+        List<CandleDataResponse> candles = new ArrayList<>(sortedRows.size());
+        long prevAcmlVol = -1L;
+        int lastDateForDiff = 0;
+        for (KisCandleRow row : sortedRows) {
+            if (lastDateForDiff != row.date()) {
+                prevAcmlVol = -1L;
+                lastDateForDiff = row.date();
             }
 
-            return new ChartDataResponse(stockCode, "1min", "today", candles,
-                    LocalDateTime.now(KST).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            long volume;
+            if (row.cntgVol() > 0) {
+                volume = row.cntgVol();
+            } else {
+                volume = (prevAcmlVol >= 0 && row.acmlVol() >= prevAcmlVol) ? row.acmlVol() - prevAcmlVol : 0L;
+                prevAcmlVol = row.acmlVol();
+            }
 
-        } catch (Exception e) {
-            log.error("분봉 증분 데이터 조회 실패: stockCode={}, sinceHHmm={}", stockCode, sinceHHmm, e);
-            throw StockException.kisApiConnectionFailed(e);
+            candles.add(CandleDataResponse.of(
+                    row.date(),
+                    row.time(),
+                    row.open(),
+                    row.high(),
+                    row.low(),
+                    row.close(),
+                    volume
+            ));
         }
+        return candles;
     }
     
+    /**
+     * 차트 API 호출 (응답 본문을 스트리밍 파서로 바로 변환)
+     */
+    private KisChartPage fetchChartPage(String url, HttpHeaders headers) {
+        return restTemplate.execute(url, HttpMethod.GET,
+                request -> request.getHeaders().putAll(headers),
+                response -> kisChartResponseParser.parse(response.getBody()));
+    }
+
+    /**
+     * 분봉 페이지 단위 헤더 생성 (페이지마다 appkey 풀에서 호출 한도를 획득)
+     */
+    private HttpHeaders createMinuteChartHeaders() {
+        KisApiProperties.KisKey key = kisCredentialPool.acquire();
+        String accessToken = kisTokenService.getValidToken(key.getAppkey(), key.getAppsecret());
+        return createHeaders(accessToken, key.getAppkey(), key.getAppsecret(), KisApiEndpoints.MINUTE_CHART_TR_ID);
+    }
+
     private HttpHeaders createHeaders(String accessToken, String appkey, String appsecret, String trId) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -447,6 +335,9 @@ public class KisChartApiClient {
             case "Y": // 연봉: 충분한 기간 요청 (20년치)
                 daysOffset = 20 * 365; // 20년치 요청
                 break;
+            case "W": // 주봉: 주 단위를 일 단위로 변환
+                daysOffset = count * 7;
+                break;
             case "M": // 월봉: 월 단위를 일 단위로 변환 (5년 = 60개월이므로 충분한 일수 요청)
                 daysOffset = count * 30; // 5년 = 150일로 요청
                 break;
@@ -456,12 +347,17 @@ public class KisChartApiClient {
                 break;
         }
         
+        return buildChartUrl(stockCode, period, LocalDate.now().minusDays(daysOffset), LocalDate.now());
+    }
+
+    private String buildChartUrl(String stockCode, String period, LocalDate from, LocalDate to) {
+        DateTimeFormatter yyyymmdd = DateTimeFormatter.ofPattern("yyyyMMdd");
         return UriComponentsBuilder
             .fromHttpUrl(KisApiEndpoints.REAL_BASE_URL + KisApiEndpoints.DAILY_CHART)
             .queryParam("fid_cond_mrkt_div_code", KisApiEndpoints.MARKET_CODE_KOSPI)
             .queryParam("fid_input_iscd", stockCode)
-            .queryParam("fid_input_date_1", getDateString(-daysOffset))
-            .queryParam("fid_input_date_2", getDateString(0))
+            .queryParam("fid_input_date_1", from.format(yyyymmdd))
+            .queryParam("fid_input_date_2", to.format(yyyymmdd))
             .queryParam("fid_period_div_code", period)
             .queryParam("fid_org_adj_prc", "1")
             .toUriString();
@@ -482,10 +378,6 @@ public class KisChartApiClient {
             .toUriString();
     }
     
-    private String getDateString(int daysOffset) {
-        return LocalDate.now().plusDays(daysOffset).format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-    }
-    
     private String getTodayString() {
         return LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
     }
@@ -500,176 +392,50 @@ public class KisChartApiClient {
         return next.format(DateTimeFormatter.ofPattern("HHmmss"));
     }
 
-    private String toPlus30MinEndOfMinuteHHmmss(String hhmm) {
-        if (hhmm == null || hhmm.length() != 4) return "090000";
-        LocalDateTime base = LocalDate.now().atTime(
-                Integer.parseInt(hhmm.substring(0, 2)),
-                Integer.parseInt(hhmm.substring(2, 4))
-        );
-        LocalDateTime next = base.plus(30, ChronoUnit.MINUTES);
-        return next.format(DateTimeFormatter.ofPattern("HHmm")) + "59"; // 해당 분의 끝초
-    }
-
-    private String formatHHmm(String hhmm) {
-        if (hhmm == null || hhmm.length() != 4) return hhmm;
-        return hhmm.substring(0, 2) + ":" + hhmm.substring(2, 4);
-    }
-
-    private String normalizeToHHmm(String raw) {
-        if (raw == null) return null;
-        String s = raw.trim();
-        if (s.length() >= 4) {
-            return s.substring(0, 4); // HHMMSS -> HHMM
-        }
-        if (s.length() == 3) {
-            // e.g., 900 -> 0900
-            return ("000" + s).substring(s.length());
-        }
-        if (s.length() == 2) {
-            return s + "00";
-        }
-        return null;
-    }
-    
-    @SuppressWarnings("unchecked")
-    private ChartDataResponse parseChartResponse(String stockCode, String period, String range, ResponseEntity<Map> response) {
+    private ChartDataResponse parseChartResponse(String stockCode, String period, String range, KisChartPage page) {
         try {
-            Map<String, Object> body = response.getBody();
-            log.info("KIS API 전체 응답: {}", body);
-            
-            if (body == null || !"0".equals(body.get("rt_cd"))) {
-                log.warn("KIS API 응답 오류: {}", body);
+            if (page == null || !page.isSuccess()) {
+                log.warn("KIS API 응답 오류: msgCd={}, msg={}", page != null ? page.msgCd() : null, page != null ? page.msg1() : null);
                 return ChartDataResponse.empty(stockCode, period, range);
             }
             
             // KIS API 응답 구조: output1, output2가 최상위 레벨에 있음
-            List<Map<String, Object>> items = (List<Map<String, Object>>) body.get("output2");
-            log.info("KIS API output2 (items): {}", items);
+            List<KisCandleRow> rows = page.rows();
+            log.debug("KIS API output2 행 수: stockCode={}, period={}, rows={}", stockCode, period, rows.size());
             
-            if (items == null || items.isEmpty()) {
+            if (rows.isEmpty()) {
                 log.warn("output2가 null이거나 비어있습니다.");
                 return ChartDataResponse.empty(stockCode, period, range);
             }
             
-            List<CandleDataResponse> candles = new ArrayList<>();
-            if ("1min".equals(period)) {
-                // 분봉: cntg_vol 우선, 없으면 acml_vol 차분으로 계산
-                // 시간순 정렬을 위해 과거→현재 순으로 처리
-                List<Map<String, Object>> sortedItems = new ArrayList<>(items);
-                sortedItems.sort((a, b) -> {
-                    String timeA = asString(a.get("stck_cntg_hour"));
-                    String timeB = asString(b.get("stck_cntg_hour"));
-                    return timeA.compareTo(timeB);
-                });
-                
-                Long prevAcmlVol = null;
-                for (Map<String, Object> item : sortedItems) {
-                    try {
-                        String dateStr = asString(item.get("stck_bsop_date"));
-                        String timeStr = asString(item.get("stck_cntg_hour")); // 체결시간 (HHMM)
-                        String openStr = asString(item.get("stck_oprc"));
-                        String highStr = asString(item.get("stck_hgpr"));
-                        String lowStr = asString(item.get("stck_lwpr"));
-                        String closeStr = asString(item.get("stck_prpr"));
-
-                        String cntgVolStr = asString(item.get("cntg_vol"));
-                        String acmlVolStr = asString(item.get("acml_vol"));
-
-                        Long volumeVal;
-                        Long cntgVol = parseLongOrZero(cntgVolStr);
-                        if (cntgVol != null && cntgVol > 0) {
-                            // cntg_vol이 있으면 그대로 사용
-                            volumeVal = cntgVol;
-                        } else {
-                            // cntg_vol이 없으면 acml_vol 차분으로 계산
-                            Long acmlVol = parseLongOrZero(acmlVolStr);
-                            if (acmlVol != null && prevAcmlVol != null && acmlVol >= prevAcmlVol) {
-                                volumeVal = acmlVol - prevAcmlVol;
-                            } else {
-                                volumeVal = 0L;
-                            }
-                        }
-                        
-                        // 다음 차분 계산을 위해 현재 acml_vol 저장
-                        Long currentAcmlVol = parseLongOrZero(acmlVolStr);
-                        if (currentAcmlVol != null) {
-                            prevAcmlVol = currentAcmlVol;
-                        }
-
-                        CandleDataResponse candle = CandleDataResponse.of(
-                            dateStr,
-                            timeStr, // 시간 정보 추가
-                            openStr,
-                            highStr,
-                            lowStr,
-                            closeStr,
-                            String.valueOf(volumeVal)
-                        );
-                        candles.add(candle);
-                    } catch (Exception e) {
-                        log.warn("캔들 데이터 파싱 실패: {}", item, e);
-                    }
-                }
-            } else {
-                // 일/월/연: 기존 로직 유지 (volume=acml_vol)
-                for (Map<String, Object> item : items) {
-                    try {
-                        String dateStr = asString(item.get("stck_bsop_date"));
-                        String openStr = firstNonNull(asString(item.get("stck_oprc")), asString(item.get("stck_prpr")));
-                        String highStr = asString(item.get("stck_hgpr"));
-                        String lowStr = asString(item.get("stck_lwpr"));
-                        String closeStr = firstNonNull(asString(item.get("stck_clpr")), asString(item.get("stck_prpr")));
-                        String volStr = asString(item.get("acml_vol"));
-
-                        CandleDataResponse candle = CandleDataResponse.of(
-                            dateStr,
-                            openStr,
-                            highStr,
-                            lowStr,
-                            closeStr,
-                            volStr
-                        );
-                        candles.add(candle);
-                    } catch (Exception e) {
-                        log.warn("캔들 데이터 파싱 실패: {}", item, e);
-                    }
-                }
-                
-                // 연봉의 경우 최신 N개만 반환 (요청한 연수만큼)
-                if ("1y".equals(period)) {
-                    int requestedYears = extractYears(range);
-                    if (candles.size() > requestedYears) {
-                        candles = new ArrayList<>(candles.subList(0, Math.min(requestedYears, candles.size())));
-                    }
+            // 일/월/연: volume=acml_vol
+            List<CandleDataResponse> candles = new ArrayList<>(rows.size());
+            for (KisCandleRow row : rows) {
+                candles.add(CandleDataResponse.of(
+                    row.date(),
+                    row.open(),
+                    row.high(),
+                    row.low(),
+                    row.close(),
+                    row.acmlVol()
+                ));
+            }
+            
+            // 연봉의 경우 최신 N개만 반환 (요청한 연수만큼)
+            if ("1y".equals(period)) {
+                int requestedYears = extractYears(range);
+                if (candles.size() > requestedYears) {
+                    candles = new ArrayList<>(candles.subList(0, Math.min(requestedYears, candles.size())));
                 }
             }
             
-            return new ChartDataResponse(stockCode, period, range, candles, LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            return new ChartDataResponse(stockCode, period, range, candles, marketCalendar.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
             
         } catch (Exception e) {
             log.error("차트 응답 파싱 실패", e);
             throw StockException.kisApiResponseError(e);
         }
     }
-
-    private String asString(Object value) {
-        return value == null ? null : String.valueOf(value);
-    }
-
-    private String firstNonNull(String a, String b) {
-        return a != null && !a.isEmpty() ? a : (b != null ? b : null);
-    }
-
-    private Long parseLongOrZero(String value) {
-        if (value == null || value.isEmpty()) {
-            return 0L;
-        }
-        try {
-            return Long.parseLong(value);
-        } catch (NumberFormatException e) {
-            return 0L;
-        }
-    }
     
     private int extractYears(String range) {
         if (range.endsWith("y")) {
@@ -0,0 +1,18 @@
+package com.youthfi.finance.domain.stock.infra;
+
+import java.util.List;
+
+/**
+ * KIS 차트 응답 (결과 코드 + output2 행)
+ */
+public record KisChartPage(
+        String rtCd,
+        String msgCd,
+        String msg1,
+        List<KisCandleRow> rows
+) {
+
+    public boolean isSuccess() {
+        return "0".equals(rtCd);
+    }
+}
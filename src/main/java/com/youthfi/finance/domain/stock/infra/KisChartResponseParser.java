@@ -0,0 +1,167 @@
+package com.youthfi.finance.domain.stock.infra;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * KIS 차트 응답 스트리밍 파서
+ * - 응답 본문을 Map 트리로 만들지 않고 output2 행을 바로 원시 타입 캔들 필드로 읽음
+ * - 숫자 문자열은 파서 버퍼에서 직접 변환 (중간 String 생성 없음), 비정상 값은 0
+ * - 일/월/연봉(inquire-daily-itemchartprice)과 분봉(inquire-time-itemchartprice) 응답 공용
+ */
+@Component
+public class KisChartResponseParser {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public KisChartPage parse(InputStream body) throws IOException {
+        String rtCd = null;
+        String msgCd = null;
+        String msg1 = null;
+        List<KisCandleRow> rows = List.of();
+
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return new KisChartPage(null, null, null, rows);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "rt_cd" -> rtCd = parser.getValueAsString();
+                    case "msg_cd" -> msgCd = parser.getValueAsString();
+                    case "msg1" -> msg1 = parser.getValueAsString();
+                    case "output2" -> rows = (value == JsonToken.START_ARRAY) ? readRows(parser) : skip(parser, rows);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return new KisChartPage(rtCd, msgCd, msg1, rows);
+    }
+
+    private List<KisCandleRow> readRows(JsonParser parser) throws IOException {
+        List<KisCandleRow> rows = new ArrayList<>(32);
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            KisCandleRow row = readRow(parser);
+            if (row != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private KisCandleRow readRow(JsonParser parser) throws IOException {
+        int date = 0;
+        int time = 0;
+        long oprc = 0, hgpr = 0, lwpr = 0, clpr = 0, prpr = 0, cntgVol = 0, acmlVol = 0;
+        boolean hasOprc = false, hasClpr = false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case "stck_bsop_date" -> date = (int) readLong(parser, value);
+                case "stck_cntg_hour" -> time = (int) readLong(parser, value);
+                case "stck_oprc" -> {
+                    hasOprc = hasText(parser, value);
+                    oprc = readLong(parser, value);
+                }
+                case "stck_hgpr" -> hgpr = readLong(parser, value);
+                case "stck_lwpr" -> lwpr = readLong(parser, value);
+                case "stck_clpr" -> {
+                    hasClpr = hasText(parser, value);
+                    clpr = readLong(parser, value);
+                }
+                case "stck_prpr" -> prpr = readLong(parser, value);
+                case "cntg_vol" -> cntgVol = readLong(parser, value);
+                case "acml_vol" -> acmlVol = readLong(parser, value);
+                default -> {
+                    // 사용하지 않는 필드
+                }
+            }
+        }
+
+        if (date == 0) {
+            return null; // 빈 행 (KIS는 데이터가 없을 때 빈 객체를 내려주기도 함)
+        }
+        return new KisCandleRow(
+                date,
+                time,
+                hasOprc ? oprc : prpr,
+                hgpr,
+                lwpr,
+                hasClpr ? clpr : prpr,
+                cntgVol,
+                acmlVol
+        );
+    }
+
+    private List<KisCandleRow> skip(JsonParser parser, List<KisCandleRow> rows) throws IOException {
+        parser.skipChildren();
+        return rows;
+    }
+
+    private boolean hasText(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_STRING) {
+            return parser.getTextLength() > 0;
+        }
+        return value == JsonToken.VALUE_NUMBER_INT || value == JsonToken.VALUE_NUMBER_FLOAT;
+    }
+
+    /**
+     * 숫자 문자열 → long (부호 허용, 숫자가 아니면 0)
+     */
+    static long readLong(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        if (value != JsonToken.VALUE_STRING) {
+            return 0L;
+        }
+        char[] buffer = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int length = parser.getTextLength();
+        return parseLong(buffer, offset, length);
+    }
+
+    static long parseLong(char[] buffer, int offset, int length) {
+        if (length == 0) {
+            return 0L;
+        }
+        int i = offset;
+        int end = offset + length;
+        boolean negative = false;
+        char first = buffer[i];
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++i == end) {
+                return 0L;
+            }
+        }
+        long result = 0L;
+        for (; i < end; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return 0L;
+            }
+            result = result * 10 + digit;
+        }
+        return negative ? -result : result;
+    }
+}
@@ -0,0 +1,113 @@
+package com.youthfi.finance.domain.stock.infra;
+
+import com.youthfi.finance.global.exception.StockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+
+/**
+ * 장기 일봉 윈도우 병렬 수집 엔진
+ * - KIS 일봉 API는 1회 최대 100건을 반환하므로, 기간을 140일(20주, 평일 100일) 윈도우로 나누어
+ *   동시에 조회한 뒤 영업일(stck_bsop_date) 기준으로 병합/중복 제거
+ * - 호출 속도는 각 윈도우 조회가 appkey 풀에서 허가를 받으며 제한됨
+ */
+@Slf4j
+@Component
+public class KisDailyChartPager {
+
+    public static final int WINDOW_DAYS = 140;
+    private static final DateTimeFormatter YYYYMMDD = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final ThreadPoolTaskExecutor kisApiExecutor;
+
+    public KisDailyChartPager(@Qualifier("kisApiExecutor") ThreadPoolTaskExecutor kisApiExecutor) {
+        this.kisApiExecutor = kisApiExecutor;
+    }
+
+    /**
+     * 기간 일봉 수집
+     * @param windowFetcher (윈도우 시작일, 종료일)을 받아 output2 행 목록을 반환하는 윈도우 조회 함수
+     * @return 영업일 내림차순(최신순)으로 정렬/중복 제거된 일봉 행
+     */
+    public List<KisCandleRow> fetchRange(LocalDate from,
+                                         LocalDate to,
+                                         BiFunction<LocalDate, LocalDate, List<KisCandleRow>> windowFetcher) {
+        List<Window> windows = planWindows(from, to);
+        if (windows.isEmpty()) {
+            return List.of();
+        }
+        log.debug("[DAILY-PAGES] from={}, to={}, windows={}", from, to, windows.size());
+
+        List<CompletableFuture<List<KisCandleRow>>> futures = new ArrayList<>(windows.size());
+        for (Window window : windows) {
+            futures.add(CompletableFuture.supplyAsync(() -> windowFetcher.apply(window.from(), window.to()), kisApiExecutor));
+        }
+
+        int fromYmd = Integer.parseInt(from.format(YYYYMMDD));
+        int toYmd = Integer.parseInt(to.format(YYYYMMDD));
+        List<KisCandleRow> collected = new ArrayList<>(windows.size() * 100);
+        for (CompletableFuture<List<KisCandleRow>> future : futures) {
+            List<KisCandleRow> rows = join(future);
+            if (rows == null) {
+                continue;
+            }
+            for (KisCandleRow row : rows) {
+                if (row.date() < fromYmd || row.date() > toYmd) continue;
+                collected.add(row);
+            }
+        }
+
+        // 안정 정렬 후 같은 영업일은 먼저 조회된 윈도우의 행만 유지
+        collected.sort(Comparator.comparingInt(KisCandleRow::date).reversed());
+        List<KisCandleRow> merged = new ArrayList<>(collected.size());
+        int lastDate = -1;
+        for (KisCandleRow row : collected) {
+            if (row.date() == lastDate) continue;
+            merged.add(row);
+            lastDate = row.date();
+        }
+        return merged;
+    }
+
+    /**
+     * 조회할 윈도우 목록 (오래된 구간부터, 각 윈도우는 시작/종료일 포함)
+     */
+    List<Window> planWindows(LocalDate from, LocalDate to) {
+        List<Window> windows = new ArrayList<>();
+        LocalDate start = from;
+        while (!start.isAfter(to)) {
+            LocalDate end = start.plusDays(WINDOW_DAYS - 1);
+            if (end.isAfter(to)) {
+                end = to;
+            }
+            windows.add(new Window(start, end));
+            start = end.plusDays(1);
+        }
+        return windows;
+    }
+
+    private List<KisCandleRow> join(CompletableFuture<List<KisCandleRow>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof StockException stockException) {
+                throw stockException;
+            }
+            throw StockException.kisApiConnectionFailed(cause);
+        }
+    }
+
+    record Window(LocalDate from, LocalDate to) {
+    }
+}
@@ -4,6 +4,7 @@ import com.youthfi.finance.domain.stock.application.dto.response.IndexChartDataR
 import com.youthfi.finance.domain.stock.application.dto.response.IndexCandleDataResponse;
 import com.youthfi.finance.global.config.properties.KisApiEndpoints;
 import com.youthfi.finance.global.config.properties.KisApiProperties;
+import com.youthfi.finance.global.service.KisCredentialPool;
 import com.youthfi.finance.global.service.KisTokenService;
 import com.youthfi.finance.global.exception.StockException;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
@@ -34,7 +36,7 @@ public class KisIndexChartApiClient {
 
     private final RestTemplate restTemplate;
     private final KisTokenService kisTokenService;
-    private final KisApiProperties kisApiProperties;
+    private final KisCredentialPool kisCredentialPool;
     
     private static final String INDEX_CHART_TR_ID = "FHKUP03500100";
     
@@ -43,8 +45,9 @@ public class KisIndexChartApiClient {
      */
     public IndexChartDataResponse getDailyIndexChart(String indexCode) {
         try {
-            String appkey = kisApiProperties.getKeys().get(0).getAppkey();
-            String appsecret = kisApiProperties.getKeys().get(0).getAppsecret();
+            KisApiProperties.KisKey key = kisCredentialPool.acquire();
+            String appkey = key.getAppkey();
+            String appsecret = key.getAppsecret();
             String accessToken = kisTokenService.getValidToken(appkey, appsecret);
             
             HttpHeaders headers = createHeaders(accessToken, appkey, appsecret, INDEX_CHART_TR_ID);
@@ -56,6 +59,8 @@ public class KisIndexChartApiClient {
             
             return parseIndexChartResponse(indexCode, "D", "30d", response);
             
+        } catch (StockException e) {
+            throw e;
         } catch (Exception e) {
             log.error("지수 일봉 데이터 조회 실패: indexCode={}", indexCode, e);
             throw StockException.kisApiConnectionFailed(e);
@@ -67,8 +72,9 @@ public class KisIndexChartApiClient {
      */
     public IndexChartDataResponse getWeeklyIndexChart(String indexCode) {
         try {
-            String appkey = kisApiProperties.getKeys().get(0).getAppkey();
-            String appsecret = kisApiProperties.getKeys().get(0).getAppsecret();
+            KisApiProperties.KisKey key = kisCredentialPool.acquire();
+            String appkey = key.getAppkey();
+            String appsecret = key.getAppsecret();
             String accessToken = kisTokenService.getValidToken(appkey, appsecret);
             
             HttpHeaders headers = createHeaders(accessToken, appkey, appsecret, INDEX_CHART_TR_ID);
@@ -80,6 +86,8 @@ public class KisIndexChartApiClient {
             
             return parseIndexChartResponse(indexCode, "W", "30w", response);
             
+        } catch (StockException e) {
+            throw e;
         } catch (Exception e) {
             log.error("지수 주봉 데이터 조회 실패: indexCode={}", indexCode, e);
             throw StockException.kisApiConnectionFailed(e);
@@ -91,8 +99,9 @@ public class KisIndexChartApiClient {
      */
     public IndexChartDataResponse getMonthlyIndexChart(String indexCode) {
         try {
-            String appkey = kisApiProperties.getKeys().get(0).getAppkey();
-            String appsecret = kisApiProperties.getKeys().get(0).getAppsecret();
+            KisApiProperties.KisKey key = kisCredentialPool.acquire();
+            String appkey = key.getAppkey();
+            String appsecret = key.getAppsecret();
             String accessToken = kisTokenService.getValidToken(appkey, appsecret);
             
             HttpHeaders headers = createHeaders(accessToken, appkey, appsecret, INDEX_CHART_TR_ID);
@@ -104,6 +113,8 @@ public class KisIndexChartApiClient {
             
             return parseIndexChartResponse(indexCode, "M", "30m", response);
             
+        } catch (StockException e) {
+            throw e;
         } catch (Exception e) {
             log.error("지수 월봉 데이터 조회 실패: indexCode={}", indexCode, e);
             throw StockException.kisApiConnectionFailed(e);
@@ -202,7 +213,7 @@ public class KisIndexChartApiClient {
                 period, 
                 range, 
                 candles, 
-                LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+                LocalDateTime.now(ZoneId.of("Asia/Seoul")).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
             );
             
         } catch (Exception e) {
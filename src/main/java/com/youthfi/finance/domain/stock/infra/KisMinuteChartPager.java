@@ -0,0 +1,122 @@
+package com.youthfi.finance.domain.stock.infra;
+
+import com.youthfi.finance.global.exception.StockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * 당일 분봉 윈도우 병렬 수집 엔진
+ * - KIS 분봉 API는 기준 시각 이전 30개 분봉을 반환하므로, 장 시작(09:00)부터 세션 종료까지를
+ *   30분 윈도우로 미리 나누어 동시에 조회한 뒤 체결 분 기준으로 병합/중복 제거
+ * - 호출 속도는 각 페이지 조회가 appkey 풀에서 허가를 받으며 제한됨
+ */
+@Slf4j
+@Component
+public class KisMinuteChartPager {
+
+    private static final int PAGE_MINUTES = 30;
+    private static final LocalTime SESSION_OPEN = LocalTime.of(9, 0);
+    private static final DateTimeFormatter HHMM = DateTimeFormatter.ofPattern("HHmm");
+    private static final DateTimeFormatter HHMMSS = DateTimeFormatter.ofPattern("HHmmss");
+
+    private final ThreadPoolTaskExecutor kisApiExecutor;
+
+    public KisMinuteChartPager(@Qualifier("kisApiExecutor") ThreadPoolTaskExecutor kisApiExecutor) {
+        this.kisApiExecutor = kisApiExecutor;
+    }
+
+    /**
+     * 당일 분봉 수집
+     * @param today             조회일 (yyyyMMdd), 다른 날짜 분봉은 제외
+     * @param afterHHmm         이미 보유한 마지막 분 (HHmm, 해당 분 이하 제외), 없으면 장 시작부터
+     * @param sessionEndHHmmss  수집 상한 (min(현재시각, 장마감))
+     * @param pageFetcher       기준 시각(HHmmss)을 받아 output2 행 목록을 반환하는 페이지 조회 함수
+     * @return 체결시각 오름차순으로 정렬/중복 제거된 분봉 행
+     */
+    public List<KisCandleRow> fetchSession(int today,
+                                           String afterHHmm,
+                                           String sessionEndHHmmss,
+                                           Function<String, List<KisCandleRow>> pageFetcher) {
+        List<String> pageHours = planPages(afterHHmm, sessionEndHHmmss);
+        if (pageHours.isEmpty()) {
+            return List.of();
+        }
+        log.debug("[MINUTE-PAGES] today={}, after={}, sessionEnd={}, pages={}", today, afterHHmm, sessionEndHHmmss, pageHours);
+
+        List<CompletableFuture<List<KisCandleRow>>> futures = new ArrayList<>(pageHours.size());
+        for (String pageHour : pageHours) {
+            futures.add(CompletableFuture.supplyAsync(() -> pageFetcher.apply(pageHour), kisApiExecutor));
+        }
+
+        int afterMinute = (afterHHmm != null) ? Integer.parseInt(afterHHmm) : -1;
+        List<KisCandleRow> collected = new ArrayList<>(pageHours.size() * PAGE_MINUTES);
+        for (CompletableFuture<List<KisCandleRow>> future : futures) {
+            List<KisCandleRow> rows = join(future);
+            if (rows == null) {
+                continue;
+            }
+            for (KisCandleRow row : rows) {
+                if (row.date() != today || row.minute() <= afterMinute) continue;
+                collected.add(row);
+            }
+        }
+
+        // 안정 정렬 후 같은 분은 먼저 조회된 페이지의 행만 유지
+        collected.sort(Comparator.comparingInt(KisCandleRow::minute));
+        List<KisCandleRow> merged = new ArrayList<>(collected.size());
+        int lastMinute = -1;
+        for (KisCandleRow row : collected) {
+            if (row.minute() == lastMinute) continue;
+            merged.add(row);
+            lastMinute = row.minute();
+        }
+        return merged;
+    }
+
+    /**
+     * 조회할 페이지 기준 시각 목록 (각 페이지는 기준 시각 포함 이전 30분)
+     */
+    List<String> planPages(String afterHHmm, String sessionEndHHmmss) {
+        LocalTime sessionEnd = LocalTime.parse(sessionEndHHmmss, HHMMSS).withSecond(0);
+        LocalTime start = (afterHHmm != null)
+                ? LocalTime.parse(afterHHmm, HHMM).plusMinutes(1)
+                : SESSION_OPEN;
+
+        List<String> pageHours = new ArrayList<>();
+        while (!start.isAfter(sessionEnd)) {
+            LocalTime pageEnd = start.plusMinutes(PAGE_MINUTES - 1);
+            if (pageEnd.isAfter(sessionEnd) || pageEnd.isBefore(start)) {
+                pageEnd = sessionEnd;
+            }
+            pageHours.add(pageEnd.format(HHMMSS));
+            start = pageEnd.plusMinutes(1);
+            if (start.equals(LocalTime.MIDNIGHT)) {
+                break;
+            }
+        }
+        return pageHours;
+    }
+
+    private List<KisCandleRow> join(CompletableFuture<List<KisCandleRow>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof StockException stockException) {
+                throw stockException;
+            }
+            throw StockException.kisApiConnectionFailed(cause);
+        }
+    }
+}
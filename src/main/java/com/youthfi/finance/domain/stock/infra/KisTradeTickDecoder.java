@@ -0,0 +1,116 @@
+package com.youthfi.finance.domain.stock.infra;
+
+import com.youthfi.finance.domain.stock.domain.event.StockTradeTickEvent;
+import com.youthfi.finance.global.config.properties.KisApiEndpoints;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * KIS 실시간 체결가(H0STCNT0) 프레임 디코더
+ * - 형식: 암호화여부|TR_ID|건수|필드^필드^...  (한 건당 46개 필드가 이어서 전달됨)
+ * - 제어 메시지(JSON)와 암호화 프레임은 대상이 아님
+ */
+@Component
+public class KisTradeTickDecoder {
+
+    static final int FIELD_COUNT = 46;
+
+    private static final int STOCK_CODE = 0;
+    private static final int TRADE_TIME = 1;
+    private static final int PRICE = 2;
+    private static final int CHANGE = 4;
+    private static final int CHANGE_RATE = 5;
+    private static final int OPEN = 7;
+    private static final int HIGH = 8;
+    private static final int LOW = 9;
+    private static final int VOLUME = 12;
+    private static final int ACCUMULATED_VOLUME = 13;
+    private static final int BUSINESS_DATE = 33;
+
+    /**
+     * 체결가 프레임 디코딩 (잘린 마지막 건은 버림)
+     */
+    public List<StockTradeTickEvent> decode(String frame) {
+        if (frame.length() < 2 || frame.charAt(0) != '0') {
+            return List.of();
+        }
+        int trIdEnd = frame.indexOf('|', 2);
+        int countEnd = trIdEnd < 0 ? -1 : frame.indexOf('|', trIdEnd + 1);
+        if (countEnd < 0 || !frame.startsWith(KisApiEndpoints.TRADE_TICK_TR_ID, 2)) {
+            return List.of();
+        }
+        int count = (int) parseLong(frame, trIdEnd + 1, countEnd);
+
+        List<StockTradeTickEvent> ticks = new ArrayList<>(count);
+        int[] starts = new int[FIELD_COUNT];
+        int[] ends = new int[FIELD_COUNT];
+        int pos = countEnd + 1;
+        for (int record = 0; record < count; record++) {
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                if (pos > frame.length()) {
+                    return ticks;
+                }
+                int end = frame.indexOf('^', pos);
+                if (end < 0) {
+                    end = frame.length();
+                }
+                starts[field] = pos;
+                ends[field] = end;
+                pos = end + 1;
+            }
+            ticks.add(toTick(frame, starts, ends));
+        }
+        return ticks;
+    }
+
+    private StockTradeTickEvent toTick(String frame, int[] starts, int[] ends) {
+        return new StockTradeTickEvent(
+                frame.substring(starts[STOCK_CODE], ends[STOCK_CODE]),
+                (int) parseLong(frame, starts[BUSINESS_DATE], ends[BUSINESS_DATE]),
+                (int) parseLong(frame, starts[TRADE_TIME], ends[TRADE_TIME]),
+                parseLong(frame, starts[PRICE], ends[PRICE]),
+                parseLong(frame, starts[CHANGE], ends[CHANGE]),
+                parseDouble(frame, starts[CHANGE_RATE], ends[CHANGE_RATE]),
+                parseLong(frame, starts[OPEN], ends[OPEN]),
+                parseLong(frame, starts[HIGH], ends[HIGH]),
+                parseLong(frame, starts[LOW], ends[LOW]),
+                parseLong(frame, starts[VOLUME], ends[VOLUME]),
+                parseLong(frame, starts[ACCUMULATED_VOLUME], ends[ACCUMULATED_VOLUME])
+        );
+    }
+
+    private static long parseLong(String s, int from, int to) {
+        if (from >= to) {
+            return 0L;
+        }
+        int i = from;
+        boolean negative = false;
+        char first = s.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+        }
+        long result = 0L;
+        for (; i < to; i++) {
+            int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return 0L;
+            }
+            result = result * 10 + digit;
+        }
+        return negative ? -result : result;
+    }
+
+    private static double parseDouble(String s, int from, int to) {
+        if (from >= to) {
+            return 0d;
+        }
+        try {
+            return Double.parseDouble(s.substring(from, to));
+        } catch (NumberFormatException e) {
+            return 0d;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.youthfi.finance.domain.stock.infra;
+
+import com.youthfi.finance.domain.stock.domain.event.StockTradeTickEvent;
+import com.youthfi.finance.global.config.properties.KisApiProperties;
+import com.youthfi.finance.global.service.KisWebSocketApprovalService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * KIS 실시간 체결가 수신 관리
+ * - appkey마다 웹소켓 세션 1개를 열고, 구독 종목은 여유가 가장 많은 세션에 배정
+ * - 수신한 체결은 StockTradeTickEvent로 발행 (kis.websocket.enabled=true 일 때만 동작)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "kis.websocket", name = "enabled", havingValue = "true")
+public class KisWebSocketClient {
+
+    private final KisApiProperties kisApiProperties;
+    private final KisWebSocketApprovalService approvalService;
+    private final KisTradeTickDecoder tradeTickDecoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final List<KisWebSocketSession> sessions = new ArrayList<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "kis-ws-reconnect");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public KisWebSocketClient(KisApiProperties kisApiProperties,
+                              KisWebSocketApprovalService approvalService,
+                              KisTradeTickDecoder tradeTickDecoder,
+                              ApplicationEventPublisher eventPublisher) {
+        this.kisApiProperties = kisApiProperties;
+        this.approvalService = approvalService;
+        this.tradeTickDecoder = tradeTickDecoder;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        List<KisApiProperties.KisKey> keys = kisApiProperties.getKeys();
+        if (keys == null || keys.isEmpty()) {
+            log.warn("[KIS-WS] appkey가 없어 실시간 수신을 시작하지 않음");
+            return;
+        }
+        KisApiProperties.WebSocket config = kisApiProperties.getWebsocket();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (KisApiProperties.KisKey key : keys) {
+            KisWebSocketSession session = new KisWebSocketSession(
+                    key, config, httpClient, scheduler, approvalService, this::publishTicks);
+            sessions.add(session);
+            session.connect();
+        }
+        config.getSymbols().forEach(this::subscribe);
+        log.info("[KIS-WS] 실시간 수신 시작: sessions={}, symbols={}", sessions.size(), config.getSymbols().size());
+    }
+
+    /**
+     * 종목 실시간 체결 구독 (세션 한도를 모두 채우면 false)
+     */
+    public synchronized boolean subscribe(String stockCode) {
+        for (KisWebSocketSession session : sessions) {
+            if (session.isSubscribed(stockCode)) {
+                return true;
+            }
+        }
+        int limit = kisApiProperties.getWebsocket().getMaxSubscriptionsPerSession();
+        KisWebSocketSession target = sessions.stream()
+                .filter(session -> session.subscriptionCount() < limit)
+                .min(Comparator.comparingInt(KisWebSocketSession::subscriptionCount))
+                .orElse(null);
+        if (target == null) {
+            log.warn("[KIS-WS] 구독 한도 초과: stockCode={}, limit={}x{}", stockCode, sessions.size(), limit);
+            return false;
+        }
+        target.subscribe(stockCode);
+        return true;
+    }
+
+    public synchronized void unsubscribe(String stockCode) {
+        for (KisWebSocketSession session : sessions) {
+            session.unsubscribe(stockCode);
+        }
+    }
+
+    public synchronized Set<String> getSubscribedSymbols() {
+        Set<String> symbols = new TreeSet<>();
+        sessions.forEach(session -> symbols.addAll(session.symbols()));
+        return symbols;
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        sessions.forEach(KisWebSocketSession::close);
+        sessions.clear();
+        scheduler.shutdownNow();
+    }
+
+    private void publishTicks(String frame) {
+        try {
+            for (StockTradeTickEvent tick : tradeTickDecoder.decode(frame)) {
+                eventPublisher.publishEvent(tick);
+            }
+        } catch (Exception e) {
+            log.warn("[KIS-WS] 체결 프레임 처리 실패: error={}", e.getMessage());
+        }
+    }
+}
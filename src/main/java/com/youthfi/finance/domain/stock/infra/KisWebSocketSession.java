@@ -0,0 +1,227 @@
+package com.youthfi.finance.domain.stock.infra;
+
+import com.youthfi.finance.global.config.properties.KisApiEndpoints;
+import com.youthfi.finance.global.config.properties.KisApiProperties;
+import com.youthfi.finance.global.service.KisWebSocketApprovalService;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * appkey 1개에 대응하는 KIS 실시간 웹소켓 세션
+ * - 연결이 끊기면 지수 백오프로 재접속 후 보유 종목을 다시 구독
+ * - PINGPONG 제어 메시지는 그대로 돌려보내 연결 유지
+ * - 실시간 데이터 프레임은 frameHandler로 전달 (수신 스레드에서 호출되므로 가볍게 처리할 것)
+ */
+@Slf4j
+class KisWebSocketSession implements WebSocket.Listener {
+
+    private static final String SUBSCRIBE = "1";
+    private static final String UNSUBSCRIBE = "2";
+
+    private final KisApiProperties.KisKey key;
+    private final URI uri;
+    private final long reconnectInitialMs;
+    private final long reconnectMaxMs;
+    private final HttpClient httpClient;
+    private final ScheduledExecutorService scheduler;
+    private final KisWebSocketApprovalService approvalService;
+    private final Consumer<String> frameHandler;
+    private final Set<String> symbols = ConcurrentHashMap.newKeySet();
+    private final StringBuilder partial = new StringBuilder();
+
+    private volatile WebSocket webSocket;
+    private volatile String approvalKey;
+    private volatile boolean closed;
+    private boolean reconnectPending;
+    private long reconnectDelayMs;
+    private CompletableFuture<?> sendChain = CompletableFuture.completedFuture(null);
+
+    KisWebSocketSession(KisApiProperties.KisKey key,
+                        KisApiProperties.WebSocket config,
+                        HttpClient httpClient,
+                        ScheduledExecutorService scheduler,
+                        KisWebSocketApprovalService approvalService,
+                        Consumer<String> frameHandler) {
+        this.key = key;
+        this.uri = URI.create(config.getUrl());
+        this.reconnectInitialMs = config.getReconnectInitialMs();
+        this.reconnectMaxMs = config.getReconnectMaxMs();
+        this.httpClient = httpClient;
+        this.scheduler = scheduler;
+        this.approvalService = approvalService;
+        this.frameHandler = frameHandler;
+        this.reconnectDelayMs = reconnectInitialMs;
+    }
+
+    void connect() {
+        synchronized (this) {
+            reconnectPending = false;
+        }
+        if (closed || webSocket != null) {
+            return;
+        }
+        try {
+            approvalKey = approvalService.getApprovalKey(key.getAppkey(), key.getAppsecret());
+        } catch (Exception e) {
+            log.warn("[KIS-WS] 접속키 조회 실패: appkey={}, error={}", key.getAppkey(), e.getMessage());
+            scheduleReconnect();
+            return;
+        }
+        httpClient.newWebSocketBuilder()
+                .buildAsync(uri, this)
+                .whenComplete((socket, error) -> {
+                    if (error != null) {
+                        log.warn("[KIS-WS] 연결 실패: uri={}, error={}", uri, error.getMessage());
+                        scheduleReconnect();
+                    }
+                });
+    }
+
+    void subscribe(String stockCode) {
+        if (symbols.add(stockCode)) {
+            send(buildRequest(SUBSCRIBE, stockCode));
+        }
+    }
+
+    void unsubscribe(String stockCode) {
+        if (symbols.remove(stockCode)) {
+            send(buildRequest(UNSUBSCRIBE, stockCode));
+        }
+    }
+
+    boolean isSubscribed(String stockCode) {
+        return symbols.contains(stockCode);
+    }
+
+    Set<String> symbols() {
+        return Collections.unmodifiableSet(symbols);
+    }
+
+    int subscriptionCount() {
+        return symbols.size();
+    }
+
+    void close() {
+        closed = true;
+        WebSocket socket = webSocket;
+        webSocket = null;
+        if (socket != null) {
+            socket.sendClose(WebSocket.NORMAL_CLOSURE, "shutdown");
+        }
+    }
+
+    @Override
+    public void onOpen(WebSocket webSocket) {
+        this.webSocket = webSocket;
+        synchronized (this) {
+            reconnectDelayMs = reconnectInitialMs;
+            sendChain = CompletableFuture.completedFuture(null);
+        }
+        log.info("[KIS-WS] 연결됨: appkey={}, symbols={}", key.getAppkey(), symbols.size());
+        for (String stockCode : symbols) {
+            send(buildRequest(SUBSCRIBE, stockCode));
+        }
+        webSocket.request(1);
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+        partial.append(data);
+        if (last) {
+            String frame = partial.toString();
+            partial.setLength(0);
+            handleFrame(webSocket, frame);
+        }
+        webSocket.request(1);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+        log.warn("[KIS-WS] 연결 종료: appkey={}, status={}, reason={}", key.getAppkey(), statusCode, reason);
+        this.webSocket = null;
+        scheduleReconnect();
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable error) {
+        log.warn("[KIS-WS] 연결 오류: appkey={}, error={}", key.getAppkey(), error.getMessage());
+        this.webSocket = null;
+        scheduleReconnect();
+    }
+
+    private void handleFrame(WebSocket socket, String frame) {
+        if (frame.isEmpty()) {
+            return;
+        }
+        if (frame.charAt(0) != '{') {
+            frameHandler.accept(frame);
+            return;
+        }
+        if (frame.contains("PINGPONG")) {
+            send(frame);
+        } else if (frame.contains("invalid approval")) {
+            // 접속키가 만료/폐기된 경우 재발급 후 재접속
+            log.warn("[KIS-WS] 접속키 거절: appkey={}", key.getAppkey());
+            try {
+                approvalService.renewApprovalKey(key.getAppkey(), key.getAppsecret());
+            } catch (Exception e) {
+                log.warn("[KIS-WS] 접속키 재발급 실패: appkey={}, error={}", key.getAppkey(), e.getMessage());
+            }
+            socket.abort();
+            this.webSocket = null;
+            scheduleReconnect();
+        } else {
+            log.debug("[KIS-WS] 제어 메시지: {}", frame);
+        }
+    }
+
+    private synchronized void send(String text) {
+        WebSocket socket = webSocket;
+        if (socket == null) {
+            // 재접속 시 onOpen에서 전체 재구독
+            return;
+        }
+        // 이전 전송이 끝나기 전에 sendText를 호출하면 예외가 발생하므로 순차 연결
+        sendChain = sendChain
+                .handle((ignored, error) -> null)
+                .thenCompose(ignored -> socket.sendText(text, true))
+                .exceptionally(error -> {
+                    log.warn("[KIS-WS] 전송 실패: appkey={}, error={}", key.getAppkey(), error.getMessage());
+                    return null;
+                });
+    }
+
+    private synchronized void scheduleReconnect() {
+        // onClose/onError가 연달아 호출되어도 재접속은 한 번만 예약
+        if (closed || reconnectPending) {
+            return;
+        }
+        reconnectPending = true;
+        long delay = reconnectDelayMs;
+        reconnectDelayMs = Math.min(reconnectDelayMs * 2, reconnectMaxMs);
+        log.info("[KIS-WS] {}ms 후 재접속: appkey={}", delay, key.getAppkey());
+        scheduler.schedule(this::connect, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private String buildRequest(String trType, String stockCode) {
+        return "{\"header\":{\"approval_key\":\"" + approvalKey + "\","
+                + "\"custtype\":\"" + KisApiEndpoints.CUSTOMER_TYPE_PERSONAL + "\","
+                + "\"tr_type\":\"" + trType + "\","
+                + "\"content-type\":\"utf-8\"},"
+                + "\"body\":{\"input\":{\"tr_id\":\"" + KisApiEndpoints.TRADE_TICK_TR_ID + "\","
+                + "\"tr_key\":\"" + stockCode + "\"}}}";
+    }
+}
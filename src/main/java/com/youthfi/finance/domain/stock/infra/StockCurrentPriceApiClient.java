@@ -2,6 +2,7 @@ package com.youthfi.finance.domain.stock.infra;
 
 import com.youthfi.finance.global.config.properties.KisApiProperties;
 import com.youthfi.finance.global.config.properties.KisApiEndpoints;
+import com.youthfi.finance.global.service.KisCredentialPool;
 import com.youthfi.finance.global.service.KisTokenService;
 import com.youthfi.finance.global.exception.StockException;
 import org.springframework.http.*;
@@ -16,22 +17,23 @@ public class StockCurrentPriceApiClient {
     
     private final KisTokenService kisTokenService;
     private final RestTemplate restTemplate;
-    private final KisApiProperties kisApiProperties;
+    private final KisCredentialPool kisCredentialPool;
     
     public StockCurrentPriceApiClient(KisTokenService kisTokenService, 
                                     RestTemplate restTemplate, 
-                                    KisApiProperties kisApiProperties) {
+                                    KisCredentialPool kisCredentialPool) {
         this.kisTokenService = kisTokenService;
         this.restTemplate = restTemplate;
-        this.kisApiProperties = kisApiProperties;
+        this.kisCredentialPool = kisCredentialPool;
     }
     
     
     public Map<String, Object> getStockCurrentPrice(String marketCode, String stockCode) {
         try {
-            // 토큰 발급
-            String appkey = kisApiProperties.getKeys().get(0).getAppkey();
-            String appsecret = kisApiProperties.getKeys().get(0).getAppsecret();
+            // appkey 풀에서 호출 가능한 키 획득 후 토큰 발급
+            KisApiProperties.KisKey key = kisCredentialPool.acquire();
+            String appkey = key.getAppkey();
+            String appsecret = key.getAppsecret();
             String token = kisTokenService.getValidToken(appkey, appsecret);
             
             // URL 구성
@@ -62,6 +64,8 @@ public class StockCurrentPriceApiClient {
             
             return response.getBody();
             
+        } catch (StockException e) {
+            throw e;
         } catch (Exception e) {
             e.printStackTrace();            
             throw StockException.kisApiConnectionFailed(e);
@@ -1,11 +1,14 @@
 package com.youthfi.finance.domain.stock.ui;
 
+import com.youthfi.finance.domain.stock.application.dto.request.ChartBatchRequest;
 import com.youthfi.finance.domain.stock.application.dto.request.ChartRequest;
 import com.youthfi.finance.domain.stock.application.dto.request.IndexChartRequest;
+import com.youthfi.finance.domain.stock.application.dto.response.ChartBatchItemResponse;
 import com.youthfi.finance.domain.stock.application.dto.response.ChartDataResponse;
 import com.youthfi.finance.domain.stock.application.dto.response.IndexChartDataResponse;
 import com.youthfi.finance.domain.stock.domain.service.ChartService;
 import com.youthfi.finance.domain.stock.domain.service.ChartCacheService;
+import com.youthfi.finance.domain.stock.domain.service.ChartPayloadCache;
 import com.youthfi.finance.domain.stock.domain.service.IndexChartService;
 import com.youthfi.finance.domain.stock.infra.KisChartApiClient;
 import com.youthfi.finance.global.common.BaseResponse;
@@ -13,11 +16,21 @@ import com.youthfi.finance.global.swagger.BaseApi;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
+
 /**
  * 주식 차트 API 컨트롤러
  */
@@ -31,31 +44,67 @@ public class ChartController implements BaseApi {
     private final KisChartApiClient kisChartApiClient;
     private final ChartCacheService chartCacheService;
     private final IndexChartService indexChartService;
+    private final ChartPayloadCache chartPayloadCache;
     
     /**
      * 일봉 차트 조회 (60일)
      */
     @GetMapping("/{stockCode}/daily")
     @Operation(summary = "일봉 차트 조회", description = "60일간의 일봉 차트 데이터를 조회합니다.")
-    public ResponseEntity<BaseResponse<ChartDataResponse>> getDailyChart(
-            @PathVariable String stockCode) {
+    public ResponseEntity<byte[]> getDailyChart(
+            @PathVariable String stockCode,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
         ChartDataResponse chartData = chartService.getDailyChart(stockCode);
         
+        return payloadResponse(chartPayloadCache.get(chartData), acceptEncoding);
+    }
+    
+    /**
+     * 일봉 구간 조회 (days: 최근 N일, from/to: 날짜 구간)
+     * - 캐시된 기본 일봉이나 확정 일봉 저장소가 덮는 구간은 잘라서 반환
+     */
+    @GetMapping("/{stockCode}/daily/range")
+    @Operation(summary = "일봉 구간 조회", description = "최근 N일(days) 또는 날짜 구간(from~to, yyyy-MM-dd)의 일봉 차트 데이터를 조회합니다. 최대 3650일 이전까지 조회할 수 있습니다.")
+    public ResponseEntity<BaseResponse<ChartDataResponse>> getDailyChartRange(
+            @PathVariable String stockCode,
+            @RequestParam(required = false) @Min(1) @Max(ChartService.MAX_DAILY_DAYS) Integer days,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        ChartDataResponse chartData = from != null || to != null
+                ? chartService.getDailyChart(stockCode, from, to)
+                : chartService.getDailyChart(stockCode, days != null ? days : 60);
+
         return ResponseEntity.ok(BaseResponse.onSuccess(chartData));
     }
     
+    /**
+     * 주봉 차트 조회 (1년)
+     */
+    @GetMapping("/{stockCode}/weekly")
+    @Operation(summary = "주봉 차트 조회", description = "1년간의 주봉 차트 데이터를 조회합니다.")
+    public ResponseEntity<byte[]> getWeeklyChart(
+            @PathVariable String stockCode,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        ChartDataResponse chartData = chartService.getWeeklyChart(stockCode);
+        
+        return payloadResponse(chartPayloadCache.get(chartData), acceptEncoding);
+    }
+    
     /**
      * 월봉 차트 조회 (5년)
      */
     @GetMapping("/{stockCode}/monthly")
     @Operation(summary = "월봉 차트 조회", description = "5년간의 월봉 차트 데이터를 조회합니다.")
-    public ResponseEntity<BaseResponse<ChartDataResponse>> getMonthlyChart(
-            @PathVariable String stockCode) {
+    public ResponseEntity<byte[]> getMonthlyChart(
+            @PathVariable String stockCode,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
         ChartDataResponse chartData = chartService.getMonthlyChart(stockCode);
         
-        return ResponseEntity.ok(BaseResponse.onSuccess(chartData));
+        return payloadResponse(chartPayloadCache.get(chartData), acceptEncoding);
     }
     
     /**
@@ -63,25 +112,56 @@ public class ChartController implements BaseApi {
      */
     @GetMapping("/{stockCode}/yearly")
     @Operation(summary = "연봉 차트 조회", description = "10년간의 연봉 차트 데이터를 조회합니다.")
-    public ResponseEntity<BaseResponse<ChartDataResponse>> getYearlyChart(
-            @PathVariable String stockCode) {
+    public ResponseEntity<byte[]> getYearlyChart(
+            @PathVariable String stockCode,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
         ChartDataResponse chartData = chartService.getYearlyChart(stockCode);
         
-        return ResponseEntity.ok(BaseResponse.onSuccess(chartData));
+        return payloadResponse(chartPayloadCache.get(chartData), acceptEncoding);
+    }
+    
+    /**
+     * 다종목 차트 조회 (시세 목록 스파크라인 등)
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "다종목 차트 조회", description = "여러 종목의 차트를 한 번에 조회합니다. (period: 1d, 1w, 1m, 1y, last: 종목별 최근 캔들 수) 종목별 실패는 해당 항목에 표시됩니다.")
+    public ResponseEntity<BaseResponse<List<ChartBatchItemResponse>>> getCharts(
+            @Valid @RequestBody ChartBatchRequest request) {
+
+        List<ChartBatchItemResponse> result = chartService.getCharts(request);
+
+        return ResponseEntity.ok(BaseResponse.onSuccess(result));
     }
     
     /**
      * 분봉 차트 조회 (당일) - 캐시 우선
+     * - since: 클라이언트가 가진 마지막 캔들 이후만 응답 (마지막 캔들 포함)
+     * - If-None-Match가 응답 ETag와 같으면 304
      */
     @GetMapping("/{stockCode}/minute")
-    @Operation(summary = "분봉 차트 조회", description = "당일의 분봉 차트 데이터를 실시간으로 조회합니다.")
+    @Operation(summary = "분봉 차트 조회", description = "당일의 분봉 차트 데이터를 실시간으로 조회합니다. (interval: 1, 5, 15분, last: 1분봉 마지막 N개만 조회, since: 마지막 캔들 시각(yyyy-MM-ddTHH:mm 또는 HH:mm) 이후만 조회)")
     public ResponseEntity<BaseResponse<ChartDataResponse>> getMinuteChart(
-            @PathVariable String stockCode) {
+            @PathVariable String stockCode,
+            @RequestParam(defaultValue = "1") int interval,
+            @RequestParam(required = false) Integer last,
+            @RequestParam(required = false) String since,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
-        ChartDataResponse chartData = chartService.getMinuteChart(stockCode);
+        ChartDataResponse chartData;
+        if (since != null && !since.isBlank()) {
+            chartData = chartService.getMinuteChartSince(stockCode, interval, since);
+        } else if (last != null && last > 0 && interval == 1) {
+            chartData = chartService.getMinuteChartTail(stockCode, last);
+        } else {
+            chartData = chartService.getMinuteChart(stockCode, interval);
+        }
         
-        return ResponseEntity.ok(BaseResponse.onSuccess(chartData));
+        String etag = chartData.etag();
+        if (matchesETag(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(BaseResponse.onSuccess(chartData));
     }
     
     /**
@@ -98,6 +178,7 @@ public class ChartController implements BaseApi {
         } else {
             // 모든 기간 캐시 삭제
             chartCacheService.deleteChart(stockCode, "1d", "60d");
+            chartCacheService.deleteChart(stockCode, "1w", "1y");
             chartCacheService.deleteChart(stockCode, "1m", "5y");
             chartCacheService.deleteChart(stockCode, "1y", "10y");
         }
@@ -112,12 +193,13 @@ public class ChartController implements BaseApi {
      */
     @GetMapping("/index/{indexCode}/daily")
     @Operation(summary = "지수 일봉 차트 조회", description = "30일간의 지수 일봉 차트 데이터를 조회합니다.")
-    public ResponseEntity<BaseResponse<IndexChartDataResponse>> getDailyIndexChart(
-            @PathVariable @Parameter(description = "지수 코드 (0001: 코스피, 1001: 코스닥)") String indexCode) {
+    public ResponseEntity<byte[]> getDailyIndexChart(
+            @PathVariable @Parameter(description = "지수 코드 (0001: 코스피, 1001: 코스닥)") String indexCode,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
         IndexChartDataResponse chartData = indexChartService.getDailyIndexChart(indexCode);
         
-        return ResponseEntity.ok(BaseResponse.onSuccess(chartData));
+        return payloadResponse(chartPayloadCache.get(chartData), acceptEncoding);
     }
     
     /**
@@ -125,12 +207,13 @@ public class ChartController implements BaseApi {
      */
     @GetMapping("/index/{indexCode}/weekly")
     @Operation(summary = "지수 주봉 차트 조회", description = "30주간의 지수 주봉 차트 데이터를 조회합니다.")
-    public ResponseEntity<BaseResponse<IndexChartDataResponse>> getWeeklyIndexChart(
-            @PathVariable @Parameter(description = "지수 코드 (0001: 코스피, 1001: 코스닥)") String indexCode) {
+    public ResponseEntity<byte[]> getWeeklyIndexChart(
+            @PathVariable @Parameter(description = "지수 코드 (0001: 코스피, 1001: 코스닥)") String indexCode,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
         IndexChartDataResponse chartData = indexChartService.getWeeklyIndexChart(indexCode);
         
-        return ResponseEntity.ok(BaseResponse.onSuccess(chartData));
+        return payloadResponse(chartPayloadCache.get(chartData), acceptEncoding);
     }
     
     /**
@@ -138,12 +221,52 @@ public class ChartController implements BaseApi {
      */
     @GetMapping("/index/{indexCode}/monthly")
     @Operation(summary = "지수 월봉 차트 조회", description = "30개월간의 지수 월봉 차트 데이터를 조회합니다.")
-    public ResponseEntity<BaseResponse<IndexChartDataResponse>> getMonthlyIndexChart(
-            @PathVariable @Parameter(description = "지수 코드 (0001: 코스피, 1001: 코스닥)") String indexCode) {
+    public ResponseEntity<byte[]> getMonthlyIndexChart(
+            @PathVariable @Parameter(description = "지수 코드 (0001: 코스피, 1001: 코스닥)") String indexCode,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
         IndexChartDataResponse chartData = indexChartService.getMonthlyIndexChart(indexCode);
         
-        return ResponseEntity.ok(BaseResponse.onSuccess(chartData));
+        return payloadResponse(chartPayloadCache.get(chartData), acceptEncoding);
+    }
+    
+    /**
+     * 미리 직렬화한 응답 본문 전송 (gzip 수용 시 압축본 그대로, server.compression은 Content-Encoding이 있으면 건너뜀)
+     */
+    private static ResponseEntity<byte[]> payloadResponse(ChartPayloadCache.Payload payload, String acceptEncoding) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzip());
+        }
+        return builder.body(payload.json());
     }
 
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = etag.substring(2); // W/ 제외 (약한 비교)
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -1,6 +1,8 @@
 package com.youthfi.finance.domain.stock.ui;
 
+import com.youthfi.finance.domain.stock.application.dto.request.StockCurrentPriceBatchRequest;
 import com.youthfi.finance.domain.stock.application.dto.request.StockCurrentPriceRequest;
+import com.youthfi.finance.domain.stock.application.dto.response.StockCurrentPriceItemResponse;
 import com.youthfi.finance.domain.stock.application.dto.response.StockCurrentPriceResponse;
 import com.youthfi.finance.domain.stock.application.dto.response.StockListResponse;
 import com.youthfi.finance.domain.stock.application.usecase.StockApiUseCase;
@@ -30,6 +32,13 @@ public class StockApiController implements BaseApi {
         return BaseResponse.onSuccess(result);
     }
 
+    @Operation(summary = "다종목 주식현재가 시세 조회", description = "여러 종목의 현재가를 한 번에 조회합니다. 종목별 실패는 해당 항목에 표시됩니다.")
+    @PostMapping("/current-prices")
+    public BaseResponse<List<StockCurrentPriceItemResponse>> getStockCurrentPrices(@Valid @RequestBody StockCurrentPriceBatchRequest request) {
+        List<StockCurrentPriceItemResponse> result = stockApiUseCase.getStockCurrentPrices(request);
+        return BaseResponse.onSuccess(result);
+    }
+
     @Operation(summary = "KIS API 토큰 상태 조회", description = "KIS API 토큰의 상태를 조회합니다.")
     @GetMapping("/token-status")
     public BaseResponse<Map<String, Map<String, Object>>> getTokenStatus() {
@@ -1,13 +1,17 @@
 package com.youthfi.finance.global.config;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 import com.youthfi.finance.global.config.properties.AiApiProperties;
+import com.youthfi.finance.global.config.properties.HttpClientProperties;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -16,23 +20,24 @@ public class AiRestTemplateConfig {
 
     private final AiApiProperties aiApiProperties;
 
-    @Bean("aiRestTemplate")
-    public RestTemplate aiRestTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
-        restTemplate.setRequestFactory(createRequestFactory());
-        return restTemplate;
+    /**
+     * AI 챗봇 서비스 전용 커넥션 풀
+     */
+    @Bean
+    public HttpComponentsClientHttpRequestFactory aiHttpRequestFactory(HttpClientProperties httpClientProperties,
+                                                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        // 챗봇 API 응답 타임아웃은 AI 설정값 사용
+        int timeout = Math.max(aiApiProperties.getChatbot().getTimeout(),
+                              aiApiProperties.getPortfolio().getTimeout());
+
+        return PooledHttpClientFactory.create("ai", httpClientProperties.getAi(), timeout, meterRegistry.getIfAvailable());
     }
 
-    private ClientHttpRequestFactory createRequestFactory() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        
-        // 챗봇 API 타임아웃 설정
-        int timeout = Math.max(aiApiProperties.getChatbot().getTimeout(), 
-                              aiApiProperties.getPortfolio().getTimeout());
-        
-        factory.setConnectTimeout(timeout);
-        factory.setReadTimeout(timeout);
-        
-        return factory;
+    @Bean("aiRestTemplate")
+    public RestTemplate aiRestTemplate(RestTemplateBuilder builder,
+                                       @Qualifier("aiHttpRequestFactory") HttpComponentsClientHttpRequestFactory factory) {
+        return builder
+                .requestFactory(() -> factory)
+                .build();
     }
 }
@@ -0,0 +1,68 @@
+package com.youthfi.finance.global.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.youthfi.finance.global.config.properties.KisApiProperties;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * KIS API 병렬 호출용 스레드풀 설정
+ * - 실제 호출 속도는 KisCredentialPool/KisRateLimiter가 제한하고, 여기서는 동시 호출 수만 제한
+ */
+@Configuration
+@RequiredArgsConstructor
+public class KisExecutorConfig {
+
+    private final KisApiProperties kisApiProperties;
+
+    @Bean("kisApiExecutor")
+    public ThreadPoolTaskExecutor kisApiExecutor() {
+        KisApiProperties.Executor properties = kisApiProperties.getExecutor();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("kis-api-");
+        // 큐가 가득 차면 호출 스레드에서 직접 실행 (요청 유실 방지)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * 다종목 차트 조회의 종목별 적재용
+     * - 적재 중 KIS 윈도우 조회를 kisApiExecutor에 넣고 기다리므로 같은 풀을 쓰면 교착되어 별도 풀로 분리
+     * - 큐가 가득 차면 요청 스레드에서 직접 실행
+     */
+    @Bean("chartBatchExecutor")
+    public ThreadPoolTaskExecutor chartBatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("chart-batch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * 차트 캐시 백그라운드 갱신용 (갱신 주기가 지난 캐시를 반환한 뒤 실행)
+     * - 큐가 가득 차면 거절 (호출부는 이전 값을 계속 반환하고 다음 요청에서 다시 시도)
+     */
+    @Bean("chartRefreshExecutor")
+    public ThreadPoolTaskExecutor chartRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("chart-refresh-");
+        return executor;
+    }
+}
@@ -10,13 +10,25 @@ public class RedisConstants {
     public static final String KIS_EXPIRY_PREFIX = "kis:expiry:";
     public static final String KIS_WS_APPROVAL_PREFIX = "kis:ws:approval:";
     public static final String KIS_WS_EXPIRY_PREFIX = "kis:ws:expiry:";
+    public static final String KIS_RATE_LIMIT_PREFIX = "kis:ratelimit:";
+    
+    // 레플리카 간 작업 임대 키 패턴
+    public static final String LEASE_PREFIX = "lease:";
     
     // 차트 캐시 관련 Redis 키 패턴
     public static final String CHART_CACHE_PREFIX = "chart:";
     public static final String CHART_DAILY_PREFIX = "daily:";
+    public static final String CHART_WEEKLY_PREFIX = "weekly:";
     public static final String CHART_MONTHLY_PREFIX = "monthly:";
     public static final String CHART_YEARLY_PREFIX = "yearly:";
     public static final String CHART_MINUTE_PREFIX = "minute:";
+    public static final String CHART_INDEX_PREFIX = "index:";
+    public static final String CHART_MINUTE_BARS_SUFFIX = ":bars";
+    public static final String CHART_MINUTE_META_SUFFIX = ":meta";
+    public static final String CHART_INVALIDATION_CHANNEL = "chart:invalidate";
+    
+    // 확정 일봉 저장소 관련 Redis 키 패턴
+    public static final String CANDLE_HISTORY_START_PREFIX = "candle:daily:history-start:";
     
     // Redis 키 생성 메서드
     public static String buildKisTokenKey(String appkey) {
@@ -32,6 +44,12 @@ public class RedisConstants {
     public static String buildKisWsExpiryKey(String appkey) {
         return KIS_WS_EXPIRY_PREFIX + appkey;
     }
+    public static String buildKisRateLimitKey(String appkey) {
+        return KIS_RATE_LIMIT_PREFIX + appkey;
+    }
+    public static String buildLeaseKey(String name) {
+        return LEASE_PREFIX + name;
+    }
     
     public static String buildChartCacheKey(String chartType, String stockCode, String range) {
         return CHART_CACHE_PREFIX + chartType + stockCode + ":" + range;
@@ -41,6 +59,10 @@ public class RedisConstants {
         return buildChartCacheKey(CHART_DAILY_PREFIX, stockCode, range);
     }
     
+    public static String buildWeeklyChartKey(String stockCode, String range) {
+        return buildChartCacheKey(CHART_WEEKLY_PREFIX, stockCode, range);
+    }
+    
     public static String buildMonthlyChartKey(String stockCode, String range) {
         return buildChartCacheKey(CHART_MONTHLY_PREFIX, stockCode, range);
     }
@@ -49,7 +71,26 @@ public class RedisConstants {
         return buildChartCacheKey(CHART_YEARLY_PREFIX, stockCode, range);
     }
     
+    public static String buildIndexChartKey(String indexCode, String period) {
+        return buildChartCacheKey(CHART_INDEX_PREFIX, indexCode, period);
+    }
+    
     public static String buildMinuteChartKey(String stockCode, String range) {
         return buildChartCacheKey(CHART_MINUTE_PREFIX, stockCode, range);
     }
+    
+    // KIS 일봉 이력 시작일 (이보다 이전 구간은 KIS에도 일봉 없음)
+    public static String buildCandleHistoryStartKey(String stockCode) {
+        return CANDLE_HISTORY_START_PREFIX + stockCode;
+    }
+    
+    // 당일 분봉 append-only 리스트 (원소: 인코딩된 캔들 1개)
+    public static String buildMinuteBarsKey(String stockCode) {
+        return CHART_CACHE_PREFIX + CHART_MINUTE_PREFIX + stockCode + CHART_MINUTE_BARS_SUFFIX;
+    }
+    
+    // 당일 분봉 메타 해시 (last: 마지막 분 HHmm, updatedAt: 갱신 시각)
+    public static String buildMinuteMetaKey(String stockCode) {
+        return CHART_CACHE_PREFIX + CHART_MINUTE_PREFIX + stockCode + CHART_MINUTE_META_SUFFIX;
+    }
 }
@@ -1,20 +1,59 @@
 package com.youthfi.finance.global.config;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import com.youthfi.finance.global.config.properties.HttpClientProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 public class RestTemplateConfig {
 
+    /**
+     * KIS OpenAPI 전용 커넥션 풀
+     */
+    @Bean
+    public HttpComponentsClientHttpRequestFactory kisHttpRequestFactory(HttpClientProperties httpClientProperties,
+                                                                        ObjectProvider<MeterRegistry> meterRegistry) {
+        HttpClientProperties.Upstream kis = httpClientProperties.getKis();
+        return PooledHttpClientFactory.create("kis", kis, kis.getResponseTimeoutMs(), meterRegistry.getIfAvailable());
+    }
+
+    /**
+     * 포트폴리오 추천 LLM 서비스 전용 커넥션 풀
+     */
+    @Bean
+    public HttpComponentsClientHttpRequestFactory llmHttpRequestFactory(HttpClientProperties httpClientProperties,
+                                                                        ObjectProvider<MeterRegistry> meterRegistry) {
+        HttpClientProperties.Upstream llm = httpClientProperties.getLlm();
+        return PooledHttpClientFactory.create("llm", llm, llm.getResponseTimeoutMs(), meterRegistry.getIfAvailable());
+    }
+
+    /**
+     * KIS OpenAPI 호출용 (기본 RestTemplate)
+     */
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(180000);
-        factory.setReadTimeout(180000);
+    @Primary
+    public RestTemplate restTemplate(RestTemplateBuilder builder,
+                                     @Qualifier("kisHttpRequestFactory") HttpComponentsClientHttpRequestFactory factory) {
+        return builder
+                .requestFactory(() -> factory)
+                .build();
+    }
 
+    /**
+     * LLM 서비스 호출용
+     */
+    @Bean("llmRestTemplate")
+    public RestTemplate llmRestTemplate(RestTemplateBuilder builder,
+                                        @Qualifier("llmHttpRequestFactory") HttpComponentsClientHttpRequestFactory factory) {
         return builder
                 .requestFactory(() -> factory)
                 .build();
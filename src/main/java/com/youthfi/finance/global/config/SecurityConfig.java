@@ -51,6 +51,7 @@ public class SecurityConfig {
                     "/actuator/**",
                     "/api/stock/token-status",
                     "/api/stock/current-price",
+                    "/api/stock/current-prices",
                     "/api/stock/chart/**"
                 ).permitAll()
                 
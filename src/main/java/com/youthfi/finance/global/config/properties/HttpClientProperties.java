@@ -0,0 +1,40 @@
+package com.youthfi.finance.global.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 외부 연동 HTTP 커넥션 풀 설정 (연동 대상별 분리)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "http-client")
+public class HttpClientProperties {
+
+    private Upstream kis = new Upstream(40, 40, 3000, 10000);
+    private Upstream llm = new Upstream(20, 20, 5000, 180000);
+    private Upstream ai = new Upstream(20, 20, 5000, 30000);
+
+    @Getter
+    @Setter
+    public static class Upstream {
+        private int maxTotal;
+        private int maxPerRoute;
+        private int connectTimeoutMs;
+        private int responseTimeoutMs;
+        private int connectionRequestTimeoutMs = 3000; // 풀에서 커넥션을 얻기까지 최대 대기
+        private long idleEvictMs = 30000;              // 유휴 커넥션 정리 기준
+        private long timeToLiveMs = 300000;            // 커넥션 최대 수명
+
+        public Upstream() {
+        }
+
+        public Upstream(int maxTotal, int maxPerRoute, int connectTimeoutMs, int responseTimeoutMs) {
+            this.maxTotal = maxTotal;
+            this.maxPerRoute = maxPerRoute;
+            this.connectTimeoutMs = connectTimeoutMs;
+            this.responseTimeoutMs = responseTimeoutMs;
+        }
+    }
+}
@@ -21,6 +21,11 @@ public class KisApiEndpoints {
     // 토큰 발급 API
     public static final String TOKEN_ISSUANCE = "/oauth2/tokenP";
     
+    // 실시간(웹소켓) 접속키 발급 API
+    public static final String WEBSOCKET_APPROVAL = "/oauth2/Approval";
+    public static final String WEBSOCKET_URL = "ws://ops.koreainvestment.com:21000";
+    public static final String TRADE_TICK_TR_ID = "H0STCNT0"; // 국내주식 실시간체결가
+    
     // 차트 API 엔드포인트
     public static final String DAILY_CHART = "/uapi/domestic-stock/v1/quotations/inquire-daily-itemchartprice";
     public static final String MINUTE_CHART = "/uapi/domestic-stock/v1/quotations/inquire-time-itemchartprice";
@@ -9,6 +9,10 @@ import java.util.List;
 @ConfigurationProperties(prefix = "kis")
 public class KisApiProperties {
     private List<KisKey> keys;
+    private RateLimit rateLimit = new RateLimit();
+    private Executor executor = new Executor();
+    private QuoteCache quoteCache = new QuoteCache();
+    private WebSocket websocket = new WebSocket();
 
     public static class KisKey {
 
@@ -26,6 +30,125 @@ public class KisApiProperties {
 
     }
 
+    /**
+     * appkey 단위 호출 한도 설정 (KIS 실전계좌: 초당 20건)
+     */
+    public static class RateLimit {
+
+        private int permitsPerSecond = 18;
+
+        private long maxWaitMs = 3000;
+
+        private boolean clusterEnabled = true;
+
+        private long windowMs = 1000;
+
+        public int getPermitsPerSecond() { return permitsPerSecond; }
+
+        public long getMaxWaitMs() { return maxWaitMs; }
+
+        public boolean isClusterEnabled() { return clusterEnabled; }
+
+        public long getWindowMs() { return windowMs; }
+
+        public void setPermitsPerSecond(int permitsPerSecond) { this.permitsPerSecond = permitsPerSecond; }
+
+        public void setMaxWaitMs(long maxWaitMs) { this.maxWaitMs = maxWaitMs; }
+
+        public void setClusterEnabled(boolean clusterEnabled) { this.clusterEnabled = clusterEnabled; }
+
+        public void setWindowMs(long windowMs) { this.windowMs = windowMs; }
+
+        /**
+         * 슬라이딩 윈도우 내 허용 건수 (클러스터 전체)
+         */
+        public int getPermitsPerWindow() {
+            return (int) Math.max(1, permitsPerSecond * windowMs / 1000);
+        }
+
+    }
+
+    /**
+     * KIS 병렬 호출 스레드풀 설정 (분봉 페이지 병렬 수집 등)
+     */
+    public static class Executor {
+
+        private int poolSize = 8;
+
+        private int queueCapacity = 500;
+
+        public int getPoolSize() { return poolSize; }
+
+        public int getQueueCapacity() { return queueCapacity; }
+
+        public void setPoolSize(int poolSize) { this.poolSize = poolSize; }
+
+        public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+
+    }
+
+    /**
+     * 현재가 시세 캐시 설정
+     */
+    public static class QuoteCache {
+
+        private long ttlMs = 1000;
+
+        private int maxEntries = 5000;
+
+        public long getTtlMs() { return ttlMs; }
+
+        public int getMaxEntries() { return maxEntries; }
+
+        public void setTtlMs(long ttlMs) { this.ttlMs = ttlMs; }
+
+        public void setMaxEntries(int maxEntries) { this.maxEntries = maxEntries; }
+
+    }
+
+    /**
+     * 실시간 체결가 웹소켓 설정
+     */
+    public static class WebSocket {
+
+        private boolean enabled = false;
+
+        private String url = KisApiEndpoints.WEBSOCKET_URL;
+
+        private List<String> symbols = new ArrayList<>();
+
+        private int maxSubscriptionsPerSession = 40;
+
+        private long reconnectInitialMs = 1000;
+
+        private long reconnectMaxMs = 30000;
+
+        public boolean isEnabled() { return enabled; }
+
+        public String getUrl() { return url; }
+
+        public List<String> getSymbols() { return symbols; }
+
+        public int getMaxSubscriptionsPerSession() { return maxSubscriptionsPerSession; }
+
+        public long getReconnectInitialMs() { return reconnectInitialMs; }
+
+        public long getReconnectMaxMs() { return reconnectMaxMs; }
+
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        public void setUrl(String url) { this.url = url; }
+
+        public void setSymbols(List<String> symbols) { this.symbols = symbols; }
+
+        public void setMaxSubscriptionsPerSession(int maxSubscriptionsPerSession) { this.maxSubscriptionsPerSession = maxSubscriptionsPerSession; }
+
+        public void setReconnectInitialMs(long reconnectInitialMs) { this.reconnectInitialMs = reconnectInitialMs; }
+
+        public void setReconnectMaxMs(long reconnectMaxMs) { this.reconnectMaxMs = reconnectMaxMs; }
+
+    }
+
     public List<KisKey> getKeys() {
 
         if (keys == null || keys.isEmpty()) {
@@ -39,6 +162,22 @@ public class KisApiProperties {
 
     public void setKeys(List<KisKey> keys) { this.keys = keys; }
 
+    public RateLimit getRateLimit() { return rateLimit; }
+
+    public void setRateLimit(RateLimit rateLimit) { this.rateLimit = rateLimit; }
+
+    public Executor getExecutor() { return executor; }
+
+    public void setExecutor(Executor executor) { this.executor = executor; }
+
+    public QuoteCache getQuoteCache() { return quoteCache; }
+
+    public void setQuoteCache(QuoteCache quoteCache) { this.quoteCache = quoteCache; }
+
+    public WebSocket getWebsocket() { return websocket; }
+
+    public void setWebsocket(WebSocket websocket) { this.websocket = websocket; }
+
     private List<KisKey> loadKeysFromEnvironment() {
         List<KisKey> result = new ArrayList<>();
 
@@ -6,6 +6,7 @@ import com.youthfi.finance.global.exception.code.status.StockErrorStatus;
 import lombok.Getter;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 @Getter
 public class StockException extends RestApiException {
@@ -98,6 +99,16 @@ public class StockException extends RestApiException {
             "유효하지 않은 차트 기간입니다: " + period);
     }
 
+    public static StockException invalidChartCursor(String since) {
+        return new StockException(StockErrorStatus.INVALID_CHART_CURSOR,
+            "유효하지 않은 차트 조회 기준 시각입니다: " + since);
+    }
+
+    public static StockException invalidChartRange(LocalDate from, LocalDate to) {
+        return new StockException(StockErrorStatus.INVALID_CHART_RANGE,
+            "유효하지 않은 차트 조회 구간입니다: " + from + " ~ " + to);
+    }
+
 
 
     // KIS API 관련 편의 메서드
@@ -127,6 +138,16 @@ public class StockException extends RestApiException {
             "KIS API 응답 구조가 올바르지 않습니다.");
     }
 
+    public static StockException kisApiRateLimitExceeded() {
+        return new StockException(StockErrorStatus.KIS_API_RATE_LIMIT_EXCEEDED, 
+            "KIS API 요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    public static StockException kisApiKeyNotConfigured() {
+        return new StockException(StockErrorStatus.KIS_API_AUTHENTICATION_FAILED, 
+            "KIS API 키가 설정되지 않았습니다.");
+    }
+
 
 
     // 유틸리티 메서드들
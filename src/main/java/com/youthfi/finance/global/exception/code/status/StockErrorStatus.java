@@ -58,6 +58,8 @@ public enum StockErrorStatus implements BaseCodeInterface {
     INVALID_CHART_PERIOD(HttpStatus.BAD_REQUEST, "STOCK9002", "유효하지 않은 차트 기간입니다."),
     CHART_DATA_FETCH_FAILED(HttpStatus.SERVICE_UNAVAILABLE, "STOCK9003", "차트 데이터 조회에 실패했습니다."),
     CHART_CACHE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "STOCK9004", "차트 캐시 처리 중 오류가 발생했습니다."),
+    INVALID_CHART_CURSOR(HttpStatus.BAD_REQUEST, "STOCK9005", "유효하지 않은 차트 조회 기준 시각입니다."),
+    INVALID_CHART_RANGE(HttpStatus.BAD_REQUEST, "STOCK9006", "유효하지 않은 차트 조회 구간입니다."),
 
     // ===========================================
     // KIS API 관련 예외
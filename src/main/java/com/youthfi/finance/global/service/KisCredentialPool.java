@@ -0,0 +1,104 @@
+package com.youthfi.finance.global.service;
+
+import com.youthfi.finance.global.config.properties.KisApiProperties;
+import com.youthfi.finance.global.exception.StockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * KIS appkey 풀
+ * - 설정된 모든 appkey로 호출을 분산 (라운드로빈)
+ * - appkey마다 초당 호출 한도 크기의 토큰 버킷을 두고, 여유가 있는 키를 반환
+ * - 로컬 버킷 통과 후 클러스터 전역 한도(KisRateLimiter)에서 허가를 받아야 키를 반환
+ */
+@Slf4j
+@Component
+public class KisCredentialPool {
+
+    private final KisApiProperties kisApiProperties;
+    private final KisRateLimiter kisRateLimiter;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public KisCredentialPool(KisApiProperties kisApiProperties, KisRateLimiter kisRateLimiter) {
+        this.kisApiProperties = kisApiProperties;
+        this.kisRateLimiter = kisRateLimiter;
+    }
+
+    /**
+     * 호출 가능한 appkey 획득 (모든 키가 한도에 걸린 경우 가장 빠른 충전 시점까지 대기)
+     */
+    public KisApiProperties.KisKey acquire() {
+        List<KisApiProperties.KisKey> keys = getConfiguredKeys();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(kisApiProperties.getRateLimit().getMaxWaitMs());
+
+        while (true) {
+            int start = Math.floorMod(cursor.getAndIncrement(), keys.size());
+            long minWaitNanos = Long.MAX_VALUE;
+
+            for (int i = 0; i < keys.size(); i++) {
+                KisApiProperties.KisKey key = keys.get((start + i) % keys.size());
+                TokenBucket bucket = bucketOf(key);
+                long waitNanos = bucket.tryAcquire();
+                if (waitNanos == 0L) {
+                    RateLimitDecision decision = kisRateLimiter.tryAcquire(key.getAppkey());
+                    if (decision.acquired()) {
+                        return key;
+                    }
+                    bucket.release();
+                    waitNanos = TimeUnit.MILLISECONDS.toNanos(decision.waitMillis());
+                }
+                minWaitNanos = Math.min(minWaitNanos, waitNanos);
+            }
+
+            if (System.nanoTime() + minWaitNanos > deadline) {
+                log.warn("KIS appkey 전체 호출 한도 초과: keys={}, waitMs={}", keys.size(), TimeUnit.NANOSECONDS.toMillis(minWaitNanos));
+                throw StockException.kisApiRateLimitExceeded();
+            }
+            sleepNanos(minWaitNanos);
+        }
+    }
+
+    /**
+     * KIS가 한도 초과(EGW00201)를 반환한 appkey 보고
+     */
+    public void reportRateLimited(String appkey) {
+        kisRateLimiter.markExhausted(appkey);
+    }
+
+    /**
+     * 설정된 appkey 수
+     */
+    public int size() {
+        List<KisApiProperties.KisKey> keys = kisApiProperties.getKeys();
+        return keys == null ? 0 : keys.size();
+    }
+
+    private List<KisApiProperties.KisKey> getConfiguredKeys() {
+        List<KisApiProperties.KisKey> keys = kisApiProperties.getKeys();
+        if (keys == null || keys.isEmpty()) {
+            throw StockException.kisApiKeyNotConfigured();
+        }
+        return keys;
+    }
+
+    private TokenBucket bucketOf(KisApiProperties.KisKey key) {
+        return buckets.computeIfAbsent(key.getAppkey(),
+                appkey -> new TokenBucket(kisApiProperties.getRateLimit().getPermitsPerSecond()));
+    }
+
+    private void sleepNanos(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw StockException.kisApiRateLimitExceeded();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.youthfi.finance.global.service;
+
+import com.youthfi.finance.global.config.RedisConstants;
+import com.youthfi.finance.global.config.properties.KisApiProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * KIS 호출 한도 클러스터 전역 관리 (Redis 슬라이딩 윈도우)
+ * - appkey별 ZSET에 호출 시각을 기록하고, 윈도우 내 건수가 한도 미만일 때만 허가
+ * - 모든 레플리카가 같은 키를 공유하므로 파드 수와 무관하게 appkey 한도를 지킴
+ * - Redis 장애 시에는 로컬 토큰 버킷만으로 동작 (fail-open)
+ */
+@Slf4j
+@Component
+public class KisRateLimiter {
+
+    /**
+     * KEYS[1]=윈도우 키, ARGV[1]=윈도우(ms), ARGV[2]=허용 건수, ARGV[3]=요청 식별자
+     * 반환: 0=허가, 양수=대기시간(ms)
+     */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local window = tonumber(ARGV[1])
+            local limit = tonumber(ARGV[2])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+            if redis.call('ZCARD', KEYS[1]) < limit then
+                redis.call('ZADD', KEYS[1], now, now .. ':' .. ARGV[3])
+                redis.call('PEXPIRE', KEYS[1], window)
+                return 0
+            end
+            local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+            return math.max(1, tonumber(oldest[2]) + window - now)
+            """, Long.class);
+
+    /**
+     * KIS가 EGW00201(초당 거래건수 초과)을 반환한 경우 현재 윈도우를 가득 채워 모든 노드가 대기하도록 함
+     */
+    private static final RedisScript<Long> EXHAUST_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local window = tonumber(ARGV[1])
+            local limit = tonumber(ARGV[2])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+            local count = redis.call('ZCARD', KEYS[1])
+            for i = count + 1, limit do
+                redis.call('ZADD', KEYS[1], now, now .. ':' .. ARGV[3] .. ':' .. i)
+            end
+            redis.call('PEXPIRE', KEYS[1], window)
+            return window
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final KisApiProperties kisApiProperties;
+
+    public KisRateLimiter(RedisTemplate<String, String> redisTemplate, KisApiProperties kisApiProperties) {
+        this.redisTemplate = redisTemplate;
+        this.kisApiProperties = kisApiProperties;
+    }
+
+    /**
+     * appkey 호출 허가 요청
+     */
+    public RateLimitDecision tryAcquire(String appkey) {
+        KisApiProperties.RateLimit rateLimit = kisApiProperties.getRateLimit();
+        if (!rateLimit.isClusterEnabled()) {
+            return RateLimitDecision.granted();
+        }
+        try {
+            Long waitMillis = redisTemplate.execute(ACQUIRE_SCRIPT,
+                    List.of(RedisConstants.buildKisRateLimitKey(appkey)),
+                    String.valueOf(rateLimit.getWindowMs()),
+                    String.valueOf(rateLimit.getPermitsPerWindow()),
+                    UUID.randomUUID().toString());
+            if (waitMillis == null || waitMillis <= 0) {
+                return RateLimitDecision.granted();
+            }
+            return RateLimitDecision.waitFor(waitMillis);
+        } catch (Exception e) {
+            log.warn("KIS 클러스터 호출 한도 확인 실패, 로컬 한도만 적용: appkey={}, error={}", appkey, e.getMessage());
+            return RateLimitDecision.granted();
+        }
+    }
+
+    /**
+     * KIS 측 한도 초과 응답 반영
+     */
+    public void markExhausted(String appkey) {
+        KisApiProperties.RateLimit rateLimit = kisApiProperties.getRateLimit();
+        if (appkey == null || !rateLimit.isClusterEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(EXHAUST_SCRIPT,
+                    List.of(RedisConstants.buildKisRateLimitKey(appkey)),
+                    String.valueOf(rateLimit.getWindowMs()),
+                    String.valueOf(rateLimit.getPermitsPerWindow()),
+                    UUID.randomUUID().toString());
+            log.info("KIS 호출 한도 초과 응답 반영: appkey={}", appkey);
+        } catch (Exception e) {
+            log.warn("KIS 호출 한도 초과 반영 실패: appkey={}, error={}", appkey, e.getMessage());
+        }
+    }
+}
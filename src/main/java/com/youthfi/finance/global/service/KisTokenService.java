@@ -7,99 +7,100 @@ import com.youthfi.finance.global.exception.StockException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.*;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * KIS 접근토큰 관리
+ * - appkey별 현재 토큰을 메모리에 보관 (조회 경로는 메모리 읽기만 수행)
+ * - 만료 1시간 전부터 백그라운드 스케줄러가 갱신, 잠금은 appkey 단위
+ * - Redis는 노드 간 토큰 공유용 (다른 노드가 발급한 토큰이 있으면 재발급하지 않음)
+ */
 @Slf4j
 @Service
 public class KisTokenService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    // 24시간 토큰이므로 만료 1시간 전부터 갱신 대상
+    private static final Duration REFRESH_BEFORE_EXPIRY = Duration.ofHours(1);
+    // 백그라운드 갱신이 늦어진 경우 조회 경로에서 직접 갱신하는 기준
+    private static final Duration MIN_REMAINING_VALIDITY = Duration.ofMinutes(1);
+    private static final Duration ISSUE_LEASE_TTL = Duration.ofSeconds(30);
+    private static final long ISSUE_WAIT_MILLIS = 5000;
+    private static final long ISSUE_POLL_MILLIS = 200;
+
     private final KisApiProperties kisApiProperties;
     private final RestTemplate restTemplate;
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLeaseService redisLeaseService;
+    private final ConcurrentMap<String, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ReentrantLock> locks = new ConcurrentHashMap<>();
 
 
 
-    public KisTokenService(KisApiProperties kisApiProperties, RestTemplate restTemplate, RedisTemplate<String, String> redisTemplate) {
+    public KisTokenService(KisApiProperties kisApiProperties, RestTemplate restTemplate, RedisTemplate<String, String> redisTemplate,
+                           RedisLeaseService redisLeaseService) {
         this.kisApiProperties = kisApiProperties;
         this.restTemplate = restTemplate;
         this.redisTemplate = redisTemplate;
+        this.redisLeaseService = redisLeaseService;
     }
 
 
     
-    public synchronized String getValidToken(String appkey, String appsecret) {
-        String tokenKey = RedisConstants.buildKisTokenKey(appkey);
-        String token = redisTemplate.opsForValue().get(tokenKey);
-        
-        if (token == null) {
-            log.info("새로운 토큰 발급: {}", appkey);
-            fetchToken(appkey, appsecret);
-            token = redisTemplate.opsForValue().get(tokenKey);
-        } else if (isTokenExpiringSoon(appkey)) {
-            log.info("토큰 갱신: {} (만료 1시간 전)", appkey);
-            fetchToken(appkey, appsecret);
-            token = redisTemplate.opsForValue().get(tokenKey);
-        } else {
-            log.debug("기존 토큰 재사용: {}", appkey);
+    public String getValidToken(String appkey, String appsecret) {
+        CachedToken cached = tokens.get(appkey);
+        if (cached != null && cached.isValidFor(MIN_REMAINING_VALIDITY)) {
+            return cached.token();
         }
-        return token;
+        return refresh(appkey, appsecret, MIN_REMAINING_VALIDITY).token();
     }
 
 
 
-    public synchronized void fetchToken(String appkey, String appsecret) {
-        String url = KisApiEndpoints.REAL_BASE_URL + KisApiEndpoints.TOKEN_ISSUANCE;
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        Map<String, String> body = new HashMap<>();
-        body.put("grant_type", "client_credentials");
-        body.put("appkey", appkey);
-        body.put("appsecret", appsecret);
-
-        HttpEntity<Map<String, String>> request = new HttpEntity<>(body, headers);
-
-        ResponseEntity<Map> response = restTemplate.postForEntity(url, request, Map.class);
-
-        if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-            Map<String, Object> respBody = response.getBody();
-            String token = (String) respBody.get("access_token");
-            String expiredAtStr = (String) respBody.get("access_token_token_expired");
-            LocalDateTime expiredAt = LocalDateTime.parse(expiredAtStr, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-            
-            // Redis에 토큰과 만료시간 저장 (24시간 TTL)
-            String tokenKey = RedisConstants.buildKisTokenKey(appkey);
-            String expiryKey = RedisConstants.buildKisExpiryKey(appkey);
-            
-            redisTemplate.opsForValue().set(tokenKey, token, Duration.ofHours(24));
-            redisTemplate.opsForValue().set(expiryKey, expiredAt.toString(), Duration.ofHours(24));
-        } else {
-            throw StockException.kisApiConnectionFailed(new RuntimeException("토큰 발급 실패: " + response.getStatusCode()));
+    /**
+     * 만료 임박 토큰 백그라운드 갱신
+     */
+    @Scheduled(initialDelayString = "${kis.token.refresh-initial-delay-ms:5000}",
+               fixedDelayString = "${kis.token.refresh-check-ms:300000}")
+    public void refreshExpiringTokens() {
+        List<KisApiProperties.KisKey> keys = kisApiProperties.getKeys();
+        if (keys == null) {
+            return;
+        }
+        for (KisApiProperties.KisKey key : keys) {
+            CachedToken cached = tokens.get(key.getAppkey());
+            if (cached != null && cached.isValidFor(REFRESH_BEFORE_EXPIRY)) {
+                continue;
+            }
+            try {
+                refresh(key.getAppkey(), key.getAppsecret(), REFRESH_BEFORE_EXPIRY);
+            } catch (Exception e) {
+                log.warn("KIS 토큰 백그라운드 갱신 실패: appkey={}, error={}", key.getAppkey(), e.getMessage());
+            }
         }
     }
 
 
 
     public boolean isTokenExpiringSoon(String appkey) {
-        String expiryKey = RedisConstants.buildKisExpiryKey(appkey);
-        String expiryStr = redisTemplate.opsForValue().get(expiryKey);
-        
-        if (expiryStr == null) {
-            return true; // 토큰이 없으면 갱신 필요
-        }
-        
-        try {
-            LocalDateTime tokenExpiredAt = LocalDateTime.parse(expiryStr);
-            // 24시간 토큰이므로 만료 1시간 전에 갱신 (23시간 후)
-            return tokenExpiredAt.minusHours(1).isBefore(LocalDateTime.now());
-        } catch (Exception e) {
-            return true; // 파싱 실패시 갱신 필요
+        CachedToken cached = tokens.get(appkey);
+        if (cached == null) {
+            cached = loadFromRedis(appkey);
         }
+        // 토큰이 없으면 갱신 필요
+        return cached == null || !cached.isValidFor(REFRESH_BEFORE_EXPIRY);
     }
 
     
@@ -118,6 +119,7 @@ public class KisTokenService {
         status.put("hasToken", token != null);
         status.put("expiredAt", expiryStr);
         status.put("isExpiringSoon", isTokenExpiringSoon(appkey));
+        status.put("cachedInMemory", tokens.containsKey(appkey));
         return status;
     }
 
@@ -142,4 +144,132 @@ public class KisTokenService {
         
         return allStatus;
     }
-}
\ No newline at end of file
+
+
+
+    /**
+     * appkey 단위 잠금 후 갱신 (메모리 → Redis → 신규 발급 순으로 확인)
+     */
+    private CachedToken refresh(String appkey, String appsecret, Duration minValidity) {
+        ReentrantLock lock = locks.computeIfAbsent(appkey, k -> new ReentrantLock());
+        lock.lock();
+        try {
+            CachedToken cached = tokens.get(appkey);
+            if (cached != null && cached.isValidFor(minValidity)) {
+                return cached;
+            }
+
+            CachedToken shared = loadFromRedis(appkey);
+            if (shared != null && shared.isValidFor(minValidity)) {
+                log.debug("다른 노드에서 발급한 토큰 사용: {}", appkey);
+                tokens.put(appkey, shared);
+                return shared;
+            }
+
+            CachedToken issued = issueOnce(appkey, appsecret, minValidity);
+            tokens.put(appkey, issued);
+            return issued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 클러스터에서 한 노드만 발급 (KIS 토큰 발급은 분당 1회 제한)
+     */
+    private CachedToken issueOnce(String appkey, String appsecret, Duration minValidity) {
+        String leaseName = "kis:token:" + appkey;
+        String leaseToken = redisLeaseService.tryAcquire(leaseName, ISSUE_LEASE_TTL);
+        if (leaseToken == null) {
+            CachedToken issuedByOther = awaitIssuedByOther(appkey, minValidity);
+            if (issuedByOther != null) {
+                return issuedByOther;
+            }
+            log.info("다른 노드 토큰 발급 대기 시간 초과, 직접 발급: {}", appkey);
+        }
+        try {
+            log.info("새로운 토큰 발급: {}", appkey);
+            return issueToken(appkey, appsecret);
+        } finally {
+            redisLeaseService.release(leaseName, leaseToken);
+        }
+    }
+
+    private CachedToken awaitIssuedByOther(String appkey, Duration minValidity) {
+        long deadline = System.currentTimeMillis() + ISSUE_WAIT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(ISSUE_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            CachedToken shared = loadFromRedis(appkey);
+            if (shared != null && shared.isValidFor(minValidity)) {
+                return shared;
+            }
+        }
+        return null;
+    }
+
+    private CachedToken issueToken(String appkey, String appsecret) {
+        String url = KisApiEndpoints.REAL_BASE_URL + KisApiEndpoints.TOKEN_ISSUANCE;
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        Map<String, String> body = new HashMap<>();
+        body.put("grant_type", "client_credentials");
+        body.put("appkey", appkey);
+        body.put("appsecret", appsecret);
+
+        HttpEntity<Map<String, String>> request = new HttpEntity<>(body, headers);
+
+        ResponseEntity<Map> response = restTemplate.postForEntity(url, request, Map.class);
+
+        if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
+            Map<String, Object> respBody = response.getBody();
+            String token = (String) respBody.get("access_token");
+            String expiredAtStr = (String) respBody.get("access_token_token_expired");
+            LocalDateTime expiredAt = LocalDateTime.parse(expiredAtStr, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+            
+            // Redis에 토큰과 만료시간 저장 (24시간 TTL)
+            String tokenKey = RedisConstants.buildKisTokenKey(appkey);
+            String expiryKey = RedisConstants.buildKisExpiryKey(appkey);
+            
+            try {
+                redisTemplate.opsForValue().set(tokenKey, token, Duration.ofHours(24));
+                redisTemplate.opsForValue().set(expiryKey, expiredAt.toString(), Duration.ofHours(24));
+            } catch (Exception e) {
+                log.warn("KIS 토큰 Redis 공유 실패 (메모리 토큰 사용): appkey={}, error={}", appkey, e.getMessage());
+            }
+            return new CachedToken(token, expiredAt);
+        } else {
+            throw StockException.kisApiConnectionFailed(new RuntimeException("토큰 발급 실패: " + response.getStatusCode()));
+        }
+    }
+
+    private CachedToken loadFromRedis(String appkey) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(
+                    RedisConstants.buildKisTokenKey(appkey),
+                    RedisConstants.buildKisExpiryKey(appkey)));
+            if (values == null || values.size() < 2 || values.get(0) == null || values.get(1) == null) {
+                return null;
+            }
+            return new CachedToken(values.get(0), LocalDateTime.parse(values.get(1)));
+        } catch (Exception e) {
+            log.warn("KIS 토큰 Redis 조회 실패: appkey={}, error={}", appkey, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 토큰 + 만료시각 (KIS 응답 기준 KST)
+     */
+    private record CachedToken(String token, LocalDateTime expiredAt) {
+
+        boolean isValidFor(Duration remaining) {
+            return expiredAt.minus(remaining).isAfter(LocalDateTime.now(KST));
+        }
+    }
+}
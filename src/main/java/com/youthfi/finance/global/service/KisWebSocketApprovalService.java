@@ -0,0 +1,117 @@
+package com.youthfi.finance.global.service;
+
+import com.youthfi.finance.global.config.RedisConstants;
+import com.youthfi.finance.global.config.properties.KisApiEndpoints;
+import com.youthfi.finance.global.exception.StockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.*;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * KIS 실시간(웹소켓) 접속키 관리
+ * - appkey별 접속키를 메모리와 Redis에 보관 (노드 간 공유, 24시간 유효)
+ * - 재접속 시 기존 키를 재사용하고, 거절되면 강제 재발급
+ */
+@Slf4j
+@Service
+public class KisWebSocketApprovalService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final Duration APPROVAL_TTL = Duration.ofHours(24);
+    // 만료 직전 키로 접속하지 않도록 여유를 둠
+    private static final Duration MIN_REMAINING_VALIDITY = Duration.ofMinutes(10);
+
+    private final RestTemplate restTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ConcurrentMap<String, CachedApproval> approvals = new ConcurrentHashMap<>();
+
+    public KisWebSocketApprovalService(RestTemplate restTemplate, RedisTemplate<String, String> redisTemplate) {
+        this.restTemplate = restTemplate;
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 유효한 접속키 조회 (메모리 → Redis → 신규 발급)
+     */
+    public synchronized String getApprovalKey(String appkey, String appsecret) {
+        CachedApproval cached = approvals.get(appkey);
+        if (cached == null || !cached.isValidFor(MIN_REMAINING_VALIDITY)) {
+            cached = loadFromRedis(appkey);
+        }
+        if (cached == null || !cached.isValidFor(MIN_REMAINING_VALIDITY)) {
+            cached = issueApprovalKey(appkey, appsecret);
+        }
+        approvals.put(appkey, cached);
+        return cached.approvalKey();
+    }
+
+    /**
+     * 서버가 접속키를 거절한 경우 폐기 후 재발급
+     */
+    public synchronized String renewApprovalKey(String appkey, String appsecret) {
+        approvals.remove(appkey);
+        CachedApproval issued = issueApprovalKey(appkey, appsecret);
+        approvals.put(appkey, issued);
+        return issued.approvalKey();
+    }
+
+    private CachedApproval issueApprovalKey(String appkey, String appsecret) {
+        String url = KisApiEndpoints.REAL_BASE_URL + KisApiEndpoints.WEBSOCKET_APPROVAL;
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        Map<String, String> body = new HashMap<>();
+        body.put("grant_type", "client_credentials");
+        body.put("appkey", appkey);
+        body.put("secretkey", appsecret);
+
+        ResponseEntity<Map> response = restTemplate.postForEntity(url, new HttpEntity<>(body, headers), Map.class);
+        Object approvalKey = response.getBody() != null ? response.getBody().get("approval_key") : null;
+        if (response.getStatusCode() != HttpStatus.OK || approvalKey == null) {
+            throw StockException.kisApiConnectionFailed(new RuntimeException("웹소켓 접속키 발급 실패: " + response.getStatusCode()));
+        }
+
+        CachedApproval issued = new CachedApproval(approvalKey.toString(), LocalDateTime.now(KST).plus(APPROVAL_TTL));
+        try {
+            redisTemplate.opsForValue().set(RedisConstants.buildKisWsApprovalKey(appkey), issued.approvalKey(), APPROVAL_TTL);
+            redisTemplate.opsForValue().set(RedisConstants.buildKisWsExpiryKey(appkey), issued.expiredAt().toString(), APPROVAL_TTL);
+        } catch (Exception e) {
+            log.warn("웹소켓 접속키 Redis 공유 실패 (메모리 키 사용): appkey={}, error={}", appkey, e.getMessage());
+        }
+        log.info("웹소켓 접속키 발급: appkey={}, expiredAt={}", appkey, issued.expiredAt());
+        return issued;
+    }
+
+    private CachedApproval loadFromRedis(String appkey) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(
+                    RedisConstants.buildKisWsApprovalKey(appkey),
+                    RedisConstants.buildKisWsExpiryKey(appkey)));
+            if (values == null || values.size() < 2 || values.get(0) == null || values.get(1) == null) {
+                return null;
+            }
+            return new CachedApproval(values.get(0), LocalDateTime.parse(values.get(1)));
+        } catch (Exception e) {
+            log.warn("웹소켓 접속키 Redis 조회 실패: appkey={}, error={}", appkey, e.getMessage());
+            return null;
+        }
+    }
+
+    private record CachedApproval(String approvalKey, LocalDateTime expiredAt) {
+
+        boolean isValidFor(Duration remaining) {
+            return expiredAt.minus(remaining).isAfter(LocalDateTime.now(KST));
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.youthfi.finance.global.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * KRX 정규장 일정 (KST)
+ * - 평일 09:00 ~ 15:30, 주말과 휴장일 파일에 등록된 날은 휴장
+ * - 휴장일 파일 한 줄: "yyyy-MM-dd" (휴장) 또는 "yyyy-MM-dd HH:mm-HH:mm" (개장 시간 변경일), '#' 이후는 주석
+ */
+@Slf4j
+@Component
+public class MarketCalendar {
+
+    public static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final LocalTime REGULAR_OPEN = LocalTime.of(9, 0);
+    private static final LocalTime REGULAR_CLOSE = LocalTime.of(15, 30);
+    // 휴장일 파일이 비어 있거나 잘못돼도 무한 탐색하지 않도록 제한
+    private static final int MAX_SEARCH_DAYS = 30;
+
+    public enum SessionState {
+        PRE_OPEN, OPEN, CLOSED, HOLIDAY
+    }
+
+    private final Set<LocalDate> holidays = new HashSet<>();
+    private final Map<LocalDate, LocalTime[]> specialSessions = new HashMap<>();
+    private final Clock clock;
+
+    @Autowired
+    public MarketCalendar(@Value("${market.holiday-file:classpath:market/krx-holidays.txt}") Resource holidayFile) {
+        this(holidayFile, Clock.system(KST));
+    }
+
+    public MarketCalendar(Resource holidayFile, Clock clock) {
+        this.clock = clock;
+        load(holidayFile);
+    }
+
+    public LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    public LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    public boolean isTradingDay(LocalDate date) {
+        DayOfWeek day = date.getDayOfWeek();
+        return day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY && !holidays.contains(date);
+    }
+
+    /**
+     * 개장 시각 (휴장일이어도 정규장 기준 값 반환)
+     */
+    public LocalTime openTime(LocalDate date) {
+        LocalTime[] session = specialSessions.get(date);
+        return session != null ? session[0] : REGULAR_OPEN;
+    }
+
+    public LocalTime closeTime(LocalDate date) {
+        LocalTime[] session = specialSessions.get(date);
+        return session != null ? session[1] : REGULAR_CLOSE;
+    }
+
+    public SessionState state(LocalDateTime time) {
+        LocalDate date = time.toLocalDate();
+        if (!isTradingDay(date)) {
+            return SessionState.HOLIDAY;
+        }
+        LocalTime clockTime = time.toLocalTime();
+        if (clockTime.isBefore(openTime(date))) {
+            return SessionState.PRE_OPEN;
+        }
+        return clockTime.isBefore(closeTime(date)) ? SessionState.OPEN : SessionState.CLOSED;
+    }
+
+    public SessionState state() {
+        return state(now());
+    }
+
+    public boolean isOpen(LocalDateTime time) {
+        return state(time) == SessionState.OPEN;
+    }
+
+    public boolean isOpen() {
+        return isOpen(now());
+    }
+
+    /**
+     * 다음 개장 시각 (장중이면 다음 거래일 개장)
+     */
+    public LocalDateTime nextOpen(LocalDateTime time) {
+        LocalDate date = time.toLocalDate();
+        if (isTradingDay(date) && time.toLocalTime().isBefore(openTime(date))) {
+            return date.atTime(openTime(date));
+        }
+        LocalDate next = nextTradingDay(date);
+        return next.atTime(openTime(next));
+    }
+
+    /**
+     * 다음 마감 시각 (장중이면 당일 마감)
+     */
+    public LocalDateTime nextClose(LocalDateTime time) {
+        LocalDate date = time.toLocalDate();
+        if (isTradingDay(date) && time.toLocalTime().isBefore(closeTime(date))) {
+            return date.atTime(closeTime(date));
+        }
+        LocalDate next = nextTradingDay(date);
+        return next.atTime(closeTime(next));
+    }
+
+    public LocalDate nextTradingDay(LocalDate date) {
+        LocalDate next = date.plusDays(1);
+        for (int i = 0; i < MAX_SEARCH_DAYS && !isTradingDay(next); i++) {
+            next = next.plusDays(1);
+        }
+        return next;
+    }
+
+    public LocalDate previousTradingDay(LocalDate date) {
+        LocalDate previous = date.minusDays(1);
+        for (int i = 0; i < MAX_SEARCH_DAYS && !isTradingDay(previous); i++) {
+            previous = previous.minusDays(1);
+        }
+        return previous;
+    }
+
+    /**
+     * 마감까지 끝난 마지막 거래일 (장 마감 후 settle 만큼 지나야 당일 포함)
+     */
+    public LocalDate lastClosedTradingDay(LocalDateTime time, Duration settle) {
+        LocalDate date = time.toLocalDate();
+        if (isTradingDay(date) && !time.isBefore(date.atTime(closeTime(date)).plus(settle))) {
+            return date;
+        }
+        return previousTradingDay(date);
+    }
+
+    private void load(Resource holidayFile) {
+        if (holidayFile == null || !holidayFile.exists()) {
+            log.warn("[MARKET-CALENDAR] 휴장일 파일 없음, 주말만 휴장으로 처리: {}", holidayFile);
+            return;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(holidayFile.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                parseLine(line);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("휴장일 파일 로드 실패: " + holidayFile, e);
+        }
+        log.info("[MARKET-CALENDAR] 휴장일 {}건, 개장 시간 변경일 {}건 로드", holidays.size(), specialSessions.size());
+    }
+
+    private void parseLine(String line) {
+        int comment = line.indexOf('#');
+        String content = (comment >= 0 ? line.substring(0, comment) : line).trim();
+        if (content.isEmpty()) {
+            return;
+        }
+        String[] parts = content.split("\\s+");
+        LocalDate date = LocalDate.parse(parts[0]);
+        if (parts.length == 1) {
+            holidays.add(date);
+            return;
+        }
+        String[] times = parts[1].split("-");
+        specialSessions.put(date, new LocalTime[] {LocalTime.parse(times[0]), LocalTime.parse(times[1])});
+    }
+}
@@ -0,0 +1,19 @@
+package com.youthfi.finance.global.service;
+
+/**
+ * 호출 한도 판정 결과
+ * @param acquired    허가 획득 여부
+ * @param waitMillis  미획득 시 다음 허가까지 기다려야 하는 시간(ms)
+ */
+public record RateLimitDecision(boolean acquired, long waitMillis) {
+
+    private static final RateLimitDecision GRANTED = new RateLimitDecision(true, 0L);
+
+    public static RateLimitDecision granted() {
+        return GRANTED;
+    }
+
+    public static RateLimitDecision waitFor(long waitMillis) {
+        return new RateLimitDecision(false, Math.max(1L, waitMillis));
+    }
+}
@@ -0,0 +1,70 @@
+package com.youthfi.finance.global.service;
+
+import com.youthfi.finance.global.config.RedisConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 레플리카 간 짧은 작업 임대 (Redis SET NX PX)
+ * - 같은 작업을 여러 노드가 동시에 수행하지 않도록 하나의 노드만 임대를 획득
+ * - 임대는 TTL로 자동 만료되므로 노드 장애 시에도 잠기지 않음
+ * - Redis 장애 시에는 항상 획득한 것으로 처리 (fail-open)
+ */
+@Slf4j
+@Component
+public class RedisLeaseService {
+
+    /**
+     * 본인이 획득한 임대만 해제 (KEYS[1]=임대 키, ARGV[1]=토큰)
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private static final String FAIL_OPEN_TOKEN = "local";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public RedisLeaseService(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 임대 획득 시도
+     * @return 획득 시 해제용 토큰, 다른 노드가 보유 중이면 null
+     */
+    public String tryAcquire(String name, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(RedisConstants.buildLeaseKey(name), token, ttl);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (Exception e) {
+            log.warn("임대 획득 실패, 로컬에서 진행: name={}, error={}", name, e.getMessage());
+            return FAIL_OPEN_TOKEN;
+        }
+    }
+
+    /**
+     * 임대 해제
+     */
+    public void release(String name, String token) {
+        if (token == null || FAIL_OPEN_TOKEN.equals(token)) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(RedisConstants.buildLeaseKey(name)), token);
+        } catch (Exception e) {
+            log.warn("임대 해제 실패 (TTL 만료로 해제됨): name={}, error={}", name, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.youthfi.finance.global.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 초당 허용 건수 기반 토큰 버킷
+ * - 용량(capacity)만큼 순간 버스트 허용, 이후 초당 permitsPerSecond 속도로 충전
+ */
+class TokenBucket {
+
+    private final long capacity;
+    private final double refillPerNanos;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(int permitsPerSecond) {
+        this(permitsPerSecond, System::nanoTime);
+    }
+
+    TokenBucket(int permitsPerSecond, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        this.capacity = permitsPerSecond;
+        this.refillPerNanos = permitsPerSecond / (double) TimeUnit.SECONDS.toNanos(1);
+        this.nanoClock = nanoClock;
+        this.tokens = permitsPerSecond;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * 토큰 1개 획득 시도
+     * @return 0이면 획득 성공, 양수이면 다음 토큰까지 남은 대기시간(ns)
+     */
+    synchronized long tryAcquire() {
+        refill();
+        if (tokens >= 1.0) {
+            tokens -= 1.0;
+            return 0L;
+        }
+        return (long) Math.ceil((1.0 - tokens) / refillPerNanos);
+    }
+
+    /**
+     * 획득한 토큰 반환 (상위 한도 검사에서 거절된 경우)
+     */
+    synchronized void release() {
+        tokens = Math.min(capacity, tokens + 1.0);
+    }
+
+    synchronized double availableTokens() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * refillPerNanos);
+            lastRefillNanos = now;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.youthfi.finance.domain.stock.application.batch;
+
+import com.youthfi.finance.domain.stock.application.dto.response.CandleDataResponse;
+import com.youthfi.finance.domain.stock.application.dto.response.ChartDataResponse;
+import com.youthfi.finance.domain.stock.infra.KisChartApiClient;
+import com.youthfi.finance.domain.stock.infra.KisDailyChartPager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DailyCandleBackfillReader 단위 테스트")
+class DailyCandleBackfillReaderTest {
+
+    private static final int SEGMENT_DAYS = KisDailyChartPager.WINDOW_DAYS * DailyCandleBackfillReader.SEGMENT_WINDOWS;
+    private static final LocalDate FROM = LocalDate.of(2020, 1, 1);
+    // 구간 2개 + 10일
+    private static final LocalDate TO = FROM.plusDays(SEGMENT_DAYS * 2L + 9);
+
+    @Mock
+    private KisChartApiClient kisChartApiClient;
+
+    @Test
+    @DisplayName("구간 단위로 읽고 마지막 구간은 to에서 끝남")
+    void read_Segments() {
+        // given
+        givenEmptyCharts();
+        DailyCandleBackfillReader reader = new DailyCandleBackfillReader(kisChartApiClient, "005930", FROM, TO);
+        reader.open(new ExecutionContext());
+
+        // when
+        int segments = 0;
+        while (reader.read() != null) {
+            segments++;
+        }
+
+        // then
+        assertThat(segments).isEqualTo(3);
+        verify(kisChartApiClient).getDailyChart("005930", FROM, FROM.plusDays(SEGMENT_DAYS - 1L));
+        verify(kisChartApiClient).getDailyChart("005930", FROM.plusDays(SEGMENT_DAYS), FROM.plusDays(SEGMENT_DAYS * 2L - 1));
+        verify(kisChartApiClient).getDailyChart("005930", FROM.plusDays(SEGMENT_DAYS * 2L), TO);
+    }
+
+    @Test
+    @DisplayName("저장된 ExecutionContext로 다시 열면 마지막 커밋 구간 다음부터 재개")
+    void open_ResumesFromSavedCursor() {
+        // given: 첫 구간을 읽고 커밋한 뒤 중단
+        givenEmptyCharts();
+        ExecutionContext executionContext = new ExecutionContext();
+        DailyCandleBackfillReader first = new DailyCandleBackfillReader(kisChartApiClient, "005930", FROM, TO);
+        first.open(executionContext);
+        first.read();
+        first.update(executionContext);
+        clearInvocations(kisChartApiClient);
+
+        // when
+        DailyCandleBackfillReader restarted = new DailyCandleBackfillReader(kisChartApiClient, "005930", FROM, TO);
+        restarted.open(new ExecutionContext(executionContext.toMap()));
+        restarted.read();
+
+        // then
+        assertThat(executionContext.getString(DailyCandleBackfillReader.CURSOR_KEY))
+                .isEqualTo(FROM.plusDays(SEGMENT_DAYS).toString());
+        verify(kisChartApiClient).getDailyChart("005930", FROM.plusDays(SEGMENT_DAYS), FROM.plusDays(SEGMENT_DAYS * 2L - 1));
+        verify(kisChartApiClient, never()).getDailyChart(any(), eq(FROM), any());
+    }
+
+    @Test
+    @DisplayName("모든 구간을 커밋한 뒤 다시 열면 읽을 구간 없음")
+    void open_CompletedCursor() {
+        // given
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.putString(DailyCandleBackfillReader.CURSOR_KEY, TO.plusDays(1).toString());
+        DailyCandleBackfillReader reader = new DailyCandleBackfillReader(kisChartApiClient, "005930", FROM, TO);
+
+        // when
+        reader.open(executionContext);
+
+        // then
+        assertThat(reader.read()).isNull();
+        verifyNoInteractions(kisChartApiClient);
+    }
+
+    private void givenEmptyCharts() {
+        when(kisChartApiClient.getDailyChart(eq("005930"), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(new ChartDataResponse("005930", "1d", "", List.<CandleDataResponse>of(), "2025-10-02T10:00:00"));
+    }
+}
@@ -0,0 +1,114 @@
+package com.youthfi.finance.domain.stock.application.batch;
+
+import com.youthfi.finance.domain.stock.application.dto.response.CandleDataResponse;
+import com.youthfi.finance.domain.stock.application.dto.response.ChartDataResponse;
+import com.youthfi.finance.domain.stock.domain.entity.Stock;
+import com.youthfi.finance.domain.stock.domain.entity.StockCandle;
+import com.youthfi.finance.domain.stock.domain.service.StockCandleService;
+import com.youthfi.finance.domain.stock.infra.KisChartApiClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DailyCandleItemProcessor 단위 테스트")
+class DailyCandleItemProcessorTest {
+
+    private static final LocalDate TARGET_DATE = LocalDate.of(2025, 1, 10);
+
+    @Mock
+    private StockCandleService stockCandleService;
+
+    @Mock
+    private KisChartApiClient kisChartApiClient;
+
+    private DailyCandleItemProcessor processor;
+    private final Stock stock = Stock.builder().stockId("005930").stockName("삼성전자").build();
+
+    @BeforeEach
+    void setUp() {
+        processor = new DailyCandleItemProcessor(stockCandleService, kisChartApiClient, TARGET_DATE);
+    }
+
+    @Test
+    @DisplayName("저장 이력이 없으면 최초 적재 범위 조회")
+    void process_InitialLoad() {
+        // given
+        ChartDataResponse chart = chart(CandleDataResponse.of(20250110, 100, 110, 90, 105, 1000));
+        StockCandle candle = StockCandle.builder().stockId("005930").tradeDate(TARGET_DATE).build();
+        when(stockCandleService.findLatestDailyDate("005930")).thenReturn(Optional.empty());
+        when(kisChartApiClient.getDailyChart("005930", TARGET_DATE.minusDays(DailyCandleItemProcessor.INITIAL_DAYS), TARGET_DATE))
+                .thenReturn(chart);
+        when(stockCandleService.filterNewDailyCandles("005930", chart.candles(), TARGET_DATE)).thenReturn(List.of(candle));
+
+        // when
+        List<StockCandle> result = processor.process(stock);
+
+        // then
+        assertThat(result).containsExactly(candle);
+    }
+
+    @Test
+    @DisplayName("마지막 저장일 이후 구간만 조회")
+    void process_Incremental() {
+        // given
+        ChartDataResponse chart = chart();
+        when(stockCandleService.findLatestDailyDate("005930")).thenReturn(Optional.of(LocalDate.of(2025, 1, 7)));
+        when(kisChartApiClient.getDailyChart("005930", LocalDate.of(2025, 1, 8), TARGET_DATE)).thenReturn(chart);
+        when(stockCandleService.filterNewDailyCandles("005930", chart.candles(), TARGET_DATE)).thenReturn(List.of());
+
+        // when
+        List<StockCandle> result = processor.process(stock);
+
+        // then: 새 봉이 없으면 쓰기 대상에서 제외
+        assertThat(result).isNull();
+        verify(kisChartApiClient).getDailyChart("005930", LocalDate.of(2025, 1, 8), TARGET_DATE);
+    }
+
+    @Test
+    @DisplayName("장기 미실행 후에는 마지막 저장일 이후 전체 구간을 기간 조회 (1회 조회 한도로 잘리지 않음)")
+    void process_LongGap() {
+        // given
+        ChartDataResponse chart = chart(CandleDataResponse.of(20250110, 100, 110, 90, 105, 1000));
+        when(stockCandleService.findLatestDailyDate("005930")).thenReturn(Optional.of(LocalDate.of(2024, 3, 29)));
+        when(kisChartApiClient.getDailyChart("005930", LocalDate.of(2024, 3, 30), TARGET_DATE)).thenReturn(chart);
+        when(stockCandleService.filterNewDailyCandles("005930", chart.candles(), TARGET_DATE)).thenReturn(List.of());
+
+        // when
+        processor.process(stock);
+
+        // then
+        verify(kisChartApiClient, never()).getDailyChart(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("이미 최신이면 KIS 조회 없음")
+    void process_UpToDate() {
+        // given
+        when(stockCandleService.findLatestDailyDate("005930")).thenReturn(Optional.of(TARGET_DATE));
+
+        // when
+        List<StockCandle> result = processor.process(stock);
+
+        // then
+        assertThat(result).isNull();
+        verify(kisChartApiClient, never()).getDailyChart(anyString(), any(LocalDate.class), any(LocalDate.class));
+    }
+
+    private ChartDataResponse chart(CandleDataResponse... candles) {
+        return new ChartDataResponse("005930", "1d", "3d", List.of(candles), "2025-01-10T16:10:00");
+    }
+}
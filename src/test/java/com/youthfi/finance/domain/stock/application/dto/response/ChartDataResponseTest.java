@@ -0,0 +1,71 @@
+package com.youthfi.finance.domain.stock.application.dto.response;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChartDataResponse 단위 테스트")
+class ChartDataResponseTest {
+
+    @Test
+    @DisplayName("slice는 양 끝 날짜를 포함하고 순서와 stale 표시를 유지")
+    void slice() {
+        // given
+        ChartDataResponse chart = new ChartDataResponse("005930", "1d", "60d",
+                List.of(daily("2025-10-02"), daily("2025-10-01"), daily("2025-09-30"), daily("2025-09-29")),
+                "2025-10-02T10:00:00").asStale();
+
+        // when
+        ChartDataResponse sliced = chart.slice("2025-09-30", "2025-10-01", "2025-09-30~2025-10-01");
+
+        // then
+        assertThat(sliced.candles()).extracting(CandleDataResponse::date).containsExactly("2025-10-01", "2025-09-30");
+        assertThat(sliced.range()).isEqualTo("2025-09-30~2025-10-01");
+        assertThat(sliced.lastUpdated()).isEqualTo("2025-10-02T10:00:00");
+        assertThat(sliced.stale()).isTrue();
+    }
+
+    @Test
+    @DisplayName("since는 기준 캔들부터 반환, 날짜를 지정하면 날짜부터 비교")
+    void since() {
+        // given
+        ChartDataResponse chart = new ChartDataResponse("005930", "1min", "today",
+                List.of(minute("2025-10-01", "15:29"), minute("2025-10-02", "09:00"), minute("2025-10-02", "09:01")),
+                "2025-10-02T09:01:30");
+
+        // then
+        assertThat(chart.since(null, "09:01").candles()).extracting(CandleDataResponse::time).containsExactly("09:01");
+        assertThat(chart.since("2025-10-02", "09:00").candles()).extracting(CandleDataResponse::time)
+                .containsExactly("09:00", "09:01");
+        assertThat(chart.since("2025-10-01", "15:00")).isSameAs(chart);
+        assertThat(chart.since(null, "09:02").candles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("etag는 캔들이 같으면 갱신 시각이 달라도 동일, 캔들이 바뀌면 변경")
+    void etag() {
+        // given
+        List<CandleDataResponse> candles = List.of(daily("2025-10-02"), daily("2025-10-01"));
+        ChartDataResponse chart = new ChartDataResponse("005930", "1d", "60d", candles, "2025-10-02T10:00:00");
+        ChartDataResponse refreshed = new ChartDataResponse("005930", "1d", "60d", candles, "2025-10-02T10:05:00");
+        ChartDataResponse moved = new ChartDataResponse("005930", "1d", "60d",
+                List.of(new CandleDataResponse("2025-10-02", "", 100L, 112L, 90L, 111L, 2000L), daily("2025-10-01")),
+                "2025-10-02T10:05:00");
+
+        // then
+        assertThat(chart.etag()).startsWith("W/\"2-").isEqualTo(refreshed.etag());
+        assertThat(moved.etag()).isNotEqualTo(chart.etag());
+        assertThat(chart.latest(1).etag()).isNotEqualTo(chart.etag());
+    }
+
+    private static CandleDataResponse daily(String date) {
+        return new CandleDataResponse(date, "", 100L, 110L, 90L, 105L, 1000L);
+    }
+
+    private static CandleDataResponse minute(String date, String time) {
+        return new CandleDataResponse(date, time, 100L, 110L, 90L, 105L, 1000L);
+    }
+}
@@ -0,0 +1,122 @@
+package com.youthfi.finance.domain.stock.application.usecase;
+
+import com.youthfi.finance.domain.stock.application.dto.request.StockCurrentPriceBatchRequest;
+import com.youthfi.finance.domain.stock.application.dto.response.StockCurrentPriceItemResponse;
+import com.youthfi.finance.domain.stock.domain.repository.StockRepository;
+import com.youthfi.finance.domain.stock.domain.service.StockApiService;
+import com.youthfi.finance.global.exception.StockException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockApiUseCase 다종목 현재가 조회 테스트")
+class StockApiUseCaseTest {
+
+    @Mock
+    private StockApiService stockApiService;
+
+    @Mock
+    private StockRepository stockRepository;
+
+    private ThreadPoolTaskExecutor kisApiExecutor;
+    private StockApiUseCase stockApiUseCase;
+
+    @BeforeEach
+    void setUp() {
+        kisApiExecutor = new ThreadPoolTaskExecutor();
+        kisApiExecutor.setCorePoolSize(2);
+        kisApiExecutor.setMaxPoolSize(2);
+        kisApiExecutor.setThreadNamePrefix("kis-api-test-");
+        kisApiExecutor.initialize();
+        stockApiUseCase = new StockApiUseCase(stockApiService, stockRepository, kisApiExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        kisApiExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("캐시된 종목은 KIS 조회 없이 반환하고 나머지만 조회")
+    void getStockCurrentPrices_CachedServedImmediately() {
+        // given
+        when(stockApiService.getCachedStockCurrentPrice("J", "005930")).thenReturn(quote("71000"));
+        when(stockApiService.getStockCurrentPrice("J", "000660")).thenReturn(quote("185000"));
+
+        // when
+        List<StockCurrentPriceItemResponse> result = stockApiUseCase.getStockCurrentPrices(
+                new StockCurrentPriceBatchRequest("J", List.of("005930", "000660")));
+
+        // then
+        assertThat(result).extracting(StockCurrentPriceItemResponse::stockCode).containsExactly("005930", "000660");
+        assertThat(result).allSatisfy(item -> assertThat(item.success()).isTrue());
+        assertThat(result.get(0).price().stckPrpr()).isEqualByComparingTo(new BigDecimal("71000"));
+        assertThat(result.get(1).price().stckPrpr()).isEqualByComparingTo(new BigDecimal("185000"));
+        verify(stockApiService, never()).getStockCurrentPrice("J", "005930");
+    }
+
+    @Test
+    @DisplayName("종목별 실패는 해당 항목에만 기록하고 나머지는 정상 반환")
+    void getStockCurrentPrices_PartialFailure() {
+        // given
+        when(stockApiService.getStockCurrentPrice("J", "005930")).thenReturn(quote("71000"));
+        when(stockApiService.getStockCurrentPrice("J", "000660")).thenThrow(StockException.kisApiRateLimitExceeded());
+        when(stockApiService.getStockCurrentPrice("J", "035420")).thenThrow(new IllegalStateException("boom"));
+        when(stockApiService.getStockCurrentPrice("J", "035720")).thenReturn(Map.of("rt_cd", "1"));
+
+        // when
+        List<StockCurrentPriceItemResponse> result = stockApiUseCase.getStockCurrentPrices(
+                new StockCurrentPriceBatchRequest("J", List.of("005930", "000660", "035420", "035720")));
+
+        // then
+        assertThat(result).extracting(StockCurrentPriceItemResponse::stockCode)
+                .containsExactly("005930", "000660", "035420", "035720");
+        assertThat(result.get(0).success()).isTrue();
+        assertThat(result.get(1).success()).isFalse();
+        assertThat(result.get(1).price()).isNull();
+        assertThat(result.get(1).errorCode()).isEqualTo("STOCK10005");
+        assertThat(result.get(2).errorCode()).isEqualTo("STOCK10009");
+        assertThat(result.get(3).errorCode()).isEqualTo("STOCK10010");
+    }
+
+    @Test
+    @DisplayName("중복 종목코드는 한 번만 조회하고 처음 등장한 순서로 반환")
+    void getStockCurrentPrices_DeduplicatesCodes() {
+        // given
+        when(stockApiService.getStockCurrentPrice(eq("J"), anyString())).thenReturn(quote("71000"));
+
+        // when
+        List<StockCurrentPriceItemResponse> result = stockApiUseCase.getStockCurrentPrices(
+                new StockCurrentPriceBatchRequest("J", List.of("005930", "000660", "005930", "000660", "005930")));
+
+        // then
+        assertThat(result).extracting(StockCurrentPriceItemResponse::stockCode).containsExactly("005930", "000660");
+        verify(stockApiService, times(1)).getCachedStockCurrentPrice("J", "005930");
+        verify(stockApiService, times(1)).getStockCurrentPrice("J", "005930");
+        verify(stockApiService, times(1)).getStockCurrentPrice("J", "000660");
+    }
+
+    private static Map<String, Object> quote(String price) {
+        return Map.of("output", Map.of(
+                "stck_prpr", price,
+                "prdy_vrss", "500",
+                "prdy_ctrt", "0.71",
+                "stck_hgpr", price,
+                "stck_lwpr", price));
+    }
+}
@@ -0,0 +1,132 @@
+package com.youthfi.finance.domain.stock.domain.service;
+
+import com.youthfi.finance.domain.stock.application.dto.response.CandleDataResponse;
+import com.youthfi.finance.domain.stock.domain.service.CandleRollupService.RollupPeriod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CandleRollupService 단위 테스트")
+class CandleRollupServiceTest {
+
+    private static final String STOCK_CODE = "005930";
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+
+    @Mock
+    private StockCandleService stockCandleService;
+
+    private CandleRollupService candleRollupService;
+
+    @BeforeEach
+    void setUp() {
+        candleRollupService = new CandleRollupService(stockCandleService);
+    }
+
+    @Test
+    @DisplayName("일봉을 주봉으로 집계 (시가 첫 봉, 고저 극값, 종가 마지막 봉, 거래량 합계)")
+    void getRollup_Weekly() {
+        // given: 2025-01-02(목) ~ 2025-01-10(금)
+        List<CandleDataResponse> dailies = dailies(2, 3, 6, 7, 8, 9, 10);
+        stubStore(LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 10));
+        when(stockCandleService.getDailyCandles(STOCK_CODE, LocalDate.of(2024, 12, 30), LocalDate.of(2025, 1, 10)))
+                .thenReturn(dailies);
+
+        // when
+        List<CandleDataResponse> weekly = candleRollupService.getRollup(STOCK_CODE, RollupPeriod.WEEKLY, FROM);
+
+        // then: 최신순, 봉 날짜는 구간 마지막 영업일
+        assertThat(weekly).extracting(CandleDataResponse::date).containsExactly("2025-01-10", "2025-01-03");
+        CandleDataResponse thisWeek = weekly.get(0);
+        assertThat(thisWeek.open()).isEqualTo(600);
+        assertThat(thisWeek.high()).isEqualTo(1010);
+        assertThat(thisWeek.low()).isEqualTo(590);
+        assertThat(thisWeek.close()).isEqualTo(1005);
+        assertThat(thisWeek.volume()).isEqualTo(6 + 7 + 8 + 9 + 10);
+    }
+
+    @Test
+    @DisplayName("새 일봉이 들어오면 진행 중이던 구간부터만 다시 조회")
+    void getRollup_RecomputesOnlyPartialPeriod() {
+        // given
+        stubStore(LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 10));
+        when(stockCandleService.getDailyCandles(STOCK_CODE, LocalDate.of(2024, 12, 30), LocalDate.of(2025, 1, 10)))
+                .thenReturn(dailies(2, 3, 6, 7, 8, 9, 10));
+        candleRollupService.getRollup(STOCK_CODE, RollupPeriod.WEEKLY, FROM);
+
+        stubStore(LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 13));
+        when(stockCandleService.getDailyCandles(STOCK_CODE, LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 13)))
+                .thenReturn(dailies(6, 7, 8, 9, 10, 13));
+
+        // when
+        List<CandleDataResponse> weekly = candleRollupService.getRollup(STOCK_CODE, RollupPeriod.WEEKLY, FROM);
+
+        // then
+        assertThat(weekly).extracting(CandleDataResponse::date)
+                .containsExactly("2025-01-13", "2025-01-10", "2025-01-03");
+        assertThat(weekly.get(1).volume()).isEqualTo(6 + 7 + 8 + 9 + 10);
+        verify(stockCandleService, times(1))
+                .getDailyCandles(STOCK_CODE, LocalDate.of(2024, 12, 30), LocalDate.of(2025, 1, 10));
+    }
+
+    @Test
+    @DisplayName("저장소 이후 최근 일봉은 진행 중인 구간에 합산하되 보관 집계에는 남기지 않음")
+    void getRollup_FoldsRecentDaily() {
+        // given: 저장소는 2025-01-08(수)까지, 01-09(목)은 진행 중인 당일 봉
+        stubStore(LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 8));
+        when(stockCandleService.getDailyCandles(STOCK_CODE, LocalDate.of(2024, 12, 30), LocalDate.of(2025, 1, 8)))
+                .thenReturn(dailies(2, 3, 6, 7, 8));
+        List<CandleDataResponse> recent = dailies(7, 8, 9);
+
+        // when
+        List<CandleDataResponse> live = candleRollupService.getRollup(STOCK_CODE, RollupPeriod.WEEKLY, FROM, () -> recent);
+        List<CandleDataResponse> storedOnly = candleRollupService.getRollup(STOCK_CODE, RollupPeriod.WEEKLY, FROM);
+
+        // then
+        assertThat(live).extracting(CandleDataResponse::date).containsExactly("2025-01-09", "2025-01-03");
+        assertThat(live.get(0).close()).isEqualTo(905);
+        assertThat(live.get(0).high()).isEqualTo(910);
+        assertThat(live.get(0).volume()).isEqualTo(6 + 7 + 8 + 9);
+        assertThat(storedOnly.get(0).date()).isEqualTo("2025-01-08");
+        assertThat(storedOnly.get(0).volume()).isEqualTo(6 + 7 + 8);
+    }
+
+    @Test
+    @DisplayName("저장소가 범위를 덮지 못하면 null")
+    void getRollup_NotCovered() {
+        // given
+        stubStore(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 10));
+
+        // when & then
+        assertThat(candleRollupService.getRollup(STOCK_CODE, RollupPeriod.MONTHLY, FROM)).isNull();
+        verify(stockCandleService, never()).getDailyCandles(any(), any(), any());
+    }
+
+    private void stubStore(LocalDate earliest, LocalDate latest) {
+        when(stockCandleService.findEarliestDailyDate(STOCK_CODE)).thenReturn(Optional.of(earliest));
+        when(stockCandleService.findLatestDailyDate(STOCK_CODE)).thenReturn(Optional.of(latest));
+    }
+
+    /**
+     * 2025년 1월 일봉 (최신순), 시가=일*100, 고가=일*100+10, 저가=일*100-10, 종가=일*100+5, 거래량=일
+     */
+    private List<CandleDataResponse> dailies(int... days) {
+        List<CandleDataResponse> candles = new ArrayList<>();
+        for (int i = days.length - 1; i >= 0; i--) {
+            int day = days[i];
+            candles.add(CandleDataResponse.of(20250100 + day, day * 100L, day * 100L + 10, day * 100L - 10, day * 100L + 5, day));
+        }
+        return candles;
+    }
+}
@@ -0,0 +1,174 @@
+package com.youthfi.finance.domain.stock.domain.service;
+
+import com.youthfi.finance.domain.stock.domain.service.ChartCacheMetrics.Trigger;
+import com.youthfi.finance.domain.stock.domain.service.ChartTtlPolicy.ChartKind;
+import com.youthfi.finance.global.exception.StockException;
+import com.youthfi.finance.global.service.RedisLeaseService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChartCacheLoader 단위 테스트")
+class ChartCacheLoaderTest {
+
+    private static final String LOAD_KEY = "chart:1d:005930:60d";
+
+    @Mock
+    private RedisLeaseService redisLeaseService;
+    @Mock
+    private ChartCacheMetrics chartCacheMetrics;
+
+    private ThreadPoolTaskExecutor chartRefreshExecutor;
+    private ChartCacheLoader chartCacheLoader;
+
+    @BeforeEach
+    void setUp() {
+        chartRefreshExecutor = new ThreadPoolTaskExecutor();
+        chartRefreshExecutor.setCorePoolSize(1);
+        chartRefreshExecutor.setMaxPoolSize(1);
+        chartRefreshExecutor.setThreadNamePrefix("chart-refresh-test-");
+        chartRefreshExecutor.initialize();
+        chartCacheLoader = new ChartCacheLoader(redisLeaseService, chartCacheMetrics, chartRefreshExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        chartRefreshExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("백그라운드 갱신이 실패하면 캐시를 덮어쓰지 않고 임대를 반환, 다음 요청에서 다시 갱신")
+    void refreshInBackground_FailureKeepsPreviousValue() throws InterruptedException {
+        // given
+        when(redisLeaseService.tryAcquire(eq(LOAD_KEY), any())).thenReturn("lease");
+        AtomicInteger fetches = new AtomicInteger();
+        List<String> saved = new ArrayList<>();
+
+        // when
+        for (int attempt = 1; attempt <= 2; attempt++) {
+            chartCacheLoader.<String>refreshInBackground(LOAD_KEY, ChartKind.DAILY, () -> {
+                fetches.incrementAndGet();
+                throw StockException.kisApiConnectionFailed(new IllegalStateException("timeout"));
+            }, saved::add);
+            awaitCompletedRefreshes(attempt);
+        }
+
+        // then
+        assertThat(fetches).hasValue(2);
+        assertThat(saved).isEmpty();
+        verify(redisLeaseService, times(2)).release(LOAD_KEY, "lease");
+        verify(chartCacheMetrics, times(2)).load(ChartKind.DAILY, Trigger.REFRESH);
+    }
+
+    @Test
+    @DisplayName("같은 키의 백그라운드 갱신은 진행 중이면 다시 등록하지 않음")
+    void refreshInBackground_OncePerKey() throws InterruptedException {
+        // given
+        when(redisLeaseService.tryAcquire(eq(LOAD_KEY), any())).thenReturn("lease");
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger fetches = new AtomicInteger();
+        List<String> saved = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            chartCacheLoader.<String>refreshInBackground(LOAD_KEY, ChartKind.DAILY, () -> {
+                fetches.incrementAndGet();
+                await(release);
+                return "refreshed";
+            }, saved::add);
+        }
+        release.countDown();
+        awaitCompletedRefreshes(1);
+
+        // then
+        assertThat(fetches).hasValue(1);
+        assertThat(saved).containsExactly("refreshed");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 갱신 중(임대 실패)이면 백그라운드 갱신 생략")
+    void refreshInBackground_SkipsWhenOtherNodeRefreshing() throws InterruptedException {
+        // given
+        when(redisLeaseService.tryAcquire(eq(LOAD_KEY), any())).thenReturn(null);
+        AtomicInteger fetches = new AtomicInteger();
+
+        // when
+        chartCacheLoader.<String>refreshInBackground(LOAD_KEY, ChartKind.DAILY, () -> {
+            fetches.incrementAndGet();
+            return "refreshed";
+        }, data -> { });
+        awaitCompletedRefreshes(1);
+
+        // then
+        assertThat(fetches).hasValue(0);
+        verify(redisLeaseService, never()).release(any(), any());
+    }
+
+    @Test
+    @DisplayName("임대를 다른 노드가 잡고 있으면 그 노드가 채운 캐시를 반환")
+    void load_WaitsForOtherNodeFill() {
+        // given
+        when(redisLeaseService.tryAcquire(eq(LOAD_KEY), any())).thenReturn(null);
+        AtomicInteger polls = new AtomicInteger();
+
+        // when
+        String result = chartCacheLoader.load(LOAD_KEY, ChartKind.DAILY,
+                () -> polls.incrementAndGet() < 2 ? null : "filled-by-other",
+                () -> "fetched", data -> { });
+
+        // then
+        assertThat(result).isEqualTo("filled-by-other");
+        verifyNoInteractions(chartCacheMetrics);
+    }
+
+    @Test
+    @DisplayName("직접 조회가 실패하면 예외를 전달하고 임대는 반환")
+    void load_FailureReleasesLease() {
+        // given
+        when(redisLeaseService.tryAcquire(eq(LOAD_KEY), any())).thenReturn("lease");
+        List<String> saved = new ArrayList<>();
+
+        // when & then
+        assertThatThrownBy(() -> chartCacheLoader.<String>load(LOAD_KEY, ChartKind.DAILY, () -> null,
+                () -> {
+                    throw StockException.kisApiConnectionFailed(new IllegalStateException("timeout"));
+                }, saved::add))
+                .isInstanceOf(StockException.class);
+        assertThat(saved).isEmpty();
+        verify(redisLeaseService).release(LOAD_KEY, "lease");
+    }
+
+    private void awaitCompletedRefreshes(long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (chartRefreshExecutor.getThreadPoolExecutor().getCompletedTaskCount() < count) {
+            assertThat(System.nanoTime()).as("refresh %d not completed", count).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.youthfi.finance.domain.stock.domain.service;
+
+import com.youthfi.finance.domain.stock.application.dto.response.CandleDataResponse;
+import com.youthfi.finance.domain.stock.application.dto.response.ChartDataResponse;
+import com.youthfi.finance.domain.stock.application.dto.response.IndexChartDataResponse;
+import com.youthfi.finance.domain.stock.infra.CandleBinaryCodec;
+import com.youthfi.finance.global.config.RedisConstants;
+import com.youthfi.finance.global.service.MarketCalendar;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChartCacheService 분봉 캐시 테스트")
+class ChartCacheServiceTest {
+
+    private static final String STOCK_CODE = "005930";
+    private static final String BARS_KEY = RedisConstants.buildMinuteBarsKey(STOCK_CODE);
+    private static final String META_KEY = RedisConstants.buildMinuteMetaKey(STOCK_CODE);
+    private static final List<String> MINUTE_KEYS = List.of(BARS_KEY, META_KEY);
+
+    @Mock
+    private RedisTemplate<String, ChartDataResponse> redisChartDataTemplate;
+    @Mock
+    private RedisTemplate<String, byte[]> redisBytesTemplate;
+    @Mock
+    private RedisTemplate<String, IndexChartDataResponse> redisIndexChartDataTemplate;
+    @Mock
+    private ChartNearCache chartNearCache;
+    @Mock
+    private ChartPayloadCache chartPayloadCache;
+    @Mock
+    private ListOperations<String, byte[]> listOperations;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private ChartCacheService chartCacheService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(LocalDateTime.of(2025, 10, 2, 10, 0).atZone(MarketCalendar.KST).toInstant(), MarketCalendar.KST);
+        ChartTtlPolicy chartTtlPolicy = new ChartTtlPolicy(new MarketCalendar(new ByteArrayResource(new byte[0]), clock));
+        chartCacheService = new ChartCacheService(redisChartDataTemplate, redisBytesTemplate, redisIndexChartDataTemplate,
+                chartNearCache, chartPayloadCache, chartTtlPolicy);
+    }
+
+    @Test
+    @DisplayName("증분 추가는 호출자가 읽은 마지막 분을 기대값으로 넘기고, 캐시 마지막 분이 다르면 -1 반환")
+    void appendMinuteCandles_MismatchedExpectedLast() {
+        // given: 스크립트는 캐시 마지막 분이 기대값과 다르면 추가하지 않고 -1 반환
+        when(redisBytesTemplate.execute(anyScript(), eq(MINUTE_KEYS), any(Object[].class))).thenReturn(-1L);
+
+        // when
+        long size = chartCacheService.appendMinuteCandles(STOCK_CODE, "0958",
+                List.of(minute("10:00"), minute("10:01")), "2025-10-02T10:01:10");
+
+        // then
+        assertThat(size).isEqualTo(-1L);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisBytesTemplate).execute(anyScript(), eq(MINUTE_KEYS), args.capture());
+        Object[] argv = args.getValue();
+        assertThat(argv).hasSize(4 + 2);
+        assertThat(text(argv[0])).isEqualTo("0958");
+        assertThat(text(argv[1])).isEqualTo("1001");
+        assertThat(text(argv[2])).isEqualTo("2025-10-02T10:01:10");
+        assertThat(CandleBinaryCodec.decodeCandle((byte[]) argv[4]).time()).isEqualTo("10:00");
+    }
+
+    @Test
+    @DisplayName("증분 추가 성공 시 추가 후 전체 봉 수 반환, 응답이 없으면 -1")
+    void appendMinuteCandles_ReturnsListSize() {
+        // given
+        when(redisBytesTemplate.execute(anyScript(), eq(MINUTE_KEYS), any(Object[].class))).thenReturn(3L, (Long) null);
+
+        // when & then
+        assertThat(chartCacheService.appendMinuteCandles(STOCK_CODE, "0959", List.of(minute("10:00")), "2025-10-02T10:00:10"))
+                .isEqualTo(3L);
+        assertThat(chartCacheService.appendMinuteCandles(STOCK_CODE, "1000", List.of(minute("10:01")), "2025-10-02T10:01:10"))
+                .isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("추가할 봉이 없으면 Redis 호출 없이 -1")
+    void appendMinuteCandles_Empty() {
+        // when
+        long size = chartCacheService.appendMinuteCandles(STOCK_CODE, "0959", List.of(), "2025-10-02T10:00:10");
+
+        // then
+        assertThat(size).isEqualTo(-1L);
+        verifyNoInteractions(redisBytesTemplate);
+    }
+
+    @Test
+    @DisplayName("끝부분 조회는 리스트의 마지막 N개만 읽음")
+    void getMinuteChartTail_LastEntries() {
+        // given
+        when(redisBytesTemplate.opsForList()).thenReturn(listOperations);
+        when(listOperations.range(BARS_KEY, -2, -1))
+                .thenReturn(List.of(CandleBinaryCodec.encodeCandle(minute("10:00")), CandleBinaryCodec.encodeCandle(minute("10:01"))));
+        when(redisBytesTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.get(META_KEY, "updatedAt")).thenReturn("2025-10-02T10:01:10".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        ChartDataResponse tail = chartCacheService.getMinuteChartTail(STOCK_CODE, 2);
+
+        // then
+        assertThat(tail.candles()).extracting(CandleDataResponse::time).containsExactly("10:00", "10:01");
+        assertThat(tail.lastUpdated()).isEqualTo("2025-10-02T10:01:10");
+        verify(listOperations, never()).range(BARS_KEY, 0, -1);
+    }
+
+    @Test
+    @DisplayName("끝부분 개수가 0 이하면 전체 조회, 캐시가 없으면 null")
+    void getMinuteChartTail_NonPositiveCountReadsAll() {
+        // given
+        when(redisBytesTemplate.opsForList()).thenReturn(listOperations);
+        when(listOperations.range(BARS_KEY, 0, -1)).thenReturn(List.of());
+
+        // when & then
+        assertThat(chartCacheService.getMinuteChartTail(STOCK_CODE, 0)).isNull();
+        verify(listOperations).range(BARS_KEY, 0, -1);
+    }
+
+    private static RedisScript<Long> anyScript() {
+        return any();
+    }
+
+    private static String text(Object bytes) {
+        return new String((byte[]) bytes, StandardCharsets.UTF_8);
+    }
+
+    private static CandleDataResponse minute(String time) {
+        return new CandleDataResponse("2025-10-02", time, 100L, 110L, 90L, 105L, 1000L);
+    }
+}
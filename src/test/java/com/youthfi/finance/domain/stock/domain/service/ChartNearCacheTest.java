@@ -0,0 +1,117 @@
+package com.youthfi.finance.domain.stock.domain.service;
+
+import com.youthfi.finance.domain.stock.application.dto.response.CandleDataResponse;
+import com.youthfi.finance.domain.stock.application.dto.response.ChartDataResponse;
+import com.youthfi.finance.global.config.RedisConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChartNearCache 단위 테스트")
+class ChartNearCacheTest {
+
+    private static final String KEY = "chart:yearly:005930:10y";
+    private static final Duration TTL = Duration.ofDays(7);
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private ChartNearCache chartNearCache;
+
+    @BeforeEach
+    void setUp() {
+        chartNearCache = new ChartNearCache(redisTemplate, listenerContainer, meterRegistry, 1000);
+    }
+
+    @Test
+    @DisplayName("저장 시 로컬에 적재하고 무효화 메시지 발행")
+    void put_PublishesInvalidation() {
+        // when
+        chartNearCache.put(KEY, chart(3), TTL);
+
+        // then
+        assertThat(chartNearCache.get(KEY)).isNotNull();
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(RedisConstants.CHART_INVALIDATION_CHANNEL), message.capture());
+        assertThat(message.getValue()).endsWith(" " + KEY);
+    }
+
+    @Test
+    @DisplayName("자기 노드 메시지는 무시하고 다른 노드 메시지는 무효화")
+    void onMessage_IgnoresOwnNode() {
+        // given
+        chartNearCache.put(KEY, chart(3), TTL);
+        ArgumentCaptor<String> own = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(RedisConstants.CHART_INVALIDATION_CHANNEL), own.capture());
+
+        // when: 자기 노드 메시지
+        chartNearCache.onMessage(message(own.getValue()), null);
+
+        // then
+        assertThat(chartNearCache.get(KEY)).isNotNull();
+
+        // when: 다른 노드 메시지
+        chartNearCache.onMessage(message("other-node " + KEY), null);
+
+        // then
+        assertThat(chartNearCache.get(KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("Redis 조회 중 무효화가 있었으면 조회 결과를 적재하지 않음")
+    void putIfUnchanged_SkipsAfterInvalidation() {
+        // given
+        long snapshot = chartNearCache.snapshot();
+        chartNearCache.onMessage(message("other-node " + KEY), null);
+
+        // when
+        chartNearCache.putIfUnchanged(KEY, chart(3), TTL, snapshot);
+
+        // then
+        assertThat(chartNearCache.get(KEY)).isNull();
+
+        // when: 무효화 없이 조회한 경우
+        chartNearCache.putIfUnchanged(KEY, chart(3), TTL, chartNearCache.snapshot());
+
+        // then
+        assertThat(chartNearCache.get(KEY)).isNotNull();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(RedisConstants.CHART_INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ChartDataResponse chart(int size) {
+        List<CandleDataResponse> candles = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            candles.add(new CandleDataResponse("2025-01-0" + (i + 1), "", 100L, 110L, 90L, 105L, 10L));
+        }
+        return new ChartDataResponse("005930", "1y", "10y", candles, "2025-01-03T16:00:00");
+    }
+}
@@ -0,0 +1,79 @@
+package com.youthfi.finance.domain.stock.domain.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.youthfi.finance.domain.stock.application.dto.response.CandleDataResponse;
+import com.youthfi.finance.domain.stock.application.dto.response.ChartDataResponse;
+import com.youthfi.finance.domain.stock.domain.service.ChartPayloadCache.Payload;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChartPayloadCache 단위 테스트")
+class ChartPayloadCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final ChartPayloadCache chartPayloadCache = new ChartPayloadCache(objectMapper);
+
+    @Test
+    @DisplayName("BaseResponse 본문과 같은 내용의 gzip 본문 생성")
+    void get_BuildsEnvelopeAndGzip() throws IOException {
+        // when
+        Payload payload = chartPayloadCache.get(chart(List.of(candle("2025-01-02")), "2025-01-02T16:00:00"));
+
+        // then
+        JsonNode body = objectMapper.readTree(payload.json());
+        assertThat(body.get("code").asText()).isEqualTo("COMMON200");
+        assertThat(body.get("result").get("candles")).hasSize(1);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload.gzip()))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(payload.json());
+        }
+    }
+
+    @Test
+    @DisplayName("같은 캐시 값은 한 번만 직렬화하고 stale 응답은 별도 본문")
+    void get_ReusesPayload() throws IOException {
+        // given
+        ChartDataResponse chart = chart(List.of(candle("2025-01-02")), "2025-01-02T16:00:00");
+
+        // when
+        Payload first = chartPayloadCache.get(chart);
+        Payload second = chartPayloadCache.get(chart);
+        Payload stale = chartPayloadCache.get(chart.asStale());
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(stale).isNotSameAs(first);
+        assertThat(objectMapper.readTree(stale.json()).get("result").get("stale").asBoolean()).isTrue();
+        assertThat(chartPayloadCache.get(chart.asStale())).isSameAs(stale);
+    }
+
+    @Test
+    @DisplayName("같은 캔들 리스트라도 갱신 시각이 다르면 다시 직렬화")
+    void get_ReserializesOnNewVersion() {
+        // given
+        List<CandleDataResponse> candles = List.of(candle("2025-01-02"));
+        Payload old = chartPayloadCache.get(chart(candles, "2025-01-02T16:00:00"));
+
+        // when
+        Payload renewed = chartPayloadCache.get(chart(candles, "2025-01-03T16:00:00"));
+
+        // then
+        assertThat(renewed).isNotSameAs(old);
+    }
+
+    private CandleDataResponse candle(String date) {
+        return new CandleDataResponse(date, "", 100L, 110L, 90L, 105L, 10L);
+    }
+
+    private ChartDataResponse chart(List<CandleDataResponse> candles, String lastUpdated) {
+        return new ChartDataResponse("005930", "1d", "60d", candles, lastUpdated);
+    }
+}
@@ -0,0 +1,606 @@
+package com.youthfi.finance.domain.stock.domain.service;
+
+import com.youthfi.finance.domain.stock.application.dto.request.ChartBatchRequest;
+import com.youthfi.finance.domain.stock.application.dto.response.CandleDataResponse;
+import com.youthfi.finance.domain.stock.application.dto.response.ChartBatchItemResponse;
+import com.youthfi.finance.domain.stock.application.dto.response.ChartDataResponse;
+import com.youthfi.finance.domain.stock.domain.service.ChartTtlPolicy.ChartKind;
+import com.youthfi.finance.domain.stock.infra.KisChartApiClient;
+import com.youthfi.finance.global.exception.StockException;
+import com.youthfi.finance.global.exception.code.status.StockErrorStatus;
+import com.youthfi.finance.global.service.MarketCalendar;
+import com.youthfi.finance.global.service.RedisLeaseService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChartService 단위 테스트")
+class ChartServiceTest {
+
+    private static final String STOCK_CODE = "005930";
+    // 2025-10-02(목) 장중, 기본 일봉(60일) 시작일은 2025-08-03
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 2, 10, 0);
+    private static final String HOLIDAYS = """
+            2025-10-03
+            2025-10-06
+            2025-10-07
+            2025-10-08
+            2025-10-09
+            """;
+
+    @Mock
+    private ChartCacheService chartCacheService;
+    @Mock
+    private KisChartApiClient kisChartApiClient;
+    @Mock
+    private RedisLeaseService redisLeaseService;
+    @Mock
+    private MinuteBarAggregator minuteBarAggregator;
+    @Mock
+    private StockCandleService stockCandleService;
+    @Mock
+    private CandleRollupService candleRollupService;
+    @Mock
+    private ChartCacheMetrics chartCacheMetrics;
+    @Mock
+    private ChartCacheLoader chartCacheLoader;
+
+    private ThreadPoolTaskExecutor chartBatchExecutor;
+    private MarketCalendar marketCalendar;
+    private ChartService chartService;
+
+    @BeforeEach
+    void setUp() {
+        // 다종목 조회 풀은 일부러 작게 (종목 수가 풀 크기를 넘는 경우 확인)
+        chartBatchExecutor = executor(2, "chart-batch-test-");
+        Clock clock = Clock.fixed(NOW.atZone(MarketCalendar.KST).toInstant(), MarketCalendar.KST);
+        marketCalendar = new MarketCalendar(new ByteArrayResource(HOLIDAYS.getBytes(StandardCharsets.UTF_8)), clock);
+        chartService = new ChartService(chartCacheService, kisChartApiClient, redisLeaseService, minuteBarAggregator,
+                stockCandleService, candleRollupService, marketCalendar, chartCacheMetrics, chartCacheLoader, chartBatchExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        chartBatchExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("기본 일봉 범위 안의 구간은 캐시된 기본 일봉을 잘라서 반환")
+    void getDailyChart_SlicesCachedDefault() {
+        // given
+        givenCachedDefault("2025-10-02", "2025-09-15", "2025-09-01", "2025-08-20");
+
+        // when
+        ChartDataResponse result = chartService.getDailyChart(STOCK_CODE, 30);
+
+        // then
+        assertThat(dates(result)).containsExactly("2025-10-02", "2025-09-15");
+        assertThat(result.range()).isEqualTo("30d");
+        verifyNoInteractions(stockCandleService, kisChartApiClient);
+    }
+
+    @Test
+    @DisplayName("저장소가 구간 전체를 덮으면 저장소만 조회")
+    void getDailyChart_StoreOnly() {
+        // given
+        LocalDate from = LocalDate.of(2024, 1, 2);
+        LocalDate to = LocalDate.of(2024, 6, 28);
+        when(stockCandleService.findEarliestDailyDate(STOCK_CODE)).thenReturn(Optional.of(LocalDate.of(2023, 1, 2)));
+        when(stockCandleService.findLatestDailyDate(STOCK_CODE)).thenReturn(Optional.of(LocalDate.of(2025, 10, 1)));
+        when(stockCandleService.getDailyCandles(STOCK_CODE, from, to)).thenReturn(candles("2024-06-28", "2024-01-02"));
+
+        // when
+        ChartDataResponse result = chartService.getDailyChart(STOCK_CODE, from, to);
+
+        // then
+        assertThat(dates(result)).containsExactly("2024-06-28", "2024-01-02");
+        assertThat(result.range()).isEqualTo("2024-01-02~2024-06-28");
+        verifyNoInteractions(kisChartApiClient);
+        verify(chartCacheService, never()).getDailyChart(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("저장소 이후 최근 구간은 기본 일봉에서 병합 (최신순)")
+    void getDailyChart_StoreWithRecentMerge() {
+        // given
+        LocalDate from = LocalDate.of(2025, 6, 2);
+        LocalDate to = LocalDate.of(2025, 10, 2);
+        when(stockCandleService.findEarliestDailyDate(STOCK_CODE)).thenReturn(Optional.of(LocalDate.of(2025, 1, 2)));
+        when(stockCandleService.findLatestDailyDate(STOCK_CODE)).thenReturn(Optional.of(LocalDate.of(2025, 9, 30)));
+        when(stockCandleService.getDailyCandles(STOCK_CODE, from, to)).thenReturn(candles("2025-09-30", "2025-06-02"));
+        givenCachedDefault("2025-10-02", "2025-10-01", "2025-09-30");
+
+        // when
+        ChartDataResponse result = chartService.getDailyChart(STOCK_CODE, from, to);
+
+        // then
+        assertThat(dates(result)).containsExactly("2025-10-02", "2025-10-01", "2025-09-30", "2025-06-02");
+        assertThat(result.lastUpdated()).isEqualTo("2025-10-02T10:00:00");
+        verifyNoInteractions(kisChartApiClient);
+    }
+
+    @Test
+    @DisplayName("저장소가 최근까지 이어져 있으면 저장소 앞부분만 KIS 조회 후 저장")
+    void getDailyChart_ExtendsStore() {
+        // given
+        LocalDate from = LocalDate.of(2024, 1, 2);
+        LocalDate to = LocalDate.of(2025, 10, 2);
+        List<CandleDataResponse> fetched = candles("2024-12-30", "2024-01-02");
+        when(stockCandleService.findEarliestDailyDate(STOCK_CODE)).thenReturn(
+                Optional.of(LocalDate.of(2025, 1, 2)), Optional.of(LocalDate.of(2025, 1, 2)), Optional.of(from));
+        when(stockCandleService.findLatestDailyDate(STOCK_CODE)).thenReturn(Optional.of(LocalDate.of(2025, 10, 1)));
+        when(kisChartApiClient.getDailyChart(STOCK_CODE, from, LocalDate.of(2025, 1, 1)))
+                .thenReturn(new ChartDataResponse(STOCK_CODE, "1d", "", fetched, "2025-10-02T10:00:00"));
+        when(stockCandleService.getDailyCandles(STOCK_CODE, from, to))
+                .thenReturn(candles("2025-10-01", "2025-01-02", "2024-12-30", "2024-01-02"));
+        givenCachedDefault("2025-10-02", "2025-10-01");
+
+        // when
+        ChartDataResponse result = chartService.getDailyChart(STOCK_CODE, from, to);
+
+        // then
+        assertThat(dates(result)).containsExactly("2025-10-02", "2025-10-01", "2025-01-02", "2024-12-30", "2024-01-02");
+        verify(stockCandleService).saveDailyCandles(STOCK_CODE, fetched);
+        verify(stockCandleService, never()).markDailyHistoryStart(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("상장 전 구간은 KIS가 비워 반환하면 이력 시작일을 기록")
+    void getDailyChart_MarksHistoryStart() {
+        // given
+        LocalDate from = LocalDate.of(2024, 1, 2);
+        LocalDate to = LocalDate.of(2025, 10, 2);
+        LocalDate listed = LocalDate.of(2025, 1, 2);
+        when(stockCandleService.findEarliestDailyDate(STOCK_CODE)).thenReturn(Optional.of(listed));
+        when(stockCandleService.findLatestDailyDate(STOCK_CODE)).thenReturn(Optional.of(LocalDate.of(2025, 10, 1)));
+        when(kisChartApiClient.getDailyChart(STOCK_CODE, from, listed.minusDays(1)))
+                .thenReturn(new ChartDataResponse(STOCK_CODE, "1d", "", List.of(), "2025-10-02T10:00:00"));
+        when(stockCandleService.getDailyCandles(STOCK_CODE, from, to)).thenReturn(candles("2025-10-01", "2025-01-02"));
+        givenCachedDefault("2025-10-02", "2025-10-01");
+
+        // when
+        ChartDataResponse result = chartService.getDailyChart(STOCK_CODE, from, to);
+
+        // then
+        assertThat(dates(result)).containsExactly("2025-10-02", "2025-10-01", "2025-01-02");
+        verify(stockCandleService).markDailyHistoryStart(STOCK_CODE, listed);
+    }
+
+    @Test
+    @DisplayName("이력 시작일이 기록된 종목은 상장 전 구간을 KIS에 다시 조회하지 않음")
+    void getDailyChart_HistoryStartCoversStore() {
+        // given
+        LocalDate from = LocalDate.of(2024, 1, 2);
+        LocalDate to = LocalDate.of(2025, 10, 2);
+        LocalDate listed = LocalDate.of(2025, 1, 2);
+        when(stockCandleService.findEarliestDailyDate(STOCK_CODE)).thenReturn(Optional.of(listed));
+        when(stockCandleService.findDailyHistoryStart(STOCK_CODE)).thenReturn(Optional.of(listed));
+        when(stockCandleService.findLatestDailyDate(STOCK_CODE)).thenReturn(Optional.of(LocalDate.of(2025, 10, 1)));
+        when(stockCandleService.getDailyCandles(STOCK_CODE, from, to)).thenReturn(candles("2025-10-01", "2025-01-02"));
+        givenCachedDefault("2025-10-02", "2025-10-01");
+
+        // when
+        ChartDataResponse result = chartService.getDailyChart(STOCK_CODE, from, to);
+
+        // then
+        assertThat(dates(result)).containsExactly("2025-10-02", "2025-10-01", "2025-01-02");
+        verifyNoInteractions(kisChartApiClient);
+    }
+
+    @Test
+    @DisplayName("확정 일봉 저장이 실패해도 KIS 조회 결과는 반환")
+    void getDailyChart_StoreWriteFailureKeepsResponse() {
+        // given
+        LocalDate from = LocalDate.of(2024, 1, 2);
+        LocalDate to = LocalDate.of(2025, 10, 2);
+        List<CandleDataResponse> fetched = candles("2025-10-01", "2024-01-02");
+        when(kisChartApiClient.getDailyChart(STOCK_CODE, from, to))
+                .thenReturn(new ChartDataResponse(STOCK_CODE, "1d", "", fetched, "2025-10-02T10:00:00"));
+        when(stockCandleService.saveDailyCandles(STOCK_CODE, fetched))
+                .thenThrow(new DataIntegrityViolationException("uk_stock_candles_stock_period_date"));
+
+        // when
+        ChartDataResponse result = chartService.getDailyChart(STOCK_CODE, from, to);
+
+        // then
+        assertThat(dates(result)).containsExactly("2025-10-01", "2024-01-02");
+    }
+
+    @Test
+    @DisplayName("조회 한도보다 이전 시작일은 거절")
+    void getDailyChart_RejectsTooOldFrom() {
+        // given
+        LocalDate from = LocalDate.of(2025, 10, 2).minusDays(ChartService.MAX_DAILY_DAYS + 1L);
+
+        // then
+        assertThatThrownBy(() -> chartService.getDailyChart(STOCK_CODE, from, null))
+                .isInstanceOf(StockException.class);
+        assertThatThrownBy(() -> chartService.getDailyChart(STOCK_CODE, ChartService.MAX_DAILY_DAYS + 1))
+                .isInstanceOf(StockException.class);
+        verifyNoInteractions(stockCandleService, kisChartApiClient);
+    }
+
+    @Test
+    @DisplayName("갱신 주기와 보관 기간 사이의 캐시는 stale로 바로 반환하고 백그라운드 갱신, 주기 안이면 그대로 반환")
+    void getChartData_StaleBetweenSoftAndHardExpiry() {
+        // given: 장중 일봉 갱신 주기 5분, 보관 기간 6시간
+        ChartTtlPolicy ttlPolicy = new ChartTtlPolicy(marketCalendar);
+        when(chartCacheService.isSoftExpired(any())).thenAnswer(invocation ->
+                ttlPolicy.isSoftExpired(ChartKind.DAILY, invocation.<ChartDataResponse>getArgument(0).lastUpdated()));
+        when(chartCacheService.getDailyChart("005930", "60d")).thenReturn(
+                new ChartDataResponse("005930", "1d", "60d", candles("2025-10-02"), "2025-10-02T09:50:00"));
+        when(chartCacheService.getDailyChart("000660", "60d")).thenReturn(
+                new ChartDataResponse("000660", "1d", "60d", candles("2025-10-02"), "2025-10-02T09:58:00"));
+
+        // when
+        ChartDataResponse stale = chartService.getDailyChart("005930");
+        ChartDataResponse fresh = chartService.getDailyChart("000660");
+
+        // then
+        assertThat(stale.stale()).isTrue();
+        assertThat(stale.lastUpdated()).isEqualTo("2025-10-02T09:50:00");
+        assertThat(fresh.stale()).isFalse();
+        verify(chartCacheLoader).refreshInBackground(eq("chart:1d:005930:60d"), eq(ChartKind.DAILY), any(), any());
+        verify(chartCacheLoader, never()).refreshInBackground(eq("chart:1d:000660:60d"), any(), any(), any());
+        verify(chartCacheLoader, never()).load(anyString(), any(), any(), any(), any());
+        verifyNoInteractions(kisChartApiClient);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지나 캐시가 없으면 KIS 조회 후 저장")
+    void getChartData_LoadsAfterHardExpiry() {
+        // given
+        givenLoaderFetches();
+        when(kisChartApiClient.getDailyChart(STOCK_CODE, 60)).thenReturn(daily(STOCK_CODE, "2025-10-02", "2025-10-01"));
+
+        // when
+        ChartDataResponse result = chartService.getDailyChart(STOCK_CODE);
+
+        // then
+        assertThat(dates(result)).containsExactly("2025-10-02", "2025-10-01");
+        assertThat(result.stale()).isFalse();
+        verify(chartCacheService).saveDailyChart(eq(STOCK_CODE), eq("60d"), any());
+    }
+
+    @Test
+    @DisplayName("갱신 주기가 지난 캐시는 KIS 갱신이 실패해도 이전 값을 stale로 계속 반환")
+    void getChartData_RefreshFailureKeepsServingStale() {
+        // given
+        ThreadPoolTaskExecutor refreshExecutor = executor(1, "chart-refresh-test-");
+        ChartCacheLoader loader = new ChartCacheLoader(redisLeaseService, chartCacheMetrics, refreshExecutor);
+        ChartService service = new ChartService(chartCacheService, kisChartApiClient, redisLeaseService, minuteBarAggregator,
+                stockCandleService, candleRollupService, marketCalendar, chartCacheMetrics, loader, chartBatchExecutor);
+        ChartDataResponse cached = daily(STOCK_CODE, "2025-10-01", "2025-09-30");
+        when(chartCacheService.getDailyChart(STOCK_CODE, "60d")).thenReturn(cached);
+        when(chartCacheService.isSoftExpired(cached)).thenReturn(true);
+        when(redisLeaseService.tryAcquire(eq("chart:1d:005930:60d"), any())).thenReturn("lease");
+        when(kisChartApiClient.getDailyChart(STOCK_CODE, 60))
+                .thenThrow(StockException.kisApiConnectionFailed(new IllegalStateException("timeout")));
+
+        try {
+            // when
+            ChartDataResponse first = service.getDailyChart(STOCK_CODE);
+            verify(redisLeaseService, timeout(1000)).release("chart:1d:005930:60d", "lease");
+            ChartDataResponse second = service.getDailyChart(STOCK_CODE);
+
+            // then
+            assertThat(List.of(first, second)).allSatisfy(result -> {
+                assertThat(result.stale()).isTrue();
+                assertThat(dates(result)).containsExactly("2025-10-01", "2025-09-30");
+            });
+            verify(chartCacheService, never()).saveDailyChart(anyString(), anyString(), any());
+        } finally {
+            refreshExecutor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("KIS 장애 시 저장된 확정 일봉을 stale로 반환 (마지막 저장일 마감 시각 기준)")
+    void getChartData_KisFailureServesStoredAsStale() {
+        // given: 저장소는 2025-09-30까지, 기본 일봉 범위 시작은 2025-08-03
+        givenLoaderFetches();
+        when(stockCandleService.findLatestDailyDate(STOCK_CODE)).thenReturn(Optional.of(LocalDate.of(2025, 9, 30)));
+        when(stockCandleService.findEarliestDailyDate(STOCK_CODE)).thenReturn(Optional.of(LocalDate.of(2025, 1, 2)));
+        when(stockCandleService.getDailyCandles(STOCK_CODE, LocalDate.of(2025, 8, 3), LocalDate.of(2025, 10, 2)))
+                .thenReturn(candles("2025-09-30", "2025-09-29"));
+        when(kisChartApiClient.getDailyChart(STOCK_CODE, LocalDate.of(2025, 10, 1), LocalDate.of(2025, 10, 2)))
+                .thenThrow(StockException.kisApiConnectionFailed(new IllegalStateException("timeout")));
+
+        // when
+        ChartDataResponse result = chartService.getDailyChart(STOCK_CODE);
+
+        // then
+        assertThat(result.stale()).isTrue();
+        assertThat(dates(result)).containsExactly("2025-09-30", "2025-09-29");
+        assertThat(result.lastUpdated()).isEqualTo("2025-09-30T15:30:00");
+        verify(stockCandleService, never()).saveDailyCandles(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("분봉 증분 조회가 실패하면 보유 스냅샷을 stale로 반환")
+    void getMinuteChart_IncrementFailureServesStale() {
+        // given
+        when(chartCacheService.getMinuteChart(STOCK_CODE)).thenReturn(new ChartDataResponse(STOCK_CODE, "1min", "today",
+                List.of(minute("09:58"), minute("09:59")), "2025-10-02T09:59:30"));
+        when(redisLeaseService.tryAcquire(eq("chart:1min:005930:today"), any())).thenReturn("lease");
+        when(kisChartApiClient.getMinuteChartSince(STOCK_CODE, "0959"))
+                .thenThrow(StockException.kisApiConnectionFailed(new IllegalStateException("timeout")));
+
+        // when
+        ChartDataResponse result = chartService.getMinuteChart(STOCK_CODE);
+
+        // then
+        assertThat(result.stale()).isTrue();
+        assertThat(result.candles()).extracting(CandleDataResponse::time).containsExactly("09:58", "09:59");
+        verify(chartCacheService, never()).appendMinuteCandles(anyString(), anyString(), any(), any());
+        verify(redisLeaseService).release("chart:1min:005930:today", "lease");
+    }
+
+    @Test
+    @DisplayName("분봉 증분 추가 시 캐시 마지막 분이 읽은 값과 다르면(-1) 병합본으로 전체 교체")
+    void getMinuteChart_AppendMismatchReplacesSnapshot() {
+        // given
+        givenMinuteIncrement();
+        when(chartCacheService.appendMinuteCandles(eq(STOCK_CODE), eq("0959"), any(), eq("2025-10-02T10:00:10")))
+                .thenReturn(-1L);
+
+        // when
+        ChartDataResponse result = chartService.getMinuteChart(STOCK_CODE);
+
+        // then
+        assertThat(result.candles()).extracting(CandleDataResponse::time).containsExactly("09:58", "09:59", "10:00");
+        verify(chartCacheService).saveMinuteChart(STOCK_CODE, result);
+        verify(redisLeaseService).release("chart:1min:005930:today", "lease");
+    }
+
+    @Test
+    @DisplayName("분봉 증분 추가 후 봉 수가 병합본과 같으면 전체 교체하지 않음")
+    void getMinuteChart_AppendKeepsList() {
+        // given
+        givenMinuteIncrement();
+        when(chartCacheService.appendMinuteCandles(eq(STOCK_CODE), eq("0959"), any(), eq("2025-10-02T10:00:10")))
+                .thenReturn(3L);
+
+        // when
+        ChartDataResponse result = chartService.getMinuteChart(STOCK_CODE);
+
+        // then
+        assertThat(result.candles()).extracting(CandleDataResponse::time).containsExactly("09:58", "09:59", "10:00");
+        verify(chartCacheService, never()).saveMinuteChart(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("분봉 끝부분: 캐시 리스트 끝부분이 있으면 그대로 반환")
+    void getMinuteChartTail_FromCache() {
+        // given
+        ChartDataResponse tail = new ChartDataResponse(STOCK_CODE, "1min", "today",
+                List.of(minute("09:58"), minute("09:59")), "2025-10-02T09:59:30");
+        when(chartCacheService.getMinuteChartTail(STOCK_CODE, 2)).thenReturn(tail);
+
+        // when
+        ChartDataResponse result = chartService.getMinuteChartTail(STOCK_CODE, 2);
+
+        // then
+        assertThat(result).isSameAs(tail);
+        verify(chartCacheService, never()).getMinuteChart(anyString());
+    }
+
+    @Test
+    @DisplayName("분봉 끝부분: 캐시 리스트가 없으면 전체 분봉을 조회해 마지막 N개로 자름")
+    void getMinuteChartTail_FallsBackToFullChart() {
+        // given: 다른 노드가 증분 갱신 중이라 보유 스냅샷 그대로 사용
+        when(chartCacheService.getMinuteChart(STOCK_CODE)).thenReturn(new ChartDataResponse(STOCK_CODE, "1min", "today",
+                List.of(minute("09:56"), minute("09:57"), minute("09:58"), minute("09:59")), "2025-10-02T09:59:30"));
+
+        // when
+        ChartDataResponse result = chartService.getMinuteChartTail(STOCK_CODE, 2);
+
+        // then
+        assertThat(result.candles()).extracting(CandleDataResponse::time).containsExactly("09:58", "09:59");
+        assertThat(result.lastUpdated()).isEqualTo("2025-10-02T09:59:30");
+        verify(chartCacheService).getMinuteChartTail(STOCK_CODE, 2);
+    }
+
+    @Test
+    @DisplayName("분봉 끝부분: 실시간 집계 중이면 캐시 대신 집계 결과를 마지막 N개로 자름")
+    void getMinuteChartTail_FromAggregator() {
+        // given
+        when(minuteBarAggregator.isComplete(STOCK_CODE)).thenReturn(true);
+        when(minuteBarAggregator.getMinuteChart(STOCK_CODE, 1)).thenReturn(new ChartDataResponse(STOCK_CODE, "1min", "today",
+                List.of(minute("09:57"), minute("09:58"), minute("09:59")), "2025-10-02T09:59:50"));
+
+        // when
+        ChartDataResponse result = chartService.getMinuteChartTail(STOCK_CODE, 2);
+
+        // then
+        assertThat(result.candles()).extracting(CandleDataResponse::time).containsExactly("09:58", "09:59");
+        verify(chartCacheService, never()).getMinuteChartTail(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("분봉 커서 이후 캔들만 반환 (커서 캔들 포함)")
+    void getMinuteChartSince() {
+        // given
+        when(minuteBarAggregator.isComplete(STOCK_CODE)).thenReturn(true);
+        when(minuteBarAggregator.getMinuteChart(STOCK_CODE, 1)).thenReturn(new ChartDataResponse(STOCK_CODE, "1min", "today",
+                List.of(minute("09:00"), minute("09:01"), minute("09:02"), minute("09:03")), "2025-10-02T09:03:10"));
+
+        // when
+        ChartDataResponse byTime = chartService.getMinuteChartSince(STOCK_CODE, 1, "09:02");
+        ChartDataResponse byDateTime = chartService.getMinuteChartSince(STOCK_CODE, 1, "2025-10-02T09:03");
+
+        // then
+        assertThat(byTime.candles()).extracting(CandleDataResponse::time).containsExactly("09:02", "09:03");
+        assertThat(byDateTime.candles()).extracting(CandleDataResponse::time).containsExactly("09:03");
+        assertThatThrownBy(() -> chartService.getMinuteChartSince(STOCK_CODE, 1, "9시"))
+                .isInstanceOf(StockException.class);
+    }
+
+    @Test
+    @DisplayName("다종목 조회: 캐시 적중 종목은 KIS 조회 없이, 미적중 종목만 조회 (중복 제거, last 적용)")
+    void getCharts_HitAndMiss() {
+        // given
+        when(chartCacheService.getCharts("1d", "60d", List.of("005930", "000660")))
+                .thenReturn(Map.of("005930", daily("005930", "2025-10-02", "2025-10-01")));
+        givenLoaderFetches();
+        when(kisChartApiClient.getDailyChart("000660", 60)).thenReturn(daily("000660", "2025-10-02", "2025-10-01", "2025-09-30"));
+
+        // when
+        List<ChartBatchItemResponse> result = chartService.getCharts(
+                new ChartBatchRequest(List.of("005930", "000660", "005930"), "1d", 1));
+
+        // then
+        assertThat(result).extracting(ChartBatchItemResponse::stockCode).containsExactly("005930", "000660");
+        assertThat(result).allSatisfy(item -> {
+            assertThat(item.success()).isTrue();
+            assertThat(dates(item.chart())).containsExactly("2025-10-02");
+        });
+        verify(kisChartApiClient, never()).getDailyChart(eq("005930"), anyInt());
+        verify(chartCacheService).saveDailyChart(eq("000660"), eq("60d"), any());
+    }
+
+    @Test
+    @DisplayName("다종목 조회: 갱신 주기가 지난 캐시는 stale로 바로 반환하고 백그라운드 갱신")
+    void getCharts_StaleRefresh() {
+        // given
+        ChartDataResponse cached = daily("005930", "2025-10-01");
+        when(chartCacheService.getCharts("1d", "60d", List.of("005930"))).thenReturn(Map.of("005930", cached));
+        when(chartCacheService.isSoftExpired(cached)).thenReturn(true);
+
+        // when
+        List<ChartBatchItemResponse> result = chartService.getCharts(new ChartBatchRequest(List.of("005930"), "1d", null));
+
+        // then
+        assertThat(result.get(0).chart().stale()).isTrue();
+        verify(chartCacheLoader).refreshInBackground(eq("chart:1d:005930:60d"), eq(ChartKind.DAILY), any(), any());
+        verifyNoInteractions(kisChartApiClient);
+    }
+
+    @Test
+    @DisplayName("다종목 조회: 종목별 실패는 해당 항목에만 기록")
+    void getCharts_PerItemFailure() {
+        // given
+        when(chartCacheService.getCharts("1d", "60d", List.of("005930", "000660"))).thenReturn(Map.of());
+        givenLoaderFetches();
+        when(kisChartApiClient.getDailyChart("005930", 60)).thenReturn(daily("005930", "2025-10-02"));
+        when(kisChartApiClient.getDailyChart("000660", 60))
+                .thenThrow(StockException.kisApiResponseError(new IllegalStateException("EGW00201")));
+
+        // when
+        List<ChartBatchItemResponse> result = chartService.getCharts(
+                new ChartBatchRequest(List.of("005930", "000660"), "1d", null));
+
+        // then
+        assertThat(result.get(0).success()).isTrue();
+        assertThat(result.get(1).success()).isFalse();
+        assertThat(result.get(1).chart()).isNull();
+        assertThat(result.get(1).errorCode()).isEqualTo(StockErrorStatus.KIS_API_RESPONSE_ERROR.getCode().getCode());
+    }
+
+    @Test
+    @DisplayName("다종목 조회: 풀 크기보다 많은 미적중 종목이 각자 KIS 풀 작업을 기다려도 교착 없이 완료")
+    void getCharts_MoreMissesThanPool() {
+        // given
+        List<String> stockCodes = IntStream.range(0, 8).mapToObj(i -> String.format("%06d", i)).toList();
+        when(chartCacheService.getCharts(eq("1d"), eq("60d"), anyList())).thenReturn(Map.of());
+        givenLoaderFetches();
+        // 일봉 윈도우 조회처럼 KIS 호출 풀에 작업을 넣고 기다림
+        ThreadPoolTaskExecutor kisApiExecutor = executor(2, "kis-api-test-");
+        when(kisChartApiClient.getDailyChart(anyString(), eq(60))).thenAnswer(invocation -> CompletableFuture
+                .supplyAsync(() -> daily(invocation.getArgument(0), "2025-10-02"), kisApiExecutor)
+                .join());
+
+        try {
+            // when
+            List<ChartBatchItemResponse> result = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                    () -> chartService.getCharts(new ChartBatchRequest(stockCodes, "1d", null)));
+
+            // then
+            assertThat(result).hasSize(8).allSatisfy(item -> assertThat(item.success()).isTrue());
+        } finally {
+            kisApiExecutor.shutdown();
+        }
+    }
+
+    /**
+     * 캐시 적재기는 임대 없이 바로 조회 후 저장
+     */
+    @SuppressWarnings("unchecked")
+    private void givenLoaderFetches() {
+        when(chartCacheLoader.load(anyString(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            Object data = invocation.<Supplier<Object>>getArgument(3).get();
+            invocation.<Consumer<Object>>getArgument(4).accept(data);
+            return data;
+        });
+    }
+
+    /**
+     * 캐시 분봉 09:58~09:59, KIS 증분은 10:00 한 개
+     */
+    private void givenMinuteIncrement() {
+        when(chartCacheService.getMinuteChart(STOCK_CODE)).thenReturn(new ChartDataResponse(STOCK_CODE, "1min", "today",
+                List.of(minute("09:58"), minute("09:59")), "2025-10-02T09:59:30"));
+        when(redisLeaseService.tryAcquire(eq("chart:1min:005930:today"), any())).thenReturn("lease");
+        when(kisChartApiClient.getMinuteChartSince(STOCK_CODE, "0959")).thenReturn(new ChartDataResponse(STOCK_CODE, "1min", "today",
+                List.of(minute("10:00")), "2025-10-02T10:00:10"));
+    }
+
+    private static ThreadPoolTaskExecutor executor(int threads, String prefix) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix(prefix);
+        executor.initialize();
+        return executor;
+    }
+
+    private static ChartDataResponse daily(String stockCode, String... dates) {
+        return new ChartDataResponse(stockCode, "1d", "60d", candles(dates), "2025-10-02T10:00:00");
+    }
+
+    private void givenCachedDefault(String... dates) {
+        when(chartCacheService.getDailyChart(STOCK_CODE, "60d"))
+                .thenReturn(new ChartDataResponse(STOCK_CODE, "1d", "60d", candles(dates), "2025-10-02T10:00:00"));
+    }
+
+    private static List<CandleDataResponse> candles(String... dates) {
+        return Arrays.stream(dates)
+                .map(date -> new CandleDataResponse(date, "", 100L, 110L, 90L, 105L, 1000L))
+                .toList();
+    }
+
+    private static CandleDataResponse minute(String time) {
+        return new CandleDataResponse("2025-10-02", time, 100L, 110L, 90L, 105L, 1000L);
+    }
+
+    private static List<String> dates(ChartDataResponse data) {
+        return data.candles().stream().map(CandleDataResponse::date).toList();
+    }
+}
@@ -0,0 +1,72 @@
+package com.youthfi.finance.domain.stock.domain.service;
+
+import com.youthfi.finance.domain.stock.domain.service.ChartTtlPolicy.ChartKind;
+import com.youthfi.finance.global.service.MarketCalendar;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChartTtlPolicy 단위 테스트")
+class ChartTtlPolicyTest {
+
+    private static final String HOLIDAYS = """
+            2025-10-03
+            2025-10-06
+            2025-10-07
+            2025-10-08
+            2025-10-09
+            """;
+
+    @Test
+    @DisplayName("장중 저장분은 주기별 장중 갱신 주기 후 만료")
+    void softExpiresAt_DuringSession() {
+        // given
+        ChartTtlPolicy policy = policyAt(LocalDateTime.of(2025, 10, 2, 10, 0));
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 10, 2, 10, 0);
+
+        // then
+        assertThat(policy.softExpiresAt(ChartKind.DAILY, updatedAt)).isEqualTo(updatedAt.plusMinutes(5));
+        assertThat(policy.softExpiresAt(ChartKind.YEARLY, updatedAt)).isEqualTo(updatedAt.plusHours(1));
+        // 마감 직후 저장분도 종가 확정 전이므로 장중 주기 적용
+        assertThat(policy.softExpiresAt(ChartKind.DAILY, LocalDateTime.of(2025, 10, 2, 15, 35)))
+                .isEqualTo(LocalDateTime.of(2025, 10, 2, 15, 40));
+    }
+
+    @Test
+    @DisplayName("장 외 저장분은 연휴가 끝난 다음 개장까지 유지")
+    void softExpiresAt_AfterClose() {
+        // given
+        ChartTtlPolicy policy = policyAt(LocalDateTime.of(2025, 10, 4, 12, 0));
+
+        // then
+        assertThat(policy.softExpiresAt(ChartKind.DAILY, LocalDateTime.of(2025, 10, 2, 16, 0)))
+                .isEqualTo(LocalDateTime.of(2025, 10, 10, 9, 0));
+        assertThat(policy.isSoftExpired(ChartKind.DAILY, "2025-10-02T16:00:00")).isFalse();
+        assertThat(policy.isSoftExpired(ChartKind.DAILY, "2025-10-02T14:00:00")).isTrue();
+        assertThat(policy.isSoftExpired(ChartKind.MINUTE, "2025-10-02T14:00:00")).isFalse();
+    }
+
+    @Test
+    @DisplayName("보관 기간은 장중 기본값, 장 외 다음 개장 + 기본값")
+    void hardTtl() {
+        assertThat(policyAt(LocalDateTime.of(2025, 10, 2, 10, 0)).hardTtl(ChartKind.DAILY))
+                .isEqualTo(Duration.ofHours(6));
+        assertThat(policyAt(LocalDateTime.of(2025, 10, 2, 16, 0)).hardTtl(ChartKind.DAILY))
+                .isEqualTo(Duration.between(LocalDateTime.of(2025, 10, 2, 16, 0), LocalDateTime.of(2025, 10, 10, 9, 0))
+                        .plusHours(6));
+        assertThat(policyAt(LocalDateTime.of(2025, 10, 2, 10, 0)).hardTtl(ChartKind.MINUTE))
+                .isEqualTo(Duration.between(LocalDateTime.of(2025, 10, 2, 10, 0), LocalDateTime.of(2025, 10, 10, 9, 0)));
+    }
+
+    private ChartTtlPolicy policyAt(LocalDateTime now) {
+        Clock clock = Clock.fixed(now.atZone(MarketCalendar.KST).toInstant(), MarketCalendar.KST);
+        return new ChartTtlPolicy(new MarketCalendar(new ByteArrayResource(HOLIDAYS.getBytes(StandardCharsets.UTF_8)), clock));
+    }
+}
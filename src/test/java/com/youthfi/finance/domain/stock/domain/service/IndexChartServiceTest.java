@@ -0,0 +1,178 @@
+package com.youthfi.finance.domain.stock.domain.service;
+
+import com.youthfi.finance.domain.stock.application.dto.response.IndexCandleDataResponse;
+import com.youthfi.finance.domain.stock.application.dto.response.IndexChartDataResponse;
+import com.youthfi.finance.domain.stock.domain.service.ChartCacheMetrics.Result;
+import com.youthfi.finance.domain.stock.domain.service.ChartTtlPolicy.ChartKind;
+import com.youthfi.finance.domain.stock.infra.KisIndexChartApiClient;
+import com.youthfi.finance.global.exception.StockException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IndexChartService 단위 테스트")
+class IndexChartServiceTest {
+
+    @Mock
+    private KisIndexChartApiClient kisIndexChartApiClient;
+    @Mock
+    private ChartCacheService chartCacheService;
+    @Mock
+    private ChartCacheMetrics chartCacheMetrics;
+    @Mock
+    private ChartCacheLoader chartCacheLoader;
+
+    private IndexChartService indexChartService;
+
+    @BeforeEach
+    void setUp() {
+        indexChartService = new IndexChartService(kisIndexChartApiClient, chartCacheService, chartCacheMetrics, chartCacheLoader);
+    }
+
+    @Test
+    @DisplayName("갱신 주기 안의 캐시는 KIS 조회 없이 그대로 반환")
+    void getDailyIndexChart_CacheHit() {
+        // given
+        IndexChartDataResponse cached = index("0001", "D", "2025-10-02", "2025-10-01");
+        when(chartCacheService.getIndexChart("0001", "D")).thenReturn(cached);
+
+        // when
+        IndexChartDataResponse result = indexChartService.getDailyIndexChart("0001");
+
+        // then
+        assertThat(result).isSameAs(cached);
+        verify(chartCacheMetrics).request(ChartKind.INDEX_DAILY, Result.HIT);
+        verifyNoInteractions(kisIndexChartApiClient, chartCacheLoader);
+    }
+
+    @Test
+    @DisplayName("갱신 주기가 지난 캐시는 stale로 바로 반환하고 백그라운드 갱신, 갱신 결과가 비었으면 캐시 유지")
+    @SuppressWarnings("unchecked")
+    void getWeeklyIndexChart_StaleRefresh() {
+        // given
+        IndexChartDataResponse cached = index("1001", "W", "2025-09-29");
+        when(chartCacheService.getIndexChart("1001", "W")).thenReturn(cached);
+        when(chartCacheService.isIndexSoftExpired(cached)).thenReturn(true);
+        when(kisIndexChartApiClient.getWeeklyIndexChart("1001"))
+                .thenReturn(index("1001", "W"), index("1001", "W", "2025-09-29", "2025-09-22"));
+
+        // when
+        IndexChartDataResponse result = indexChartService.getWeeklyIndexChart("1001");
+
+        // then
+        assertThat(result.stale()).isTrue();
+        assertThat(result.candles()).isEqualTo(cached.candles());
+        verify(chartCacheMetrics).request(ChartKind.INDEX_WEEKLY, Result.STALE);
+        ArgumentCaptor<Supplier<IndexChartDataResponse>> fetcher = ArgumentCaptor.forClass(Supplier.class);
+        ArgumentCaptor<Consumer<IndexChartDataResponse>> saver = ArgumentCaptor.forClass(Consumer.class);
+        verify(chartCacheLoader).refreshInBackground(eq("chart:index:1001:W"), eq(ChartKind.INDEX_WEEKLY),
+                fetcher.capture(), saver.capture());
+
+        // 백그라운드 갱신: KIS 오류로 빈 응답이면 저장하지 않고, 정상 응답만 저장
+        saver.getValue().accept(fetcher.getValue().get());
+        verify(chartCacheService, never()).saveIndexChart(anyString(), anyString(), any());
+        IndexChartDataResponse refreshed = fetcher.getValue().get();
+        saver.getValue().accept(refreshed);
+        verify(chartCacheService).saveIndexChart("1001", "W", refreshed);
+    }
+
+    @Test
+    @DisplayName("캐시가 없으면 KIS 조회 후 저장")
+    void getMonthlyIndexChart_Miss() {
+        // given
+        givenLoaderFetches();
+        IndexChartDataResponse fetched = index("0001", "M", "2025-10-01", "2025-09-01");
+        when(kisIndexChartApiClient.getMonthlyIndexChart("0001")).thenReturn(fetched);
+
+        // when
+        IndexChartDataResponse result = indexChartService.getMonthlyIndexChart("0001");
+
+        // then
+        assertThat(result).isSameAs(fetched);
+        verify(chartCacheMetrics).request(ChartKind.INDEX_MONTHLY, Result.MISS);
+        verify(chartCacheLoader).load(eq("chart:index:0001:M"), eq(ChartKind.INDEX_MONTHLY), any(), any(), any());
+        verify(chartCacheService).saveIndexChart("0001", "M", fetched);
+    }
+
+    @Test
+    @DisplayName("KIS가 빈 응답을 반환하면 캐시하지 않음 (다음 요청에서 다시 조회)")
+    void getDailyIndexChart_EmptyResponseNotCached() {
+        // given
+        givenLoaderFetches();
+        when(kisIndexChartApiClient.getDailyIndexChart("0001")).thenReturn(index("0001", "D"));
+
+        // when
+        IndexChartDataResponse first = indexChartService.getDailyIndexChart("0001");
+        IndexChartDataResponse second = indexChartService.getDailyIndexChart("0001");
+
+        // then
+        assertThat(first.candles()).isEmpty();
+        assertThat(second.candles()).isEmpty();
+        verify(kisIndexChartApiClient, times(2)).getDailyIndexChart("0001");
+        verify(chartCacheService, never()).saveIndexChart(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("기동 시 코스피/코스닥 일/주/월봉 캐시를 준비, 일부 실패해도 나머지는 계속")
+    void warmUp_PrewarmsKospiAndKosdaq() {
+        // given
+        givenLoaderFetches();
+        for (String indexCode : List.of("0001", "1001")) {
+            when(kisIndexChartApiClient.getDailyIndexChart(indexCode)).thenReturn(index(indexCode, "D", "2025-10-02"));
+            when(kisIndexChartApiClient.getMonthlyIndexChart(indexCode)).thenReturn(index(indexCode, "M", "2025-10-01"));
+        }
+        when(kisIndexChartApiClient.getWeeklyIndexChart("0001")).thenReturn(index("0001", "W", "2025-09-29"));
+        when(kisIndexChartApiClient.getWeeklyIndexChart("1001"))
+                .thenThrow(StockException.kisApiConnectionFailed(new IllegalStateException("timeout")));
+
+        // when
+        indexChartService.warmUp();
+
+        // then
+        for (String indexCode : List.of("0001", "1001")) {
+            verify(chartCacheService).getIndexChart(indexCode, "D");
+            verify(chartCacheService).getIndexChart(indexCode, "W");
+            verify(chartCacheService).getIndexChart(indexCode, "M");
+            verify(chartCacheService).saveIndexChart(eq(indexCode), eq("D"), any());
+            verify(chartCacheService).saveIndexChart(eq(indexCode), eq("M"), any());
+        }
+        verify(chartCacheService).saveIndexChart(eq("0001"), eq("W"), any());
+        verify(chartCacheService, never()).saveIndexChart(eq("1001"), eq("W"), any());
+        verify(chartCacheLoader, times(6)).load(anyString(), any(), any(), any(), any());
+    }
+
+    /**
+     * 캐시 적재기는 임대 없이 바로 조회 후 저장
+     */
+    @SuppressWarnings("unchecked")
+    private void givenLoaderFetches() {
+        when(chartCacheLoader.load(anyString(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            Object data = invocation.<Supplier<Object>>getArgument(3).get();
+            invocation.<Consumer<Object>>getArgument(4).accept(data);
+            return data;
+        });
+    }
+
+    private static IndexChartDataResponse index(String indexCode, String period, String... dates) {
+        List<IndexCandleDataResponse> candles = Arrays.stream(dates)
+                .map(date -> IndexCandleDataResponse.of(date, "2500.00", "2510.00", "2490.00", "100000"))
+                .toList();
+        return new IndexChartDataResponse(indexCode, period, "30" + period.toLowerCase(), candles, "2025-10-02T10:00:00");
+    }
+}
@@ -0,0 +1,163 @@
+package com.youthfi.finance.domain.stock.domain.service;
+
+import com.youthfi.finance.domain.stock.application.dto.response.CandleDataResponse;
+import com.youthfi.finance.domain.stock.domain.event.StockTradeTickEvent;
+import com.youthfi.finance.domain.stock.infra.KisChartApiClient;
+import com.youthfi.finance.global.config.properties.KisApiProperties;
+import com.youthfi.finance.global.service.MarketCalendar;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("MinuteBarAggregator 단위 테스트")
+class MinuteBarAggregatorTest {
+
+    private static final int TODAY = 20250102;
+
+    private MinuteBarAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        // 2025-01-02(목) 10:00 장중
+        Clock clock = Clock.fixed(LocalDateTime.of(2025, 1, 2, 10, 0).atZone(MarketCalendar.KST).toInstant(), MarketCalendar.KST);
+        MarketCalendar marketCalendar = new MarketCalendar(new ByteArrayResource(new byte[0]), clock);
+        aggregator = new MinuteBarAggregator(new KisApiProperties(), mock(KisChartApiClient.class), marketCalendar);
+    }
+
+    @Test
+    @DisplayName("같은 분의 체결은 OHLCV로 합치고 다음 분 체결에서 마감")
+    void onTradeTick_FoldsIntoMinuteBar() {
+        // given
+        tick(90001, 100, 10);
+        tick(90015, 105, 5);
+        tick(90030, 98, 7);
+        tick(90059, 101, 3);
+        tick(90100, 102, 1);
+
+        // when
+        List<CandleDataResponse> candles = aggregator.getMinuteChart("005930", 1).candles();
+
+        // then
+        assertThat(candles).hasSize(2);
+        CandleDataResponse first = candles.get(0);
+        assertThat(first.time()).isEqualTo("09:00");
+        assertThat(first.open()).isEqualTo(100);
+        assertThat(first.high()).isEqualTo(105);
+        assertThat(first.low()).isEqualTo(98);
+        assertThat(first.close()).isEqualTo(101);
+        assertThat(first.volume()).isEqualTo(25);
+        assertThat(candles.get(1).time()).isEqualTo("09:01");
+    }
+
+    @Test
+    @DisplayName("5분/15분 롤업은 09:00 기준 구간으로 집계")
+    void onTradeTick_Rollups() {
+        // given: 09:00 ~ 09:16 매분 1건
+        for (int minute = 0; minute <= 16; minute++) {
+            tick(90000 + minute * 100, 100 + minute, 1);
+        }
+
+        // when
+        List<CandleDataResponse> fiveMinute = aggregator.getMinuteChart("005930", 5).candles();
+        List<CandleDataResponse> fifteenMinute = aggregator.getMinuteChart("005930", 15).candles();
+
+        // then
+        assertThat(fiveMinute).extracting(CandleDataResponse::time)
+                .containsExactly("09:00", "09:05", "09:10", "09:15");
+        assertThat(fiveMinute.get(0).close()).isEqualTo(104);
+        assertThat(fiveMinute.get(0).volume()).isEqualTo(5);
+        assertThat(fifteenMinute).hasSize(2);
+        assertThat(fifteenMinute.get(0).high()).isEqualTo(114);
+        assertThat(fifteenMinute.get(1).open()).isEqualTo(115);
+    }
+
+    @Test
+    @DisplayName("체결 없이 분 경계가 지나면 진행 중인 봉 마감, 이후 늦은 체결은 무시")
+    void closeElapsedBars_ClosesWithoutTicks() {
+        // given
+        tick(90010, 100, 1);
+
+        // when
+        aggregator.closeElapsedBars(TODAY, 9 * 60 + 1);
+        tick(90050, 200, 1);
+
+        // then
+        List<CandleDataResponse> candles = aggregator.getMinuteChart("005930", 1).candles();
+        assertThat(candles).hasSize(1);
+        assertThat(candles.get(0).high()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("REST 분봉 보강 시 실시간 집계 구간은 실시간 값 유지")
+    void backfill_KeepsLiveBars() {
+        // given: 09:02부터 실시간 수신
+        tick(90200, 300, 1);
+
+        // when
+        aggregator.backfill("005930", List.of(
+                CandleDataResponse.of(TODAY, 90000, 100, 110, 90, 105, 10),
+                CandleDataResponse.of(TODAY, 90100, 105, 120, 100, 115, 20),
+                CandleDataResponse.of(TODAY, 90200, 1, 1, 1, 1, 1)
+        ));
+
+        // then
+        List<CandleDataResponse> candles = aggregator.getMinuteChart("005930", 1).candles();
+        assertThat(candles).extracting(CandleDataResponse::time).containsExactly("09:00", "09:01", "09:02");
+        assertThat(candles.get(2).close()).isEqualTo(300);
+        CandleDataResponse fiveMinute = aggregator.getMinuteChart("005930", 5).candles().get(0);
+        assertThat(fiveMinute.open()).isEqualTo(100);
+        assertThat(fiveMinute.high()).isEqualTo(300);
+        assertThat(fiveMinute.volume()).isEqualTo(31);
+    }
+
+    @Test
+    @DisplayName("장 시작부터 수신한 당일 종목만 집계 완료로 판단, 전 영업일 집계는 제외")
+    void isComplete_OnlyForToday() {
+        // given
+        tick(90000, 100, 1);
+        tick(90500, 100, 1);
+        aggregator.onTradeTick(new StockTradeTickEvent("000660", 20241231, 90000, 100, 0, 0d,
+                0, 0, 0, 1, 0));
+
+        // then
+        assertThat(aggregator.isComplete("005930")).isTrue();
+        assertThat(aggregator.needsBackfill("005930")).isFalse();
+        assertThat(aggregator.isComplete("000660")).isFalse();
+        assertThat(aggregator.getMinuteChart("005930", 1).lastUpdated()).startsWith("2025-01-02T10:00");
+    }
+
+    @Test
+    @DisplayName("REST 1분봉 롤업")
+    void rollup_FromMinuteCandles() {
+        // given
+        List<CandleDataResponse> minuteCandles = List.of(
+                CandleDataResponse.of(TODAY, 90300, 100, 101, 99, 100, 1),
+                CandleDataResponse.of(TODAY, 90400, 100, 103, 98, 102, 2),
+                CandleDataResponse.of(TODAY, 90500, 102, 104, 101, 103, 3)
+        );
+
+        // when
+        List<CandleDataResponse> rolled = MinuteBarAggregator.rollup(minuteCandles, 5);
+
+        // then
+        assertThat(rolled).hasSize(2);
+        assertThat(rolled.get(0).time()).isEqualTo("09:00");
+        assertThat(rolled.get(0).high()).isEqualTo(103);
+        assertThat(rolled.get(0).low()).isEqualTo(98);
+        assertThat(rolled.get(0).volume()).isEqualTo(3);
+        assertThat(rolled.get(1).time()).isEqualTo("09:05");
+    }
+
+    private void tick(int time, long price, long volume) {
+        aggregator.onTradeTick(new StockTradeTickEvent("005930", TODAY, time, price, 0, 0d,
+                0, 0, 0, volume, 0));
+    }
+}
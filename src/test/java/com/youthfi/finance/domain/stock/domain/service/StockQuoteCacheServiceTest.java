@@ -0,0 +1,79 @@
+package com.youthfi.finance.domain.stock.domain.service;
+
+import com.youthfi.finance.domain.stock.infra.StockCurrentPriceApiClient;
+import com.youthfi.finance.global.config.properties.KisApiProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockQuoteCacheService 단위 테스트")
+class StockQuoteCacheServiceTest {
+
+    @Mock
+    private StockCurrentPriceApiClient stockCurrentPriceApiClient;
+
+    private StockQuoteCacheService stockQuoteCacheService;
+
+    @BeforeEach
+    void setUp() {
+        KisApiProperties properties = new KisApiProperties();
+        properties.getQuoteCache().setTtlMs(60_000);
+        stockQuoteCacheService = new StockQuoteCacheService(stockCurrentPriceApiClient, properties);
+    }
+
+    @Test
+    @DisplayName("유효시간 내 재조회는 캐시 반환")
+    void getQuote_CacheHit() {
+        // given
+        Map<String, Object> body = Map.of("rt_cd", "0", "output", Map.of("stck_prpr", "70000"));
+        when(stockCurrentPriceApiClient.getStockCurrentPrice("J", "005930")).thenReturn(body);
+
+        // when
+        Map<String, Object> first = stockQuoteCacheService.getQuote("J", "005930");
+        Map<String, Object> second = stockQuoteCacheService.getQuote("J", "005930");
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(stockCurrentPriceApiClient, times(1)).getStockCurrentPrice("J", "005930");
+    }
+
+    @Test
+    @DisplayName("허용 경과시간을 0으로 지정하면 새로 조회")
+    void getQuote_ZeroMaxAgeRefetches() {
+        // given
+        Map<String, Object> body = Map.of("rt_cd", "0", "output", Map.of("stck_prpr", "70000"));
+        when(stockCurrentPriceApiClient.getStockCurrentPrice("J", "005930")).thenReturn(body);
+
+        // when
+        stockQuoteCacheService.getQuote("J", "005930");
+        stockQuoteCacheService.getQuote("J", "005930", Duration.ZERO);
+
+        // then
+        verify(stockCurrentPriceApiClient, times(2)).getStockCurrentPrice("J", "005930");
+    }
+
+    @Test
+    @DisplayName("output이 없는 응답은 캐시하지 않음")
+    void getQuote_DoesNotCacheErrorResponse() {
+        // given
+        Map<String, Object> error = Map.of("rt_cd", "1", "msg1", "error");
+        when(stockCurrentPriceApiClient.getStockCurrentPrice("J", "005930")).thenReturn(error);
+
+        // when
+        stockQuoteCacheService.getQuote("J", "005930");
+        stockQuoteCacheService.getQuote("J", "005930");
+
+        // then
+        verify(stockCurrentPriceApiClient, times(2)).getStockCurrentPrice("J", "005930");
+    }
+}
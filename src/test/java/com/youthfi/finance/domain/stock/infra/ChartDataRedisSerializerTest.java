@@ -0,0 +1,99 @@
+package com.youthfi.finance.domain.stock.infra;
+
+import com.youthfi.finance.domain.stock.application.dto.response.CandleDataResponse;
+import com.youthfi.finance.domain.stock.application.dto.response.ChartDataResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChartDataRedisSerializer 단위 테스트")
+class ChartDataRedisSerializerTest {
+
+    private final ChartDataRedisSerializer serializer = new ChartDataRedisSerializer();
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+
+    @Test
+    @DisplayName("분봉 차트 왕복 (Deflate 적용)")
+    void roundTrip_MinuteChart() {
+        // given
+        List<CandleDataResponse> candles = new ArrayList<>();
+        long close = 71_000;
+        for (int minute = 0; minute < 120; minute++) {
+            int hhmmss = (9 + minute / 60) * 10000 + (minute % 60) * 100;
+            candles.add(CandleDataResponse.of(20250102, hhmmss, close - 50, close + 100, close - 120, close, 1_000 + minute));
+            close += (minute % 7) * 10 - 30;
+        }
+        ChartDataResponse chart = new ChartDataResponse("005930", "1min", "today", candles, "2025-01-02T11:00:00");
+
+        // when
+        byte[] bytes = serializer.serialize(chart);
+        ChartDataResponse restored = serializer.deserialize(bytes);
+
+        // then
+        assertThat(ChartDataRedisSerializer.isBinary(bytes)).isTrue();
+        assertThat(bytes[3] & ChartDataRedisSerializer.FLAG_DEFLATE).isNotZero();
+        assertThat(bytes.length).isLessThan(jsonSerializer.serialize(chart).length / 5);
+        assertThat(restored).isEqualTo(chart);
+    }
+
+    @Test
+    @DisplayName("시간 없는 봉/음수 가격 변동 왕복 (작은 값은 압축하지 않음)")
+    void roundTrip_DailyChart() {
+        // given
+        ChartDataResponse chart = new ChartDataResponse("005930", "1d", "60d", List.of(
+                CandleDataResponse.of(20250103, 71_000, 72_000, 70_500, 71_500, 12_345_678),
+                CandleDataResponse.of(20250102, 73_000, 73_500, 70_000, 70_100, 23_456_789)
+        ), null);
+
+        // when
+        byte[] bytes = serializer.serialize(chart);
+
+        // then
+        assertThat(bytes[3] & ChartDataRedisSerializer.FLAG_DEFLATE).isZero();
+        assertThat(serializer.deserialize(bytes)).isEqualTo(chart);
+    }
+
+    @Test
+    @DisplayName("stale 표시 왕복 (압축 여부와 무관)")
+    void roundTrip_Stale() {
+        // given
+        ChartDataResponse chart = new ChartDataResponse("005930", "1d", "60d", List.of(
+                CandleDataResponse.of(20250103, 71_000, 72_000, 70_500, 71_500, 12_345_678)
+        ), "2025-01-03T15:30:00", true);
+
+        // when
+        byte[] bytes = serializer.serialize(chart);
+        byte[] uncompressed = new ChartDataRedisSerializer(false).serialize(chart.asStale());
+
+        // then
+        assertThat(bytes[3] & ChartDataRedisSerializer.FLAG_STALE).isNotZero();
+        assertThat(serializer.deserialize(bytes).stale()).isTrue();
+        assertThat(serializer.deserialize(bytes)).isEqualTo(chart);
+        assertThat(serializer.deserialize(uncompressed).stale()).isTrue();
+        assertThat(serializer.deserialize(serializer.serialize(
+                new ChartDataResponse("005930", "1d", "60d", chart.candles(), "2025-01-03T15:30:00"))).stale()).isFalse();
+    }
+
+    @Test
+    @DisplayName("인코딩할 수 없는 값은 JSON으로 저장, 기존 JSON 캐시도 조회")
+    void jsonFallback() {
+        // given
+        List<CandleDataResponse> candles = new ArrayList<>();
+        candles.add(new CandleDataResponse("2025-01-02", "", null, 1L, 1L, 1L, 1L));
+        ChartDataResponse withNull = new ChartDataResponse("005930", "1d", "60d", candles, "2025-01-02T11:00:00");
+        ChartDataResponse legacy = new ChartDataResponse("000660", "1m", "5y", new ArrayList<>(), "2025-01-02T11:00:00");
+
+        // when
+        byte[] fallbackBytes = serializer.serialize(withNull);
+
+        // then
+        assertThat(ChartDataRedisSerializer.isBinary(fallbackBytes)).isFalse();
+        assertThat(serializer.deserialize(fallbackBytes)).isEqualTo(withNull);
+        assertThat(serializer.deserialize(jsonSerializer.serialize(legacy))).isEqualTo(legacy);
+    }
+}
@@ -0,0 +1,87 @@
+package com.youthfi.finance.domain.stock.infra;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KisChartResponseParser 단위 테스트")
+class KisChartResponseParserTest {
+
+    private final KisChartResponseParser parser = new KisChartResponseParser();
+
+    @Test
+    @DisplayName("일봉 output2 행을 원시 타입 캔들로 변환")
+    void parse_DailyRows() throws Exception {
+        // given
+        String json = """
+                {"output1":{"hts_kor_isnm":"삼성전자","stck_prpr":"71000"},
+                 "output2":[
+                   {"stck_bsop_date":"20250102","stck_clpr":"71000","stck_oprc":"70000","stck_hgpr":"71500","stck_lwpr":"69500","acml_vol":"12345678","flng_cls_code":"00","mod_yn":"N"},
+                   {"stck_bsop_date":"20250101","stck_clpr":"","stck_prpr":"69000","stck_oprc":"","stck_hgpr":"70000","stck_lwpr":"68000","acml_vol":"abc"},
+                   {}
+                 ],
+                 "rt_cd":"0","msg_cd":"MCA00000","msg1":"정상처리 되었습니다."}
+                """;
+
+        // when
+        KisChartPage page = parser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(page.isSuccess()).isTrue();
+        assertThat(page.msgCd()).isEqualTo("MCA00000");
+        assertThat(page.rows()).containsExactly(
+                new KisCandleRow(20250102, 0, 70000, 71500, 69500, 71000, 0, 12345678),
+                new KisCandleRow(20250101, 0, 69000, 70000, 68000, 69000, 0, 0)
+        );
+    }
+
+    @Test
+    @DisplayName("분봉 행은 체결시각/체결 거래량을 함께 변환")
+    void parse_MinuteRows() throws Exception {
+        // given
+        String json = """
+                {"rt_cd":"0","output2":[{"stck_bsop_date":"20250102","stck_cntg_hour":"093000","stck_prpr":"70100","stck_oprc":"70000","stck_hgpr":"70200","stck_lwpr":"69900","cntg_vol":"1500","acml_vol":"250000"}]}
+                """;
+
+        // when
+        KisChartPage page = parser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        KisCandleRow row = page.rows().get(0);
+        assertThat(row.time()).isEqualTo(93000);
+        assertThat(row.minute()).isEqualTo(930);
+        assertThat(row.close()).isEqualTo(70100);
+        assertThat(row.cntgVol()).isEqualTo(1500);
+        assertThat(row.acmlVol()).isEqualTo(250000);
+    }
+
+    @Test
+    @DisplayName("오류 응답은 결과 코드만 반환")
+    void parse_ErrorResponse() throws Exception {
+        // given
+        String json = """
+                {"rt_cd":"1","msg_cd":"EGW00201","msg1":"초당 거래건수를 초과하였습니다."}
+                """;
+
+        // when
+        KisChartPage page = parser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(page.isSuccess()).isFalse();
+        assertThat(page.msgCd()).isEqualTo("EGW00201");
+        assertThat(page.rows()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("부호/비정상 숫자 문자열 변환")
+    void parseLong_Signs() {
+        assertThat(KisChartResponseParser.parseLong("-150".toCharArray(), 0, 4)).isEqualTo(-150);
+        assertThat(KisChartResponseParser.parseLong("+7".toCharArray(), 0, 2)).isEqualTo(7);
+        assertThat(KisChartResponseParser.parseLong("1.5".toCharArray(), 0, 3)).isZero();
+        assertThat(KisChartResponseParser.parseLong("-".toCharArray(), 0, 1)).isZero();
+    }
+}
@@ -0,0 +1,65 @@
+package com.youthfi.finance.domain.stock.infra;
+
+import com.youthfi.finance.domain.stock.infra.KisDailyChartPager.Window;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KisDailyChartPager 단위 테스트")
+class KisDailyChartPagerTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private KisDailyChartPager pager;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.initialize();
+        pager = new KisDailyChartPager(executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("기간을 140일 윈도우로 빈틈없이 분할")
+    void planWindows() {
+        // when
+        List<Window> windows = pager.planWindows(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+
+        // then
+        assertThat(windows).containsExactly(
+                new Window(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 5, 19)),
+                new Window(LocalDate.of(2024, 5, 20), LocalDate.of(2024, 10, 6)),
+                new Window(LocalDate.of(2024, 10, 7), LocalDate.of(2024, 12, 31)));
+        assertThat(pager.planWindows(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("윈도우 결과를 기간으로 자르고 최신순 정렬, 같은 영업일은 한 번만 유지")
+    void fetchRange_MergesWindows() {
+        // when
+        List<KisCandleRow> rows = pager.fetchRange(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 6, 30),
+                (from, to) -> from.getMonthValue() == 1
+                        ? List.of(row(20240519, 100), row(20240102, 90), row(20231229, 80))
+                        : List.of(row(20240701, 130), row(20240628, 120), row(20240519, 110)));
+
+        // then
+        assertThat(rows).extracting(KisCandleRow::date).containsExactly(20240628, 20240519, 20240102);
+        assertThat(rows.get(1).close()).isEqualTo(100);
+    }
+
+    private KisCandleRow row(int date, long close) {
+        return new KisCandleRow(date, 0, close, close, close, close, 0, 0);
+    }
+}
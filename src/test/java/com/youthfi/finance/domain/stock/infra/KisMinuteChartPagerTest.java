@@ -0,0 +1,89 @@
+package com.youthfi.finance.domain.stock.infra;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KisMinuteChartPager 단위 테스트")
+class KisMinuteChartPagerTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private KisMinuteChartPager pager;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.initialize();
+        pager = new KisMinuteChartPager(executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("장 시작부터 장 마감까지 30분 윈도우 계획")
+    void planPages_FullSession() {
+        // when
+        List<String> pages = pager.planPages(null, "153000");
+
+        // then
+        assertThat(pages).hasSize(14);
+        assertThat(pages.get(0)).isEqualTo("092900");
+        assertThat(pages.get(1)).isEqualTo("095900");
+        assertThat(pages.get(pages.size() - 1)).isEqualTo("153000");
+    }
+
+    @Test
+    @DisplayName("증분 조회는 마지막 보유 분 다음부터 계획")
+    void planPages_Since() {
+        // when
+        List<String> pages = pager.planPages("1015", "104512");
+
+        // then
+        assertThat(pages).containsExactly("104500");
+    }
+
+    @Test
+    @DisplayName("장 시작 전에는 조회하지 않음")
+    void planPages_BeforeOpen() {
+        assertThat(pager.planPages(null, "085959")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("윈도우 결과 병합 시 당일/중복/기보유 분 제외 후 시간순 정렬")
+    void fetchSession_MergeAndDeduplicate() {
+        // given: 각 페이지는 기준 시각 포함 이전 30분 + 겹치는 분 1개 + 전일 데이터 1개 반환
+        DateTimeFormatter hhmmss = DateTimeFormatter.ofPattern("HHmmss");
+
+        // when
+        List<KisCandleRow> rows = pager.fetchSession(20250102, "0930", "103000", pageHHmmss -> {
+            LocalTime end = LocalTime.parse(pageHHmmss, hhmmss);
+            List<KisCandleRow> page = new ArrayList<>();
+            for (int i = 0; i <= 30; i++) {
+                int time = Integer.parseInt(end.minusMinutes(i).format(hhmmss));
+                page.add(new KisCandleRow(20250102, time, 1, 1, 1, 1, 1, 1));
+            }
+            page.add(new KisCandleRow(20250101, 93500, 1, 1, 1, 1, 1, 1));
+            return page;
+        });
+
+        // then
+        assertThat(rows).hasSize(60);
+        assertThat(rows.get(0).time()).isEqualTo(93100);
+        assertThat(rows.get(rows.size() - 1).time()).isEqualTo(103000);
+        assertThat(rows).allMatch(row -> row.date() == 20250102);
+    }
+}
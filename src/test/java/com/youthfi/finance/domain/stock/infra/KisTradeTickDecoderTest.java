@@ -0,0 +1,82 @@
+package com.youthfi.finance.domain.stock.infra;
+
+import com.youthfi.finance.domain.stock.domain.event.StockTradeTickEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KisTradeTickDecoder 단위 테스트")
+class KisTradeTickDecoderTest {
+
+    private final KisTradeTickDecoder decoder = new KisTradeTickDecoder();
+
+    @Test
+    @DisplayName("여러 건이 이어진 체결 프레임 디코딩")
+    void decode_MultipleRecords() {
+        // given
+        String frame = "0|H0STCNT0|002|"
+                + record("005930", "093012", "71500", "-500", "-0.69", "71800", "72000", "71400", "15", "123456", "20250102")
+                + "^"
+                + record("005930", "093013", "71600", "-400", "-0.56", "71800", "72000", "71400", "3", "123459", "20250102");
+
+        // when
+        List<StockTradeTickEvent> ticks = decoder.decode(frame);
+
+        // then
+        assertThat(ticks).hasSize(2);
+        StockTradeTickEvent first = ticks.get(0);
+        assertThat(first.stockCode()).isEqualTo("005930");
+        assertThat(first.date()).isEqualTo(20250102);
+        assertThat(first.time()).isEqualTo(93012);
+        assertThat(first.price()).isEqualTo(71500);
+        assertThat(first.change()).isEqualTo(-500);
+        assertThat(first.changeRate()).isEqualTo(-0.69);
+        assertThat(first.high()).isEqualTo(72000);
+        assertThat(first.volume()).isEqualTo(15);
+        assertThat(ticks.get(1).accumulatedVolume()).isEqualTo(123459);
+    }
+
+    @Test
+    @DisplayName("제어 메시지/암호화 프레임/다른 TR은 무시")
+    void decode_IgnoresNonTradeFrames() {
+        assertThat(decoder.decode("{\"header\":{\"tr_id\":\"PINGPONG\"}}")).isEmpty();
+        assertThat(decoder.decode("1|H0STCNT0|001|encrypted")).isEmpty();
+        assertThat(decoder.decode("0|H0STASP0|001|005930^093012")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("필드가 잘린 마지막 건은 버림")
+    void decode_TruncatedRecord() {
+        // given
+        String full = record("005930", "093012", "71500", "-500", "-0.69", "71800", "72000", "71400", "15", "123456", "20250102");
+        String frame = "0|H0STCNT0|002|" + full + "^005930^093013^71600";
+
+        // when
+        List<StockTradeTickEvent> ticks = decoder.decode(frame);
+
+        // then
+        assertThat(ticks).hasSize(1);
+    }
+
+    private static String record(String code, String time, String price, String change, String rate,
+                                 String open, String high, String low, String volume, String accumulated, String date) {
+        String[] fields = new String[KisTradeTickDecoder.FIELD_COUNT];
+        Arrays.fill(fields, "0");
+        fields[0] = code;
+        fields[1] = time;
+        fields[2] = price;
+        fields[4] = change;
+        fields[5] = rate;
+        fields[7] = open;
+        fields[8] = high;
+        fields[9] = low;
+        fields[12] = volume;
+        fields[13] = accumulated;
+        fields[33] = date;
+        return String.join("^", fields);
+    }
+}
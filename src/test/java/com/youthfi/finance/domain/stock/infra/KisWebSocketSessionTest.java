@@ -0,0 +1,282 @@
+package com.youthfi.finance.domain.stock.infra;
+
+import com.youthfi.finance.global.config.properties.KisApiProperties;
+import com.youthfi.finance.global.service.KisWebSocketApprovalService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KisWebSocketSession 재접속 테스트")
+class KisWebSocketSessionTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @Mock
+    private KisWebSocketApprovalService approvalService;
+
+    private StandInServer server;
+    private ScheduledExecutorService scheduler;
+    private KisWebSocketSession session;
+    private final BlockingQueue<String> frames = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new StandInServer();
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        KisApiProperties.KisKey key = new KisApiProperties.KisKey();
+        key.setAppkey("appkey");
+        key.setAppsecret("appsecret");
+        KisApiProperties.WebSocket config = new KisApiProperties.WebSocket();
+        config.setUrl("ws://localhost:" + server.port());
+        config.setReconnectInitialMs(50);
+        config.setReconnectMaxMs(200);
+        when(approvalService.getApprovalKey("appkey", "appsecret")).thenReturn("approval-key");
+
+        session = new KisWebSocketSession(key, config, HttpClient.newHttpClient(), scheduler, approvalService, frames::add);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        session.close();
+        scheduler.shutdownNow();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("연결이 끊기면 재접속 후 보유 종목 전체를 다시 구독")
+    void reconnect_Resubscribes() throws Exception {
+        // given
+        session.subscribe("005930"); // 연결 전 구독은 onOpen에서 전송
+        session.connect();
+        assertThat(server.awaitMessage(0)).contains("\"tr_type\":\"1\"", "\"tr_key\":\"005930\"");
+        session.subscribe("000660");
+        assertThat(server.awaitMessage(0)).contains("\"tr_key\":\"000660\"");
+
+        // when
+        server.dropConnections();
+
+        // then
+        List<String> resubscribed = List.of(server.awaitMessage(1), server.awaitMessage(1));
+        assertThat(resubscribed)
+                .allSatisfy(message -> assertThat(message).contains("\"tr_type\":\"1\"", "\"approval_key\":\"approval-key\""))
+                .anySatisfy(message -> assertThat(message).contains("\"tr_key\":\"005930\""))
+                .anySatisfy(message -> assertThat(message).contains("\"tr_key\":\"000660\""));
+        verify(approvalService, times(2)).getApprovalKey("appkey", "appsecret");
+    }
+
+    @Test
+    @DisplayName("재접속 후에도 데이터 프레임은 핸들러로, PINGPONG은 서버로 되돌려 보냄")
+    void reconnect_ForwardsFramesAndPingPong() throws Exception {
+        // given
+        session.connect();
+        server.awaitConnection(0);
+        server.dropConnections();
+        server.awaitConnection(1);
+
+        // when
+        server.send(1, "0|H0STCNT0|001|005930^093012");
+        server.send(1, "{\"header\":{\"tr_id\":\"PINGPONG\"}}");
+
+        // then
+        assertThat(frames.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo("0|H0STCNT0|001|005930^093012");
+        assertThat(server.awaitMessage(1)).isEqualTo("{\"header\":{\"tr_id\":\"PINGPONG\"}}");
+    }
+
+    /**
+     * 테스트용 최소 웹소켓 서버 (핸드셰이크, 마스킹된 텍스트 프레임 수신, 비마스킹 텍스트 프레임 전송만 지원)
+     * - 연결별로 받은 텍스트 메시지를 순서대로 보관
+     */
+    private static final class StandInServer {
+
+        private static final String ACCEPT_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+
+        private final ServerSocket serverSocket = new ServerSocket(0);
+        private final List<Socket> connections = new CopyOnWriteArrayList<>();
+        private final List<BlockingQueue<String>> messages = new CopyOnWriteArrayList<>();
+        private final BlockingQueue<Integer> accepted = new LinkedBlockingQueue<>();
+
+        StandInServer() throws IOException {
+            Thread acceptor = new Thread(this::acceptLoop, "ws-stand-in");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        int port() {
+            return serverSocket.getLocalPort();
+        }
+
+        void awaitConnection(int index) throws InterruptedException {
+            while (connections.size() <= index) {
+                Integer next = accepted.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                assertThat(next).as("connection %d", index).isNotNull();
+            }
+        }
+
+        String awaitMessage(int connection) throws InterruptedException {
+            awaitConnection(connection);
+            String message = messages.get(connection).poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertThat(message).as("message on connection %d", connection).isNotNull();
+            return message;
+        }
+
+        /**
+         * 닫기 프레임 없이 TCP 연결만 끊음 (네트워크 단절 재현)
+         */
+        void dropConnections() throws IOException {
+            for (Socket socket : connections) {
+                socket.close();
+            }
+        }
+
+        synchronized void send(int connection, String text) throws IOException {
+            byte[] payload = text.getBytes(StandardCharsets.UTF_8);
+            OutputStream out = connections.get(connection).getOutputStream();
+            out.write(0x81);
+            if (payload.length < 126) {
+                out.write(payload.length);
+            } else {
+                out.write(126);
+                out.write(payload.length >>> 8);
+                out.write(payload.length & 0xFF);
+            }
+            out.write(payload);
+            out.flush();
+        }
+
+        void close() throws IOException {
+            dropConnections();
+            serverSocket.close();
+        }
+
+        private void acceptLoop() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    Thread reader = new Thread(() -> serve(socket), "ws-stand-in-conn");
+                    reader.setDaemon(true);
+                    reader.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void serve(Socket socket) {
+            try {
+                DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                handshake(in, socket.getOutputStream());
+                BlockingQueue<String> received = new LinkedBlockingQueue<>();
+                int index;
+                synchronized (this) {
+                    messages.add(received);
+                    connections.add(socket);
+                    index = connections.size() - 1;
+                }
+                accepted.add(index);
+                while (true) {
+                    int opcode = in.readUnsignedByte() & 0x0F;
+                    String text = new String(readPayload(in), StandardCharsets.UTF_8);
+                    if (opcode == 0x8) {
+                        socket.close();
+                        return;
+                    }
+                    if (opcode == 0x1) {
+                        received.add(text);
+                    }
+                }
+            } catch (IOException e) {
+                // 연결 종료
+            }
+        }
+
+        private void handshake(DataInputStream in, OutputStream out) throws IOException {
+            String webSocketKey = null;
+            for (String line = readLine(in); !line.isEmpty(); line = readLine(in)) {
+                int colon = line.indexOf(':');
+                if (colon > 0 && line.substring(0, colon).trim().equalsIgnoreCase("Sec-WebSocket-Key")) {
+                    webSocketKey = line.substring(colon + 1).trim();
+                }
+            }
+            String response = "HTTP/1.1 101 Switching Protocols\r\n"
+                    + "Upgrade: websocket\r\n"
+                    + "Connection: Upgrade\r\n"
+                    + "Sec-WebSocket-Accept: " + acceptKey(webSocketKey) + "\r\n\r\n";
+            out.write(response.getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+        }
+
+        private static byte[] readPayload(DataInputStream in) throws IOException {
+            int second = in.readUnsignedByte();
+            long length = second & 0x7F;
+            if (length == 126) {
+                length = in.readUnsignedShort();
+            } else if (length == 127) {
+                length = in.readLong();
+            }
+            byte[] mask = new byte[4];
+            boolean masked = (second & 0x80) != 0;
+            if (masked) {
+                in.readFully(mask);
+            }
+            byte[] payload = new byte[(int) length];
+            in.readFully(payload);
+            for (int i = 0; masked && i < payload.length; i++) {
+                payload[i] ^= mask[i % 4];
+            }
+            return payload;
+        }
+
+        private static String readLine(DataInputStream in) throws IOException {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != '\n') {
+                if (b < 0) {
+                    throw new IOException("handshake closed");
+                }
+                if (b != '\r') {
+                    line.write(b);
+                }
+            }
+            return line.toString(StandardCharsets.US_ASCII);
+        }
+
+        private static String acceptKey(String webSocketKey) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-1")
+                        .digest((webSocketKey + ACCEPT_GUID).getBytes(StandardCharsets.US_ASCII));
+                return Base64.getEncoder().encodeToString(digest);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
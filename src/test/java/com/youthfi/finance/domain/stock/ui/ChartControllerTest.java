@@ -0,0 +1,180 @@
+package com.youthfi.finance.domain.stock.ui;
+
+import com.youthfi.finance.domain.stock.application.dto.response.CandleDataResponse;
+import com.youthfi.finance.domain.stock.application.dto.response.ChartDataResponse;
+import com.youthfi.finance.domain.stock.domain.service.CandleRollupService;
+import com.youthfi.finance.domain.stock.domain.service.ChartCacheLoader;
+import com.youthfi.finance.domain.stock.domain.service.ChartCacheMetrics;
+import com.youthfi.finance.domain.stock.domain.service.ChartCacheService;
+import com.youthfi.finance.domain.stock.domain.service.ChartPayloadCache;
+import com.youthfi.finance.domain.stock.domain.service.ChartService;
+import com.youthfi.finance.domain.stock.domain.service.IndexChartService;
+import com.youthfi.finance.domain.stock.domain.service.MinuteBarAggregator;
+import com.youthfi.finance.domain.stock.domain.service.StockCandleService;
+import com.youthfi.finance.domain.stock.infra.KisChartApiClient;
+import com.youthfi.finance.global.common.BaseResponse;
+import com.youthfi.finance.global.service.MarketCalendar;
+import com.youthfi.finance.global.service.RedisLeaseService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChartController 분봉 조회 테스트")
+class ChartControllerTest {
+
+    private static final String STOCK_CODE = "005930";
+
+    @Mock
+    private ChartCacheService chartCacheService;
+    @Mock
+    private KisChartApiClient kisChartApiClient;
+    @Mock
+    private RedisLeaseService redisLeaseService;
+    @Mock
+    private MinuteBarAggregator minuteBarAggregator;
+    @Mock
+    private StockCandleService stockCandleService;
+    @Mock
+    private CandleRollupService candleRollupService;
+    @Mock
+    private ChartCacheMetrics chartCacheMetrics;
+    @Mock
+    private ChartCacheLoader chartCacheLoader;
+    @Mock
+    private IndexChartService indexChartService;
+    @Mock
+    private ChartPayloadCache chartPayloadCache;
+
+    private ThreadPoolTaskExecutor chartBatchExecutor;
+    private ChartController chartController;
+
+    @BeforeEach
+    void setUp() {
+        chartBatchExecutor = new ThreadPoolTaskExecutor();
+        chartBatchExecutor.setCorePoolSize(1);
+        chartBatchExecutor.setMaxPoolSize(1);
+        chartBatchExecutor.setThreadNamePrefix("chart-batch-test-");
+        chartBatchExecutor.initialize();
+        // 2025-10-02(목) 10:00 장중
+        Clock clock = Clock.fixed(LocalDateTime.of(2025, 10, 2, 10, 0).atZone(MarketCalendar.KST).toInstant(), MarketCalendar.KST);
+        MarketCalendar marketCalendar = new MarketCalendar(new ByteArrayResource(new byte[0]), clock);
+        ChartService chartService = new ChartService(chartCacheService, kisChartApiClient, redisLeaseService, minuteBarAggregator,
+                stockCandleService, candleRollupService, marketCalendar, chartCacheMetrics, chartCacheLoader, chartBatchExecutor);
+        chartController = new ChartController(chartService, kisChartApiClient, chartCacheService, indexChartService, chartPayloadCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        chartBatchExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 응답 ETag와 같으면 본문 없이 304")
+    void getMinuteChart_NotModified() {
+        // given
+        givenRedisMinuteChart();
+        String etag = chartController.getMinuteChart(STOCK_CODE, 1, null, null, null).getHeaders().getETag();
+
+        // when
+        ResponseEntity<BaseResponse<ChartDataResponse>> weak = chartController.getMinuteChart(STOCK_CODE, 1, null, null, etag);
+        ResponseEntity<BaseResponse<ChartDataResponse>> strong = chartController.getMinuteChart(STOCK_CODE, 1, null, null, etag.substring(2));
+        ResponseEntity<BaseResponse<ChartDataResponse>> listed = chartController.getMinuteChart(STOCK_CODE, 1, null, null, "W/\"0-0\", " + etag);
+
+        // then
+        assertThat(etag).startsWith("W/\"4-");
+        for (ResponseEntity<BaseResponse<ChartDataResponse>> response : List.of(weak, strong, listed)) {
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+            assertThat(response.getBody()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("새 봉이 추가되어 ETag가 바뀌면 200과 새 ETag")
+    void getMinuteChart_ModifiedAfterNewCandle() {
+        // given
+        givenRedisMinuteChart();
+        String etag = chartController.getMinuteChart(STOCK_CODE, 1, null, null, null).getHeaders().getETag();
+        when(chartCacheService.getMinuteChart(STOCK_CODE)).thenReturn(minuteChart("2025-10-02T10:00:10",
+                "09:56", "09:57", "09:58", "09:59", "10:00"));
+
+        // when
+        ResponseEntity<BaseResponse<ChartDataResponse>> response = chartController.getMinuteChart(STOCK_CODE, 1, null, null, etag);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(etag).startsWith("W/\"5-");
+        assertThat(candleTimes(response)).endsWith("10:00");
+    }
+
+    @Test
+    @DisplayName("since: Redis 분봉 캐시에서 커서 캔들 이후만 반환")
+    void getMinuteChart_SinceFromRedis() {
+        // given
+        givenRedisMinuteChart();
+
+        // when
+        ResponseEntity<BaseResponse<ChartDataResponse>> byTime = chartController.getMinuteChart(STOCK_CODE, 1, null, "09:58", null);
+        ResponseEntity<BaseResponse<ChartDataResponse>> byDateTime = chartController.getMinuteChart(STOCK_CODE, 1, null, "2025-10-02T09:59", null);
+
+        // then
+        assertThat(candleTimes(byTime)).containsExactly("09:58", "09:59");
+        assertThat(candleTimes(byDateTime)).containsExactly("09:59");
+        verify(minuteBarAggregator, never()).getMinuteChart(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("since: 실시간 집계 중이면 집계 결과에서 커서 캔들 이후만 반환 (Redis 조회 없음)")
+    void getMinuteChart_SinceFromAggregator() {
+        // given
+        when(minuteBarAggregator.isComplete(STOCK_CODE)).thenReturn(true);
+        when(minuteBarAggregator.getMinuteChart(STOCK_CODE, 5)).thenReturn(new ChartDataResponse(STOCK_CODE, "5min", "today",
+                List.of(minute("09:45"), minute("09:50"), minute("09:55")), "2025-10-02T09:59:50"));
+
+        // when
+        ResponseEntity<BaseResponse<ChartDataResponse>> response = chartController.getMinuteChart(STOCK_CODE, 5, null, "09:50", null);
+
+        // then
+        assertThat(candleTimes(response)).containsExactly("09:50", "09:55");
+        assertThat(response.getBody().getResult().period()).isEqualTo("5min");
+        verifyNoInteractions(chartCacheService, kisChartApiClient);
+    }
+
+    /**
+     * Redis 분봉 캐시 09:56~09:59 (다른 노드가 증분 갱신 중이라 보유 스냅샷 그대로 반환)
+     */
+    private void givenRedisMinuteChart() {
+        when(chartCacheService.getMinuteChart(STOCK_CODE)).thenReturn(minuteChart("2025-10-02T09:59:30",
+                "09:56", "09:57", "09:58", "09:59"));
+    }
+
+    private static ChartDataResponse minuteChart(String lastUpdated, String... times) {
+        return new ChartDataResponse(STOCK_CODE, "1min", "today",
+                List.of(times).stream().map(ChartControllerTest::minute).toList(), lastUpdated);
+    }
+
+    private static List<String> candleTimes(ResponseEntity<BaseResponse<ChartDataResponse>> response) {
+        return response.getBody().getResult().candles().stream().map(CandleDataResponse::time).toList();
+    }
+
+    private static CandleDataResponse minute(String time) {
+        return new CandleDataResponse("2025-10-02", time, 100L, 110L, 90L, 105L, 1000L);
+    }
+}
@@ -0,0 +1,79 @@
+package com.youthfi.finance.global.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight 단위 테스트")
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("같은 키 동시 요청은 한 번만 실행하고 결과를 공유")
+    void execute_CoalescesConcurrentCalls() throws Exception {
+        // given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.execute("005930", () -> {
+            loads.incrementAndGet();
+            loaderStarted.countDown();
+            await(release);
+            return "chart";
+        })));
+        loaderStarted.await(1, TimeUnit.SECONDS);
+        for (int i = 0; i < 7; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("005930", () -> {
+                loads.incrementAndGet();
+                return "other";
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("chart");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("실패한 작업 이후 같은 키 요청은 다시 실행")
+    void execute_RetriesAfterFailure() {
+        // given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+        // when & then
+        assertThatThrownBy(() -> singleFlight.execute("005930", () -> {
+            throw new IllegalStateException("upstream");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.execute("005930", () -> "chart")).isEqualTo("chart");
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
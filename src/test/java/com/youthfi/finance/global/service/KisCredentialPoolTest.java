@@ -0,0 +1,131 @@
+package com.youthfi.finance.global.service;
+
+import com.youthfi.finance.global.config.properties.KisApiProperties;
+import com.youthfi.finance.global.exception.StockException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KisCredentialPool 호출 한도 처리 테스트")
+class KisCredentialPoolTest {
+
+    @Mock
+    private KisRateLimiter kisRateLimiter;
+
+    private KisApiProperties kisApiProperties;
+
+    @BeforeEach
+    void setUp() {
+        kisApiProperties = new KisApiProperties();
+        kisApiProperties.setKeys(List.of(key("appkey-1")));
+        kisApiProperties.getRateLimit().setPermitsPerSecond(1);
+        kisApiProperties.getRateLimit().setMaxWaitMs(500);
+    }
+
+    @Test
+    @DisplayName("클러스터 한도가 허가하면 키 반환")
+    void acquire_Granted() {
+        // given
+        when(kisRateLimiter.tryAcquire("appkey-1")).thenReturn(RateLimitDecision.granted());
+        KisCredentialPool pool = new KisCredentialPool(kisApiProperties, kisRateLimiter);
+
+        // when
+        KisApiProperties.KisKey acquired = pool.acquire();
+
+        // then
+        assertThat(acquired.getAppkey()).isEqualTo("appkey-1");
+        verify(kisRateLimiter).tryAcquire("appkey-1");
+    }
+
+    @Test
+    @DisplayName("대기 판정을 받으면 로컬 토큰을 돌려놓고 그 시간만큼 기다린 뒤 재시도")
+    void acquire_WaitThenRetry() {
+        // given: 로컬 버킷 용량 1 → 토큰을 돌려놓지 않으면 재시도에서 1초 대기가 필요해 maxWait 초과
+        when(kisRateLimiter.tryAcquire("appkey-1"))
+                .thenReturn(RateLimitDecision.waitFor(30))
+                .thenReturn(RateLimitDecision.granted());
+        KisCredentialPool pool = new KisCredentialPool(kisApiProperties, kisRateLimiter);
+        long startNanos = System.nanoTime();
+
+        // when
+        KisApiProperties.KisKey acquired = pool.acquire();
+
+        // then
+        assertThat(acquired.getAppkey()).isEqualTo("appkey-1");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)).isGreaterThanOrEqualTo(30L);
+        verify(kisRateLimiter, times(2)).tryAcquire("appkey-1");
+    }
+
+    @Test
+    @DisplayName("한 키가 대기 판정이면 다음 키로 넘어감")
+    void acquire_WaitFallsThroughToNextKey() {
+        // given
+        kisApiProperties.setKeys(List.of(key("appkey-1"), key("appkey-2")));
+        when(kisRateLimiter.tryAcquire("appkey-1")).thenReturn(RateLimitDecision.waitFor(1000));
+        when(kisRateLimiter.tryAcquire("appkey-2")).thenReturn(RateLimitDecision.granted());
+        KisCredentialPool pool = new KisCredentialPool(kisApiProperties, kisRateLimiter);
+
+        // when
+        KisApiProperties.KisKey acquired = pool.acquire();
+
+        // then
+        assertThat(acquired.getAppkey()).isEqualTo("appkey-2");
+    }
+
+    @Test
+    @DisplayName("대기 판정이 최대 대기시간을 넘으면 한도 초과 예외")
+    void acquire_WaitBeyondMaxWait() {
+        // given
+        when(kisRateLimiter.tryAcquire("appkey-1")).thenReturn(RateLimitDecision.waitFor(1000));
+        KisCredentialPool pool = new KisCredentialPool(kisApiProperties, kisRateLimiter);
+
+        // when & then
+        assertThatThrownBy(pool::acquire).isInstanceOf(StockException.class);
+        verify(kisRateLimiter).tryAcquire("appkey-1");
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에도 로컬 토큰 버킷 한도는 유지")
+    @SuppressWarnings("unchecked")
+    void acquire_RedisFailureFallsBackToLocalLimit() {
+        // given
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+        kisApiProperties.getRateLimit().setPermitsPerSecond(2);
+        kisApiProperties.getRateLimit().setMaxWaitMs(100);
+        KisCredentialPool pool = new KisCredentialPool(kisApiProperties, new KisRateLimiter(redisTemplate, kisApiProperties));
+
+        // when: 로컬 버스트 2건은 통과
+        pool.acquire();
+        pool.acquire();
+
+        // then: 세 번째는 로컬 충전(500ms)이 maxWait를 넘어 거절
+        assertThatThrownBy(pool::acquire).isInstanceOf(StockException.class);
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString());
+    }
+
+    private static KisApiProperties.KisKey key(String appkey) {
+        KisApiProperties.KisKey key = new KisApiProperties.KisKey();
+        key.setAppkey(appkey);
+        key.setAppsecret("secret");
+        return key;
+    }
+}
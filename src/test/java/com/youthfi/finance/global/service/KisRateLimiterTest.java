@@ -0,0 +1,135 @@
+package com.youthfi.finance.global.service;
+
+import com.youthfi.finance.global.config.RedisConstants;
+import com.youthfi.finance.global.config.properties.KisApiProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KisRateLimiter 단위 테스트")
+class KisRateLimiterTest {
+
+    private static final List<String> KEYS = List.of(RedisConstants.buildKisRateLimitKey("appkey"));
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private KisApiProperties kisApiProperties;
+    private KisRateLimiter kisRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        kisApiProperties = new KisApiProperties();
+        kisApiProperties.getRateLimit().setPermitsPerSecond(18);
+        kisApiProperties.getRateLimit().setWindowMs(1000);
+        kisRateLimiter = new KisRateLimiter(redisTemplate, kisApiProperties);
+    }
+
+    @Test
+    @DisplayName("스크립트가 0을 반환하면 허가")
+    void tryAcquire_Granted() {
+        // given
+        givenScriptReturns(0L);
+
+        // when
+        RateLimitDecision decision = kisRateLimiter.tryAcquire("appkey");
+
+        // then
+        assertThat(decision.acquired()).isTrue();
+        assertThat(decision.waitMillis()).isZero();
+        verify(redisTemplate).execute(anyScript(), eq(KEYS), eq("1000"), eq("18"), anyString());
+    }
+
+    @Test
+    @DisplayName("스크립트가 양수를 반환하면 그 시간만큼 대기하라는 판정")
+    void tryAcquire_WaitReturned() {
+        // given
+        givenScriptReturns(250L);
+
+        // when
+        RateLimitDecision decision = kisRateLimiter.tryAcquire("appkey");
+
+        // then
+        assertThat(decision.acquired()).isFalse();
+        assertThat(decision.waitMillis()).isEqualTo(250L);
+    }
+
+    @Test
+    @DisplayName("스크립트 응답이 없으면 허가")
+    void tryAcquire_NullReply() {
+        // given
+        givenScriptReturns(null);
+
+        // when & then
+        assertThat(kisRateLimiter.tryAcquire("appkey").acquired()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 허가하고 로컬 한도에 맡김 (fail-open)")
+    void tryAcquire_RedisFailure() {
+        // given
+        when(redisTemplate.execute(anyScript(), anyList(), anyString(), anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        RateLimitDecision decision = kisRateLimiter.tryAcquire("appkey");
+
+        // then
+        assertThat(decision.acquired()).isTrue();
+    }
+
+    @Test
+    @DisplayName("클러스터 한도가 꺼져 있으면 Redis를 호출하지 않고 허가")
+    void tryAcquire_ClusterDisabled() {
+        // given
+        kisApiProperties.getRateLimit().setClusterEnabled(false);
+
+        // when
+        RateLimitDecision decision = kisRateLimiter.tryAcquire("appkey");
+
+        // then
+        assertThat(decision.acquired()).isTrue();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("KIS 한도 초과 응답은 윈도우를 채우는 스크립트로 반영, Redis 장애는 무시")
+    void markExhausted() {
+        // given
+        when(redisTemplate.execute(anyScript(), anyList(), anyString(), anyString(), anyString()))
+                .thenReturn(1000L)
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        kisRateLimiter.markExhausted("appkey");
+        kisRateLimiter.markExhausted("appkey");
+        kisRateLimiter.markExhausted(null);
+
+        // then
+        verify(redisTemplate, times(2)).execute(anyScript(), eq(KEYS), eq("1000"), eq("18"), anyString());
+    }
+
+    private void givenScriptReturns(Long reply) {
+        when(redisTemplate.execute(anyScript(), anyList(), anyString(), anyString(), anyString())).thenReturn(reply);
+    }
+
+    private static RedisScript<Long> anyScript() {
+        return any();
+    }
+}
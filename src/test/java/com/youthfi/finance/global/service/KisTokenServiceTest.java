@@ -0,0 +1,225 @@
+package com.youthfi.finance.global.service;
+
+import com.youthfi.finance.global.config.RedisConstants;
+import com.youthfi.finance.global.config.properties.KisApiProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KisTokenService 단위 테스트")
+class KisTokenServiceTest {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter KIS_EXPIRY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisLeaseService redisLeaseService;
+
+    private KisApiProperties kisApiProperties;
+    private KisTokenService kisTokenService;
+    private final Map<String, AtomicInteger> issued = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        kisApiProperties = new KisApiProperties();
+        kisApiProperties.setKeys(List.of(key("appkey-1"), key("appkey-2")));
+        kisTokenService = new KisTokenService(kisApiProperties, restTemplate, redisTemplate, redisLeaseService);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("같은 appkey 동시 요청은 한 번만 발급하고, appkey마다 따로 발급")
+    void getValidToken_PerKeyRefresh() throws Exception {
+        // given
+        givenNoSharedToken();
+        givenLeaseAcquired();
+        givenIssuer((appkey, n) -> now().plusHours(24), 100);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(callers.submit(awaiting(start, () -> kisTokenService.getValidToken("appkey-1", "secret"))));
+        }
+        start.countDown();
+        List<String> tokens = new ArrayList<>();
+        for (Future<String> result : results) {
+            tokens.add(result.get(5, TimeUnit.SECONDS));
+        }
+        callers.shutdownNow();
+        String other = kisTokenService.getValidToken("appkey-2", "secret");
+
+        // then
+        assertThat(tokens).containsOnly("appkey-1-1");
+        assertThat(other).isEqualTo("appkey-2-1");
+        assertThat(kisTokenService.getValidToken("appkey-1", "secret")).isEqualTo("appkey-1-1");
+        verify(restTemplate, times(2)).postForEntity(anyString(), any(), eq(Map.class));
+        verify(valueOperations).set(eq(RedisConstants.buildKisTokenKey("appkey-1")), eq("appkey-1-1"), any(Duration.class));
+        verify(redisLeaseService).release("kis:token:appkey-1", "lease");
+    }
+
+    @Test
+    @DisplayName("Redis에 다른 노드가 발급한 유효 토큰이 있으면 재발급하지 않음")
+    void getValidToken_UsesRedisSharedToken() {
+        // given
+        when(valueOperations.multiGet(anyList())).thenReturn(List.of("shared-token", now().plusHours(20).toString()));
+
+        // when
+        String token = kisTokenService.getValidToken("appkey-1", "secret");
+
+        // then
+        assertThat(token).isEqualTo("shared-token");
+        assertThat(kisTokenService.getValidToken("appkey-1", "secret")).isEqualTo("shared-token");
+        verify(valueOperations, times(1)).multiGet(anyList());
+        verifyNoInteractions(restTemplate, redisLeaseService);
+    }
+
+    @Test
+    @DisplayName("발급 리스를 다른 노드가 잡고 있으면 그 노드가 Redis에 올린 토큰을 기다려 사용")
+    void getValidToken_WaitsForTokenIssuedByOtherNode() {
+        // given
+        when(valueOperations.multiGet(anyList()))
+                .thenReturn(Arrays.asList(null, null))
+                .thenReturn(List.of("other-node-token", now().plusHours(24).toString()));
+        when(redisLeaseService.tryAcquire(eq("kis:token:appkey-1"), any(Duration.class))).thenReturn(null);
+
+        // when
+        String token = kisTokenService.getValidToken("appkey-1", "secret");
+
+        // then
+        assertThat(token).isEqualTo("other-node-token");
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    @DisplayName("백그라운드 갱신은 만료 1시간 이내 토큰만 재발급")
+    void refreshExpiringTokens_RefreshesOnlyExpiring() {
+        // given: appkey-1은 30분 뒤 만료, appkey-2는 20시간 뒤 만료
+        givenNoSharedToken();
+        givenLeaseAcquired();
+        givenIssuer((appkey, n) -> appkey.equals("appkey-1") && n == 1 ? now().plusMinutes(30) : now().plusHours(20), 0);
+        kisTokenService.getValidToken("appkey-1", "secret");
+        kisTokenService.getValidToken("appkey-2", "secret");
+
+        // when
+        kisTokenService.refreshExpiringTokens();
+
+        // then
+        assertThat(kisTokenService.getValidToken("appkey-1", "secret")).isEqualTo("appkey-1-2");
+        assertThat(kisTokenService.getValidToken("appkey-2", "secret")).isEqualTo("appkey-2-1");
+        assertThat(kisTokenService.isTokenExpiringSoon("appkey-1")).isFalse();
+        verify(restTemplate, times(3)).postForEntity(anyString(), any(), eq(Map.class));
+    }
+
+    @Test
+    @DisplayName("백그라운드 갱신 실패 시 기존 토큰을 유지하고 다음 appkey는 계속 갱신")
+    void refreshExpiringTokens_FailureKeepsCurrentToken() {
+        // given
+        givenNoSharedToken();
+        givenLeaseAcquired();
+        givenIssuer((appkey, n) -> {
+            if (appkey.equals("appkey-1") && n == 2) {
+                throw new ResourceAccessException("timeout");
+            }
+            return appkey.equals("appkey-1") ? now().plusMinutes(30) : now().plusHours(24);
+        }, 0);
+        kisTokenService.getValidToken("appkey-1", "secret");
+
+        // when
+        kisTokenService.refreshExpiringTokens();
+
+        // then
+        assertThat(kisTokenService.getValidToken("appkey-1", "secret")).isEqualTo("appkey-1-1");
+        assertThat(kisTokenService.getValidToken("appkey-2", "secret")).isEqualTo("appkey-2-1");
+    }
+
+    private void givenNoSharedToken() {
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(null, null));
+    }
+
+    private void givenLeaseAcquired() {
+        when(redisLeaseService.tryAcquire(anyString(), any(Duration.class))).thenReturn("lease");
+    }
+
+    /**
+     * appkey별 n번째 발급 토큰을 "appkey-n"으로 반환
+     */
+    @SuppressWarnings("unchecked")
+    private void givenIssuer(BiFunction<String, Integer, LocalDateTime> expiryOf, long delayMillis) {
+        when(restTemplate.postForEntity(anyString(), any(), eq(Map.class))).thenAnswer(invocation -> {
+            HttpEntity<Map<String, String>> request = invocation.getArgument(1);
+            String appkey = request.getBody().get("appkey");
+            int n = issued.computeIfAbsent(appkey, k -> new AtomicInteger()).incrementAndGet();
+            LocalDateTime expiredAt = expiryOf.apply(appkey, n);
+            Thread.sleep(delayMillis);
+            Map<String, Object> body = Map.of(
+                    "access_token", appkey + "-" + n,
+                    "access_token_token_expired", expiredAt.format(KIS_EXPIRY_FORMAT));
+            return new ResponseEntity<Map>(body, HttpStatus.OK);
+        });
+    }
+
+    private static <T> Callable<T> awaiting(CountDownLatch start, Callable<T> task) {
+        return () -> {
+            start.await();
+            return task.call();
+        };
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(KST).withNano(0);
+    }
+
+    private static KisApiProperties.KisKey key(String appkey) {
+        KisApiProperties.KisKey key = new KisApiProperties.KisKey();
+        key.setAppkey(appkey);
+        key.setAppsecret("secret");
+        return key;
+    }
+}
@@ -0,0 +1,94 @@
+package com.youthfi.finance.global.service;
+
+import com.youthfi.finance.global.service.MarketCalendar.SessionState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MarketCalendar 단위 테스트")
+class MarketCalendarTest {
+
+    private static final String HOLIDAYS = """
+            # 테스트 휴장일
+            2025-10-03  # 개천절
+            2025-10-06
+            2025-10-07
+            2025-10-08
+            2025-10-09
+            2025-11-13 10:00-16:30  # 수능
+            """;
+
+    private MarketCalendar calendar;
+
+    @BeforeEach
+    void setUp() {
+        calendar = new MarketCalendar(
+                new ByteArrayResource(HOLIDAYS.getBytes(StandardCharsets.UTF_8)),
+                Clock.fixed(LocalDateTime.of(2025, 10, 2, 10, 0).atZone(MarketCalendar.KST).toInstant(), MarketCalendar.KST));
+    }
+
+    @Test
+    @DisplayName("주말과 휴장일 파일의 날짜는 휴장")
+    void isTradingDay() {
+        assertThat(calendar.isTradingDay(LocalDate.of(2025, 10, 2))).isTrue();
+        assertThat(calendar.isTradingDay(LocalDate.of(2025, 10, 3))).isFalse();
+        assertThat(calendar.isTradingDay(LocalDate.of(2025, 10, 4))).isFalse(); // 토요일
+    }
+
+    @Test
+    @DisplayName("시각별 장 상태")
+    void state() {
+        assertThat(calendar.state(LocalDateTime.of(2025, 10, 2, 8, 59))).isEqualTo(SessionState.PRE_OPEN);
+        assertThat(calendar.state(LocalDateTime.of(2025, 10, 2, 9, 0))).isEqualTo(SessionState.OPEN);
+        assertThat(calendar.state(LocalDateTime.of(2025, 10, 2, 15, 30))).isEqualTo(SessionState.CLOSED);
+        assertThat(calendar.state(LocalDateTime.of(2025, 10, 6, 10, 0))).isEqualTo(SessionState.HOLIDAY);
+        assertThat(calendar.state()).isEqualTo(SessionState.OPEN);
+    }
+
+    @Test
+    @DisplayName("연휴 직전 마감 후 다음 개장은 연휴가 끝난 첫 거래일")
+    void nextOpen_SkipsHolidays() {
+        // when
+        LocalDateTime nextOpen = calendar.nextOpen(LocalDateTime.of(2025, 10, 2, 16, 0));
+
+        // then
+        assertThat(nextOpen).isEqualTo(LocalDateTime.of(2025, 10, 10, 9, 0));
+        assertThat(calendar.nextClose(LocalDateTime.of(2025, 10, 2, 10, 0))).isEqualTo(LocalDateTime.of(2025, 10, 2, 15, 30));
+    }
+
+    @Test
+    @DisplayName("개장 시간 변경일은 해당 시간으로 판단")
+    void specialSession() {
+        // given
+        LocalDate csatDay = LocalDate.of(2025, 11, 13);
+
+        // then
+        assertThat(calendar.openTime(csatDay)).isEqualTo(LocalTime.of(10, 0));
+        assertThat(calendar.state(csatDay.atTime(9, 30))).isEqualTo(SessionState.PRE_OPEN);
+        assertThat(calendar.state(csatDay.atTime(16, 0))).isEqualTo(SessionState.OPEN);
+        assertThat(calendar.nextOpen(LocalDateTime.of(2025, 11, 12, 16, 0))).isEqualTo(csatDay.atTime(10, 0));
+    }
+
+    @Test
+    @DisplayName("마감 후 확정 여유가 지나야 당일을 마지막 마감 거래일로 판단")
+    void lastClosedTradingDay() {
+        Duration settle = Duration.ofMinutes(30);
+
+        assertThat(calendar.lastClosedTradingDay(LocalDateTime.of(2025, 10, 2, 15, 50), settle))
+                .isEqualTo(LocalDate.of(2025, 10, 1));
+        assertThat(calendar.lastClosedTradingDay(LocalDateTime.of(2025, 10, 2, 16, 0), settle))
+                .isEqualTo(LocalDate.of(2025, 10, 2));
+        assertThat(calendar.lastClosedTradingDay(LocalDateTime.of(2025, 10, 8, 12, 0), settle))
+                .isEqualTo(LocalDate.of(2025, 10, 2));
+    }
+}
@@ -0,0 +1,69 @@
+package com.youthfi.finance.global.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TokenBucket 단위 테스트")
+class TokenBucketTest {
+
+    @Test
+    @DisplayName("용량만큼 즉시 획득 후 대기시간 반환")
+    void tryAcquire_BurstThenWait() {
+        // given
+        AtomicLong clock = new AtomicLong(0);
+        TokenBucket bucket = new TokenBucket(5, clock::get);
+
+        // when & then
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire()).isZero();
+        }
+        long waitNanos = bucket.tryAcquire();
+        assertThat(waitNanos).isPositive();
+        assertThat(waitNanos).isLessThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    @Test
+    @DisplayName("시간 경과에 따라 토큰 충전")
+    void tryAcquire_RefillOverTime() {
+        // given
+        AtomicLong clock = new AtomicLong(0);
+        TokenBucket bucket = new TokenBucket(10, clock::get);
+        for (int i = 0; i < 10; i++) {
+            bucket.tryAcquire();
+        }
+
+        // when
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+
+        // then
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isPositive();
+    }
+
+    @Test
+    @DisplayName("충전량은 용량을 넘지 않음")
+    void tryAcquire_RefillCappedAtCapacity() {
+        // given
+        AtomicLong clock = new AtomicLong(0);
+        TokenBucket bucket = new TokenBucket(3, clock::get);
+
+        // when
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        // then
+        assertThat(bucket.availableTokens()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("초당 허용 건수가 0 이하이면 예외")
+    void create_InvalidPermits() {
+        assertThatThrownBy(() -> new TokenBucket(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}